@@ -0,0 +1,48 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.enums.PrecisionLevel;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.precision.AdaptivePrecisionQuadraticSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of certification on the fast path: the adaptive solver against the plain double
+ * arithmetic of {@link QuadraticMath#solve}, on well-conditioned inputs that never escalate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AdaptivePrecisionBenchmark {
+
+    @Param({"POSITIVE", "MIXED"})
+    public DiscriminantCase discriminantCase;
+
+    private final AdaptivePrecisionQuadraticSolver solver = new AdaptivePrecisionQuadraticSolver();
+    private final RootResult result = new RootResult();
+    private EquationInputs inputs;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        inputs = EquationInputs.generate(discriminantCase, 1024);
+    }
+
+    @Benchmark
+    public PrecisionLevel adaptive() {
+        int i = index++ & inputs.mask();
+        return solver.solveCertified(inputs.a[i], inputs.b[i], inputs.c[i], result);
+    }
+
+    @Benchmark
+    public RootResult plainDouble() {
+        int i = index++ & inputs.mask();
+        QuadraticMath.solve(inputs.a[i], inputs.b[i], inputs.c[i], result);
+        return result;
+    }
+}
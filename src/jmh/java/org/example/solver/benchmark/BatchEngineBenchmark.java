@@ -0,0 +1,51 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.service.batch.QuadraticBatchEngine;
+import org.example.solver.service.batch.ScalarQuadraticBatchEngine;
+import org.example.solver.service.batch.VectorQuadraticBatchEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar versus vectorized batch engine; scores are per equation.
+ * The forks are started with the Vector API module so both engines can be measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+@OperationsPerInvocation(BatchEngineBenchmark.SIZE)
+public class BatchEngineBenchmark {
+
+    static final int SIZE = 4096;
+
+    @Param({"SCALAR", "VECTOR"})
+    public String engineName;
+
+    @Param({"POSITIVE", "ZERO", "NEGATIVE", "MIXED"})
+    public DiscriminantCase discriminantCase;
+
+    private QuadraticBatchEngine engine;
+    private EquationInputs inputs;
+    private double[] root1;
+    private double[] root2;
+    private int[] rootCount;
+
+    @Setup
+    public void setUp() {
+        engine = "VECTOR".equals(engineName) ? new VectorQuadraticBatchEngine() : new ScalarQuadraticBatchEngine();
+        inputs = EquationInputs.generate(discriminantCase, SIZE);
+        root1 = new double[SIZE];
+        root2 = new double[SIZE];
+        rootCount = new int[SIZE];
+    }
+
+    @Benchmark
+    public int[] solve() {
+        engine.solve(inputs.a, inputs.b, inputs.c, 0, SIZE, root1, root2, rootCount);
+        return rootCount;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.service.QuadraticEquationSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link QuadraticEquationSolver#solveBatch}; scores are per equation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@OperationsPerInvocation(BatchSolverBenchmark.SIZE)
+public class BatchSolverBenchmark {
+
+    static final int SIZE = 4096;
+
+    @Param({"POSITIVE", "ZERO", "NEGATIVE", "MIXED"})
+    public DiscriminantCase discriminantCase;
+
+    private QuadraticEquationSolver solver;
+    private EquationInputs inputs;
+    private double[] root1;
+    private double[] root2;
+    private int[] rootCount;
+
+    @Setup
+    public void setUp() {
+        solver = SolverFactory.solver();
+        inputs = EquationInputs.generate(discriminantCase, SIZE);
+        root1 = new double[SIZE];
+        root2 = new double[SIZE];
+        rootCount = new int[SIZE];
+    }
+
+    @Benchmark
+    public int[] solveBatch() {
+        solver.solveBatch(inputs.a, inputs.b, inputs.c, root1, root2, rootCount);
+        return rootCount;
+    }
+}
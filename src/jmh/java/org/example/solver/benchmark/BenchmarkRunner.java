@@ -0,0 +1,34 @@
+package org.example.solver.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the solver benchmarks with the GC profiler attached, so that every result
+ * comes with allocation rate ({@code gc.alloc.rate.norm}, bytes per operation) and GC counts.
+ * Any regular JMH command-line arguments (include patterns, -p, -f, -rf json ...) are honoured.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .include(commandLine.getIncludes().isEmpty()
+                        ? BenchmarkRunner.class.getPackageName() + ".*"
+                        : String.join("|", commandLine.getIncludes()))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
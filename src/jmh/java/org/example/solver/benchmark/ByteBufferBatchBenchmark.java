@@ -0,0 +1,93 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.io.BufferLayout;
+import org.example.solver.io.ByteBufferBatchSolver;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solving equations held in direct buffers: in place with {@link ByteBufferBatchSolver}, against
+ * copying them into arrays for {@link QuadraticEquationSolver#solveBatch} and copying the results back.
+ * Scores are per equation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+@OperationsPerInvocation(ByteBufferBatchBenchmark.SIZE)
+public class ByteBufferBatchBenchmark {
+
+    static final int SIZE = 4096;
+
+    @Param({"AOS", "SOA"})
+    public BufferLayout layout;
+
+    private ByteBufferBatchSolver batchSolver;
+    private QuadraticEquationSolver solver;
+    private ByteBuffer in;
+    private ByteBuffer out;
+    private final double[] a = new double[SIZE];
+    private final double[] b = new double[SIZE];
+    private final double[] c = new double[SIZE];
+    private final double[] root1 = new double[SIZE];
+    private final double[] root2 = new double[SIZE];
+    private final int[] rootCount = new int[SIZE];
+
+    @Setup
+    public void setUp() {
+        batchSolver = ByteBufferBatchSolver.builder().layout(layout).byteOrder(ByteOrder.nativeOrder()).build();
+        solver = SolverFactory.solver();
+        EquationInputs inputs = EquationInputs.generate(DiscriminantCase.MIXED, SIZE);
+        in = ByteBuffer.allocateDirect((int) batchSolver.inputBytes(SIZE)).order(ByteOrder.nativeOrder());
+        out = ByteBuffer.allocateDirect((int) batchSolver.outputBytes(SIZE)).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < SIZE; i++) {
+            in.putDouble(aOffset(i), inputs.a[i]);
+            in.putDouble(bOffset(i), inputs.b[i]);
+            in.putDouble(cOffset(i), inputs.c[i]);
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer inPlace() {
+        batchSolver.solve(in, out, SIZE);
+        return out;
+    }
+
+    @Benchmark
+    public ByteBuffer copyThroughArrays() {
+        for (int i = 0; i < SIZE; i++) {
+            a[i] = in.getDouble(aOffset(i));
+            b[i] = in.getDouble(bOffset(i));
+            c[i] = in.getDouble(cOffset(i));
+        }
+        solver.solveBatch(a, b, c, root1, root2, rootCount);
+        for (int i = 0; i < SIZE; i++) {
+            if (layout == BufferLayout.AOS) {
+                out.putInt(i * 24, rootCount[i]).putInt(i * 24 + 4, 0)
+                        .putDouble(i * 24 + 8, root1[i]).putDouble(i * 24 + 16, root2[i]);
+            } else {
+                out.putDouble(i * 8, root1[i]).putDouble((SIZE + i) * 8, root2[i])
+                        .putInt(2 * SIZE * 8 + i * 4, rootCount[i]);
+            }
+        }
+        return out;
+    }
+
+    private int aOffset(int i) {
+        return layout == BufferLayout.AOS ? i * 24 : i * 8;
+    }
+
+    private int bOffset(int i) {
+        return layout == BufferLayout.AOS ? i * 24 + 8 : (SIZE + i) * 8;
+    }
+
+    private int cOffset(int i) {
+        return layout == BufferLayout.AOS ? i * 24 + 16 : (2 * SIZE + i) * 8;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.solver.benchmark;
+
+import org.example.lib.ContextHandler;
+import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single {@link ContextHandler#handle} call over the whole quadratic filter chain.
+ * The context is reset in place, so the numbers exclude the builder and the solver facade.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ContextHandlerBenchmark {
+
+    @Param({"POSITIVE", "ZERO", "NEGATIVE", "MIXED"})
+    public DiscriminantCase discriminantCase;
+
+    private ContextHandler<QuadraticEquationContext> handler;
+    private EquationInputs inputs;
+    private QuadraticEquationContext context;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        handler = SolverFactory.contextHandler();
+        inputs = EquationInputs.generate(discriminantCase, 1024);
+        context = new QuadraticEquationContext();
+    }
+
+    @Benchmark
+    public int handle() {
+        int i = index++ & inputs.mask();
+
+        // Reset the reusable context with the next coefficients
+        context.reset(inputs.a[i], inputs.b[i], inputs.c[i]);
+
+        handler.handle(context, ContextFilterType.QUADRATIC_EQUATION);
+        return context.getRootCount();
+    }
+}
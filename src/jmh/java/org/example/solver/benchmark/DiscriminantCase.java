@@ -0,0 +1,12 @@
+package org.example.solver.benchmark;
+
+/**
+ * Shape of the benchmark input with respect to the sign of the discriminant.
+ * MIXED draws every equation from the three other cases at random.
+ */
+public enum DiscriminantCase {
+    POSITIVE,
+    ZERO,
+    NEGATIVE,
+    MIXED
+}
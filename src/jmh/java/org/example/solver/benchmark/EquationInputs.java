@@ -0,0 +1,88 @@
+package org.example.solver.benchmark;
+
+import java.util.Random;
+
+/**
+ * Pre-generated coefficient triples used by all benchmarks.
+ * Coefficients are built from small integer roots so that the discriminant
+ * is computed exactly and every equation lands in the requested case.
+ */
+public final class EquationInputs {
+
+    // Fixed seed keeps runs comparable with each other
+    private static final long SEED = 42L;
+
+    public final double[] a;
+    public final double[] b;
+    public final double[] c;
+
+    private EquationInputs(int size) {
+        this.a = new double[size];
+        this.b = new double[size];
+        this.c = new double[size];
+    }
+
+    /**
+     * Generates {@code size} equations of the given discriminant case.
+     *
+     * @param discriminantCase the sign of the discriminant to produce
+     * @param size             number of equations, must be a power of two
+     * @return the generated coefficients
+     */
+    public static EquationInputs generate(DiscriminantCase discriminantCase, int size) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("size must be a power of two");
+        }
+        Random random = new Random(SEED);
+        EquationInputs inputs = new EquationInputs(size);
+        DiscriminantCase[] pure = {DiscriminantCase.POSITIVE, DiscriminantCase.ZERO, DiscriminantCase.NEGATIVE};
+
+        for (int i = 0; i < size; i++) {
+            DiscriminantCase current = discriminantCase == DiscriminantCase.MIXED
+                    ? pure[random.nextInt(pure.length)]
+                    : discriminantCase;
+            inputs.fill(i, current, random);
+        }
+        return inputs;
+    }
+
+    /**
+     * Returns the index mask used to cycle through the inputs without bounds checks.
+     *
+     * @return size - 1
+     */
+    public int mask() {
+        return a.length - 1;
+    }
+
+    private void fill(int i, DiscriminantCase discriminantCase, Random random) {
+        // a in [1, 9] with a random sign, roots in [-9, 9]
+        double lead = (random.nextInt(9) + 1) * (random.nextBoolean() ? 1 : -1);
+        double r1 = random.nextInt(19) - 9;
+        double r2;
+
+        switch (discriminantCase) {
+            case POSITIVE:
+                // Two distinct roots: a(x - r1)(x - r2)
+                r2 = r1 + random.nextInt(9) + 1;
+                a[i] = lead;
+                b[i] = -lead * (r1 + r2);
+                c[i] = lead * r1 * r2;
+                break;
+            case ZERO:
+                // Double root: a(x - r1)^2
+                a[i] = lead;
+                b[i] = -2 * lead * r1;
+                c[i] = lead * r1 * r1;
+                break;
+            case NEGATIVE:
+                // Complex pair: a((x - r1)^2 + k), k > 0
+                a[i] = lead;
+                b[i] = -2 * lead * r1;
+                c[i] = lead * (r1 * r1 + random.nextInt(9) + 1);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected case: " + discriminantCase);
+        }
+    }
+}
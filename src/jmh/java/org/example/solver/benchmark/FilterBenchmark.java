@@ -0,0 +1,74 @@
+package org.example.solver.benchmark;
+
+import org.example.lib.ContextFilter;
+import org.example.solver.entity.QuadraticEquationContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every filter of {@code org.example.solver.service.handler.filter} in isolation:
+ * one {@code isAuthorized} check followed by {@code apply} when authorized.
+ * Contexts already carry the discriminant and its square root, as they would
+ * when the filter runs inside the chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+    private static final String FILTER_PACKAGE = "org.example.solver.service.handler.filter.";
+
+    @Param({
+            "AValueValidator",
+            "BValueValidator",
+            "CValueValidator",
+            "DiscriminantCalculator",
+            "DiscriminantLessZeroChecker",
+            "DiscriminantChecker",
+            "SqrtDiscriminantCalculator",
+            "QuadraticRootsCalculator"
+    })
+    public String filterName;
+
+    @Param({"POSITIVE", "ZERO", "NEGATIVE", "MIXED"})
+    public DiscriminantCase discriminantCase;
+
+    private ContextFilter<QuadraticEquationContext> filter;
+    private QuadraticEquationContext[] contexts;
+    private int index;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        filter = (ContextFilter<QuadraticEquationContext>) Class.forName(FILTER_PACKAGE + filterName)
+                .getDeclaredConstructor()
+                .newInstance();
+
+        EquationInputs inputs = EquationInputs.generate(discriminantCase, 1024);
+        contexts = new QuadraticEquationContext[inputs.a.length];
+        for (int i = 0; i < contexts.length; i++) {
+            double discriminant = inputs.b[i] * inputs.b[i] - 4 * inputs.a[i] * inputs.c[i];
+            contexts[i] = QuadraticEquationContext.builder()
+                    .a(inputs.a[i])
+                    .b(inputs.b[i])
+                    .c(inputs.c[i])
+                    .discriminant(discriminant)
+                    .sqrtDiscriminant(discriminant > 0 ? Math.sqrt(discriminant) : 0)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        QuadraticEquationContext context = contexts[index++ & (contexts.length - 1)];
+        if (filter.isAuthorized(context)) {
+            filter.apply(context);
+        }
+        blackhole.consume(context.getRootCount());
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.ray.RaySphereIntersector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ray/sphere hits through the nearest-root query against the current {@code solve} path,
+ * which builds the roots array and leaves picking the nearest positive root to the caller.
+ * Per-ray scores are the batch score divided by {@value #RAYS}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class NearestRootBenchmark {
+
+    private static final int RAYS = 4096;
+    // Ignores hits at the ray origin
+    private static final double T_MIN = 1e-9;
+
+    private final RaySphereIntersector sphere = new RaySphereIntersector(0, 0, 5, 1);
+    private final double[] originX = new double[RAYS];
+    private final double[] originY = new double[RAYS];
+    private final double[] originZ = new double[RAYS];
+    private final double[] directionX = new double[RAYS];
+    private final double[] directionY = new double[RAYS];
+    private final double[] directionZ = new double[RAYS];
+    private final double[] t = new double[RAYS];
+    private QuadraticEquationSolver solver;
+
+    @Setup
+    public void setUp() {
+        solver = SolverFactory.solver();
+        // A pinhole camera at the origin looking at the sphere: about half of the rays hit
+        Random random = new Random(42L);
+        for (int i = 0; i < RAYS; i++) {
+            directionX[i] = random.nextDouble() * 0.5 - 0.25;
+            directionY[i] = random.nextDouble() * 0.5 - 0.25;
+            directionZ[i] = 1;
+        }
+    }
+
+    @Benchmark
+    public int nearestRootBatch() {
+        return sphere.intersect(originX, originY, originZ, directionX, directionY, directionZ, T_MIN, 0, RAYS, t);
+    }
+
+    @Benchmark
+    public int nearestRootQuery() {
+        int hits = 0;
+        for (int i = 0; i < RAYS; i++) {
+            double[] abc = coefficients(i);
+            t[i] = QuadraticMath.nearestRoot(abc[0], abc[1], abc[2], T_MIN);
+            hits += Double.isNaN(t[i]) ? 0 : 1;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int solveAndPick() {
+        int hits = 0;
+        for (int i = 0; i < RAYS; i++) {
+            double[] abc = coefficients(i);
+            double nearest = Double.NaN;
+            for (double root : solver.solve(abc[0], abc[1], abc[2])) {
+                if (root > T_MIN && !(root >= nearest)) {
+                    nearest = root;
+                }
+            }
+            t[i] = nearest;
+            hits += Double.isNaN(nearest) ? 0 : 1;
+        }
+        return hits;
+    }
+
+    /**
+     * The ray's quadratic, built the way a caller of {@code solve} would; escape analysis removes the array.
+     */
+    private double[] coefficients(int i) {
+        double ox = originX[i] - sphere.getCenterX();
+        double oy = originY[i] - sphere.getCenterY();
+        double oz = originZ[i] - sphere.getCenterZ();
+        double a = directionX[i] * directionX[i] + directionY[i] * directionY[i] + directionZ[i] * directionZ[i];
+        double b = 2 * (directionX[i] * ox + directionY[i] * oy + directionZ[i] * oz);
+        double c = ox * ox + oy * oy + oz * oz - sphere.getRadiusSquared();
+        return new double[]{a, b, c};
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.service.batch.ParallelQuadraticBatchSolver;
+import org.example.solver.service.batch.QuadraticBatchEngines;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link ParallelQuadraticBatchSolver} with the pool size; scores are per equation.
+ * With linear scaling the per-equation time halves every time the parallelism doubles,
+ * up to the number of physical cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+@OperationsPerInvocation(ParallelBatchBenchmark.SIZE)
+public class ParallelBatchBenchmark {
+
+    static final int SIZE = 1 << 22;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    @Param({"8192"})
+    public int chunkSize;
+
+    private ForkJoinPool pool;
+    private ParallelQuadraticBatchSolver solver;
+    private EquationInputs inputs;
+    private double[] root1;
+    private double[] root2;
+    private int[] rootCount;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        solver = new ParallelQuadraticBatchSolver(QuadraticBatchEngines.best(), pool, chunkSize);
+        inputs = EquationInputs.generate(DiscriminantCase.MIXED, SIZE);
+        root1 = new double[SIZE];
+        root2 = new double[SIZE];
+        rootCount = new int[SIZE];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] solve() {
+        solver.solve(inputs.a, inputs.b, inputs.c, 0, SIZE, root1, root2, rootCount);
+        return rootCount;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of {@link QuadraticEquationSolver#solve(double, double, double)}:
+ * context construction, the full filter chain and the returned roots array,
+ * compared with the allocation-free {@link QuadraticEquationSolver#solveInto}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+    @Param({"POSITIVE", "ZERO", "NEGATIVE", "MIXED"})
+    public DiscriminantCase discriminantCase;
+
+    private QuadraticEquationSolver solver;
+    private EquationInputs inputs;
+    private final RootResult result = new RootResult();
+    private int index;
+
+    @Setup
+    public void setUp() {
+        solver = SolverFactory.solver();
+        inputs = EquationInputs.generate(discriminantCase, 1024);
+    }
+
+    @Benchmark
+    public double[] solve() {
+        int i = index++ & inputs.mask();
+        return solver.solve(inputs.a[i], inputs.b[i], inputs.c[i]);
+    }
+
+    @Benchmark
+    public RootResult solveInto() {
+        int i = index++ & inputs.mask();
+        return solver.solveInto(inputs.a[i], inputs.b[i], inputs.c[i], result);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.solver.benchmark;
+
+import org.example.solver.service.QuadraticEquationSolverImpl;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.service.handler.QuadraticEquationHandler;
+
+/**
+ * Wires the solver the same way the tests do, so that benchmarks measure the production chain.
+ */
+final class SolverFactory {
+
+    private SolverFactory() {
+    }
+
+    static QuadraticEquationContextHandler contextHandler() {
+        return new QuadraticEquationContextHandler();
+    }
+
+    static QuadraticEquationSolverImpl solver() {
+        return new QuadraticEquationSolverImpl(new QuadraticEquationHandler(contextHandler()));
+    }
+}
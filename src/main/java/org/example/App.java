@@ -1,7 +1,141 @@
 package org.example;
 
+import org.example.lib.trace.PipelineTracer;
+import org.example.solver.http.SolverHttpServer;
+import org.example.solver.http.SolverLoadTest;
+import org.example.solver.io.CheckpointedSolverJob;
+import org.example.solver.io.CsvSolverJob;
+import org.example.solver.io.MappedFileSolverJob;
+import org.example.solver.metrics.SolverMetrics;
+import org.example.solver.service.QuadraticEquationSolvers;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point of the solver jobs.
+ *
+ * <pre>
+ *   solve-binary &lt;input&gt; &lt;output&gt; [windowRecords]   solve a packed (a,b,c) double file
+ *   solve-resumable &lt;input&gt; &lt;output&gt; [segmentRecords]
+ *                                                    same, checkpointed per segment and resumed on rerun
+ *   csv &lt;input|-&gt; &lt;output|-&gt; [--header]            solve an a,b,c CSV, "-" is stdin/stdout
+ *   serve [port] [--diagnostics]                     serve the solver over HTTP (default 8080),
+ *                                                    with /metrics and /trace when asked
+ *   loadtest [concurrency] [requests] [url]          load test a server, or an embedded one
+ * </pre>
+ *
+ * Logging is configured at launch with {@code -Dlogback.configurationFile=config/logback.xml};
+ * the jar itself bundles no logging configuration. The HTTP commands turn Nagle's algorithm off
+ * for the JDK server unless {@code -Dsun.net.httpserver.nodelay} is given at launch.
+ */
 public class App
 {
-    public static void main( String[] args ) {
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main( String[] args ) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+
+        switch (args[0]) {
+            case "solve-binary":
+                requireArguments(args, 3);
+                MappedFileSolverJob job = args.length > 3
+                        ? new MappedFileSolverJob(Integer.parseInt(args[3]))
+                        : new MappedFileSolverJob();
+                long records = job.run(Path.of(args[1]), Path.of(args[2]));
+                System.out.println("Solved " + records + " equations");
+                break;
+            case "solve-resumable":
+                requireArguments(args, 3);
+                CheckpointedSolverJob resumable = args.length > 3
+                        ? new CheckpointedSolverJob(Integer.parseInt(args[3]))
+                        : new CheckpointedSolverJob();
+                CheckpointedSolverJob.Progress progress = resumable.run(Path.of(args[1]), Path.of(args[2]));
+                System.out.println("Solved " + progress.getRecords() + " equations"
+                        + (progress.isResumed() ? ", resumed from a checkpoint" : ""));
+                break;
+            case "csv":
+                requireArguments(args, 3);
+                boolean header = args.length > 3 && "--header".equals(args[3]);
+                try (InputStream in = "-".equals(args[1]) ? System.in : Files.newInputStream(Path.of(args[1]));
+                     OutputStream out = "-".equals(args[2]) ? System.out : Files.newOutputStream(Path.of(args[2]))) {
+                    CsvSolverJob.Summary summary = new CsvSolverJob(header).run(in, out);
+                    System.err.println("Solved " + summary.getSolved() + " of " + summary.getRows()
+                            + " rows, " + summary.getErrors() + " rejected");
+                }
+                break;
+            case "serve":
+                int port = args.length > 1 && !"--diagnostics".equals(args[1]) ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+                boolean diagnostics = "--diagnostics".equals(args[args.length - 1]);
+                useNoDelay();
+                SolverHttpServer server = new SolverHttpServer(QuadraticEquationSolvers.create(),
+                        new InetSocketAddress(port), diagnostics);
+                // Metrics are recorded with -Dsolver.metrics=true, traces with -Dsolver.trace.sample=N,
+                // or once enabled over JMX
+                SolverMetrics.registerMBean();
+                PipelineTracer.registerMBean();
+                Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+                server.start();
+                break;
+            case "loadtest":
+                loadTest(args);
+                break;
+            default:
+                usage();
+                System.exit(2);
+        }
+    }
+
+    private static void loadTest(String[] args) throws Exception {
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        long requests = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000;
+        if (args.length > 3) {
+            System.out.println(new SolverLoadTest(URI.create(args[3]), concurrency, requests).run());
+            return;
+        }
+
+        // No URL: measure an embedded server on a loopback ephemeral port
+        useNoDelay();
+        try (SolverHttpServer server = new SolverHttpServer(QuadraticEquationSolvers.create(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            server.start();
+            URI uri = URI.create("http://localhost:" + server.getPort());
+            System.out.println(new SolverLoadTest(uri, concurrency, requests).run());
+        }
+    }
+
+    /**
+     * Turns Nagle's algorithm off for the JDK HTTP server, unless set at launch.
+     * Must run before the first server is created: the server classes read the property once.
+     */
+    private static void useNoDelay() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private static void requireArguments(String[] args, int count) {
+        if (args.length < count) {
+            usage();
+            System.exit(2);
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage:");
+        System.err.println("  solve-binary <input> <output> [windowRecords]   solve a packed little-endian (a,b,c) double file");
+        System.err.println("  solve-resumable <input> <output> [segmentRecords]  same, checkpointed per segment and resumed on rerun");
+        System.err.println("  csv <input|-> <output|-> [--header]             solve an a,b,c CSV, \"-\" is stdin/stdout");
+        System.err.println("  serve [port] [--diagnostics]                    serve the solver over HTTP (default " + DEFAULT_PORT
+                + "), with /metrics and /trace when asked");
+        System.err.println("  loadtest [concurrency] [requests] [url]         load test a server, or an embedded one");
     }
 }
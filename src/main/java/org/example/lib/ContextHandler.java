@@ -1,30 +1,186 @@
 package org.example.lib;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.lib.event.ContextHandleEvent;
+import org.example.lib.event.FlightRecorderMonitor;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.enums.ContextFilterType;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 @Slf4j
 public abstract class ContextHandler<F> {
 
-    private final List<ContextFilter<F>> contextFilters;
+    // One pre-ordered pipeline per filter type, compiled once in the constructor and never modified
+    private final Map<ContextFilterType, FilterPipeline<F>> pipelines;
 
     protected ContextHandler(List<ContextFilter<F>> contextFilters) {
-        this.contextFilters = contextFilters.stream()
+        this(contextFilters, null);
+    }
+
+    /**
+     * Compiles the filters into one pipeline per filter type.
+     * When result fields are given, filters declaring a {@link FilterDataFlow} whose writes
+     * can never reach those fields are dropped from the pipelines.
+     *
+     * @param contextFilters the filters to run, in any order
+     * @param resultFields   the context fields read after handling, or null to keep every filter
+     */
+    protected ContextHandler(List<ContextFilter<F>> contextFilters, Set<String> resultFields) {
+        this(groupByType(sortByOrder(contextFilters)), resultFields);
+    }
+
+    /**
+     * Compiles the filters of build-time generated registries, which are already in order,
+     * so no {@link FilterOrder} annotation is read.
+     *
+     * @param resultFields the context fields read after handling, or null to keep every filter
+     * @param registries   the registries creating the filters, one per filter type
+     */
+    @SafeVarargs
+    protected ContextHandler(Set<String> resultFields, FilterRegistry<F>... registries) {
+        this(groupByType(createFilters(registries)), resultFields);
+    }
+
+    /**
+     * Compiles filters already grouped by type, each group in execution order.
+     */
+    private ContextHandler(Map<ContextFilterType, List<ContextFilter<F>>> filtersByType, Set<String> resultFields) {
+        Map<ContextFilterType, FilterPipeline<F>> compiled = new EnumMap<>(ContextFilterType.class);
+        filtersByType.forEach((filterType, filters) -> compiled.put(filterType, new FilterPipeline<>(filterType,
+                resultFields == null ? filters : eliminateDeadStages(filterType, filters, resultFields),
+                this::classify)));
+        this.pipelines = compiled;
+    }
+
+    /**
+     * Groups ordered filters by type once; getFilterType() is expected to be constant for a filter instance.
+     */
+    private static <F> Map<ContextFilterType, List<ContextFilter<F>>> groupByType(List<ContextFilter<F>> sortedFilters) {
+        Map<ContextFilterType, List<ContextFilter<F>>> filtersByType = new EnumMap<>(ContextFilterType.class);
+        for (ContextFilterType filterType : ContextFilterType.values()) {
+            filtersByType.put(filterType, new ArrayList<>());
+        }
+        for (ContextFilter<F> contextFilter : sortedFilters) {
+            filtersByType.get(contextFilter.getFilterType()).add(contextFilter);
+        }
+        return filtersByType;
+    }
+
+    /**
+     * Concatenates the filters of several registries; grouping by type keeps each registry's order.
+     */
+    @SafeVarargs
+    private static <F> List<ContextFilter<F>> createFilters(FilterRegistry<F>... registries) {
+        List<ContextFilter<F>> filters = new ArrayList<>();
+        for (FilterRegistry<F> registry : registries) {
+            filters.addAll(registry.createFilters());
+        }
+        return filters;
+    }
+
+    /**
+     * Sorts hand-listed filters by their {@link FilterOrder}.
+     *
+     * @throws IllegalArgumentException if a filter is not annotated
+     */
+    private static <F> List<ContextFilter<F>> sortByOrder(List<ContextFilter<F>> contextFilters) {
+        for (ContextFilter<F> contextFilter : contextFilters) {
+            if (!contextFilter.getClass().isAnnotationPresent(FilterOrder.class)) {
+                throw new IllegalArgumentException("Filter " + contextFilter.getClass().getName()
+                        + " is not annotated with @FilterOrder");
+            }
+        }
+        return contextFilters.stream()
                 .sorted(Comparator.comparingInt(f -> f.getClass().getAnnotation(FilterOrder.class).value()))
                 .collect(Collectors.toList());
     }
 
     public void handle(F context, ContextFilterType filterType) {
-        for (ContextFilter<F> contextFilter : contextFilters) {
+        FilterPipeline<F> pipeline = pipelines.get(filterType);
+        if (!FlightRecorderMonitor.isRecording()) {
+            pipeline.run(context);
+            return;
+        }
+
+        // A flight recording is running: time the whole pipeline as well
+        ContextHandleEvent event = new ContextHandleEvent();
+        event.begin();
+        pipeline.run(context);
+        event.end();
+        if (event.shouldCommit()) {
+            event.filterType = filterType.name();
+            event.discriminantClass = classify(context);
+            event.commit();
+        }
+    }
+
+    /**
+     * Describes the context in recorded flight recorder events, for example by the class of its discriminant.
+     * Only called while a recording is running.
+     *
+     * @param context the context being handled
+     * @return a short description, or null
+     */
+    protected String classify(F context) {
+        return null;
+    }
+
+    /**
+     * Returns the compiled pipeline executed for the given filter type.
+     *
+     * @param filterType the filter type
+     * @return the pipeline, empty if no filter of that type is registered
+     */
+    public FilterPipeline<F> getPipeline(ContextFilterType filterType) {
+        return pipelines.get(filterType);
+    }
+
+    /**
+     * Walks the ordered filters backwards, tracking which fields are still read later on.
+     * A filter is kept if it writes nothing (validation), if one of its writes is live,
+     * or if a later filter has no declared data flow and may read anything.
+     */
+    private List<ContextFilter<F>> eliminateDeadStages(ContextFilterType filterType,
+                                                       List<ContextFilter<F>> filters,
+                                                       Set<String> resultFields) {
+        Set<String> liveFields = new HashSet<>(resultFields);
+        boolean laterReadsEverything = false;
+        Deque<ContextFilter<F>> kept = new ArrayDeque<>();
 
-            if (contextFilter.getFilterType() == filterType && contextFilter.isAuthorized(context)) {
-                log.info("Executing filter: {}", contextFilter.getClass().getSimpleName());
-                contextFilter.apply(context);
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            ContextFilter<F> contextFilter = filters.get(i);
+            FilterDataFlow dataFlow = contextFilter.getClass().getAnnotation(FilterDataFlow.class);
+
+            if (dataFlow == null) {
+                // Undeclared data flow: keep it and assume it reads every field
+                kept.addFirst(contextFilter);
+                laterReadsEverything = true;
+                continue;
+            }
+
+            boolean live = dataFlow.writes().length == 0
+                    || laterReadsEverything
+                    || Arrays.stream(dataFlow.writes()).anyMatch(liveFields::contains);
+            if (!live) {
+                log.info("Eliminating filter {} from {} pipeline: its outputs {} are never read",
+                        contextFilter.getClass().getSimpleName(), filterType, Arrays.toString(dataFlow.writes()));
+                continue;
             }
+
+            kept.addFirst(contextFilter);
+            liveFields.addAll(Arrays.asList(dataFlow.reads()));
         }
+        return new ArrayList<>(kept);
     }
 }
@@ -0,0 +1,172 @@
+package org.example.lib;
+
+import org.example.lib.event.ContextFilterEvent;
+import org.example.lib.event.FlightRecorderMonitor;
+import org.example.lib.metrics.LatencyHistogram;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.lib.trace.PipelineTracer;
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.enums.ContextFilterType;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable, pre-ordered chain of the filters of one {@link org.example.solver.enums.ContextFilterType}.
+ * Built once by {@link ContextHandler}; running it only checks authorization and applies,
+ * with no type comparison and no reflection per call. The pipeline stops after the first
+ * applied filter declared {@link FilterDataFlow#terminal() terminal}.
+ * While a flight recording is running, every stage emits a {@link ContextFilterEvent}; while
+ * {@link MetricsRegistry metrics} are enabled, every stage's latency goes to its histogram; and a
+ * run sampled by the {@link PipelineTracer} records every stage into its ring buffer. These combine
+ * freely; with none of them active the pipeline runs a plain loop.
+ *
+ * @param <F> the context type
+ */
+public final class FilterPipeline<F> {
+
+    private final String filterType;
+    private final ContextFilter<F>[] filters;
+    private final String[] filterNames;
+    private final boolean[] terminal;
+    private final Function<F, String> classifier;
+    // Per-stage latency histograms, resolved once so that recording looks nothing up
+    private final LatencyHistogram[] latencies;
+    private final PipelineTracer tracer = PipelineTracer.global();
+
+    /**
+     * Creates a pipeline from filters that are already in execution order.
+     *
+     * @param filterType     the type all the filters belong to
+     * @param orderedFilters the filters, sorted by their order
+     * @param classifier     describes the context in recorded events
+     */
+    @SuppressWarnings("unchecked")
+    FilterPipeline(ContextFilterType filterType, List<ContextFilter<F>> orderedFilters, Function<F, String> classifier) {
+        this.filterType = filterType.name();
+        this.classifier = classifier;
+        this.filters = orderedFilters.toArray(new ContextFilter[0]);
+        this.filterNames = new String[filters.length];
+        this.terminal = new boolean[filters.length];
+        this.latencies = new LatencyHistogram[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            // Resolved once instead of on every execution
+            filterNames[i] = filters[i].getClass().getSimpleName();
+            latencies[i] = MetricsRegistry.global().histogram("context_filter_duration_seconds",
+                    "Time spent in one filter stage, authorization check included",
+                    MetricsRegistry.labels("type", this.filterType, "filter", filterNames[i]));
+            FilterDataFlow dataFlow = filters[i].getClass().getAnnotation(FilterDataFlow.class);
+            terminal[i] = dataFlow != null && dataFlow.terminal();
+        }
+    }
+
+    /**
+     * Applies every authorized filter of the pipeline to the context, in order,
+     * until a terminal filter has been applied.
+     *
+     * @param context the context to process
+     */
+    public void run(F context) {
+        // Every instrumentation flag is read once per run
+        long traceId = tracer.sample(context);
+        boolean recording = FlightRecorderMonitor.isRecording();
+        boolean measured = MetricsRegistry.isEnabled();
+        if (traceId != PipelineTracer.NOT_TRACED || recording || measured) {
+            runInstrumented(context, traceId, recording, measured);
+            return;
+        }
+
+        ContextFilter<F>[] stages = filters;
+        for (int i = 0; i < stages.length; i++) {
+            ContextFilter<F> contextFilter = stages[i];
+            if (contextFilter.isAuthorized(context)) {
+                contextFilter.apply(context);
+                if (terminal[i]) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #run(Object)}, with any combination of instrumentation: a trace of every stage
+     * (authorization, application, time since the run started and the context after the stage),
+     * the latency of every stage into its histogram, and a {@link ContextFilterEvent} per stage.
+     * A stage that throws is traced, timed and recorded as well.
+     *
+     * @param traceId   the trace of a sampled run, or {@link PipelineTracer#NOT_TRACED}
+     * @param recording true while a flight recording is running
+     * @param measured  true while metrics are enabled
+     */
+    private void runInstrumented(F context, long traceId, boolean recording, boolean measured) {
+        boolean traced = traceId != PipelineTracer.NOT_TRACED;
+        boolean timed = traced || measured;
+        long runStart = timed ? System.nanoTime() : 0;
+
+        ContextFilter<F>[] stages = filters;
+        for (int i = 0; i < stages.length; i++) {
+            ContextFilter<F> contextFilter = stages[i];
+            ContextFilterEvent event = recording ? new ContextFilterEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            long stageStart = measured ? System.nanoTime() : 0;
+            boolean authorized = false;
+            boolean applied = false;
+            RuntimeException error = null;
+
+            try {
+                authorized = contextFilter.isAuthorized(context);
+                if (authorized) {
+                    contextFilter.apply(context);
+                    applied = true;
+                }
+            } catch (RuntimeException e) {
+                error = e;
+                throw e;
+            } finally {
+                long now = timed ? System.nanoTime() : 0;
+                if (measured) {
+                    latencies[i].record(now - stageStart);
+                }
+                if (traced) {
+                    tracer.record(traceId, filterType, i, filterNames[i], authorized, applied,
+                            now - runStart, context, error);
+                }
+                if (event != null) {
+                    commitEvent(event, i, applied, context);
+                }
+            }
+            if (applied && terminal[i]) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ends a stage event and commits it if it passes the configured threshold.
+     */
+    private void commitEvent(ContextFilterEvent event, int stage, boolean applied, F context) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.filterName = filterNames[stage];
+            event.filterType = filterType;
+            event.applied = applied;
+            event.discriminantClass = classifier.apply(context);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the filters of the pipeline in execution order.
+     *
+     * @return an unmodifiable copy of the filters
+     */
+    public List<ContextFilter<F>> getFilters() {
+        return List.of(filters);
+    }
+
+    public int size() {
+        return filters.length;
+    }
+}
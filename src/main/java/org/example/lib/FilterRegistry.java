@@ -0,0 +1,27 @@
+package org.example.lib;
+
+import org.example.solver.enums.ContextFilterType;
+
+import java.util.List;
+
+/**
+ * Build-time list of the filters of one {@link ContextFilterType}, already in execution order.
+ * Implementations are generated from the {@code @FilterOrder} annotations, so handlers built
+ * from a registry neither sort nor look up annotations at startup.
+ *
+ * @param <F> the context type handled by the filters
+ */
+public interface FilterRegistry<F> {
+
+    /**
+     * @return the filter type of every filter in this registry
+     */
+    ContextFilterType getFilterType();
+
+    /**
+     * Creates a new instance of every registered filter.
+     *
+     * @return the filters, in ascending {@code @FilterOrder}
+     */
+    List<ContextFilter<F>> createFilters();
+}
@@ -2,6 +2,11 @@ package org.example.lib;
 
 public class ValueValidator {
 
+    // Flags returned by the check methods, one bit per kind of invalid value
+    public static final int NAN = 1;
+    public static final int INFINITE = 1 << 1;
+    public static final int ZERO = 1 << 2;
+
     public void validateNotZero(double value, String name) {
         if (value == 0) {
             throw new IllegalArgumentException(name + " cannot be zero");
@@ -13,4 +18,25 @@ public class ValueValidator {
             throw new IllegalArgumentException(name + " must be a numeric value");
         }
     }
+
+    /**
+     * Exception-free counterpart of {@link #validateNotZero}.
+     *
+     * @return {@link #ZERO} if the value is zero, otherwise 0
+     */
+    public int checkNotZero(double value) {
+        return value == 0 ? ZERO : 0;
+    }
+
+    /**
+     * Exception-free counterpart of {@link #validateNumeric}.
+     *
+     * @return {@link #NAN} or {@link #INFINITE} for a non-numeric value, otherwise 0
+     */
+    public int checkNumeric(double value) {
+        if (Double.isNaN(value)) {
+            return NAN;
+        }
+        return Double.isInfinite(value) ? INFINITE : 0;
+    }
 }
@@ -0,0 +1,35 @@
+package org.example.lib.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One filter stage: its {@code isAuthorized} check and, when authorized, its {@code apply}.
+ * Only stages slower than the threshold are recorded; lower it with
+ * {@code org.example.solver.ContextFilter#threshold=0 ms} to see every stage.
+ */
+@Name("org.example.solver.ContextFilter")
+@Label("Context Filter")
+@Category({"Quadratic Solver", "Pipeline"})
+@Description("Execution of one filter stage")
+@StackTrace(false)
+@Threshold("1 us")
+public final class ContextFilterEvent extends Event {
+
+    @Label("Filter")
+    public String filterName;
+
+    @Label("Filter Type")
+    public String filterType;
+
+    @Label("Applied")
+    public boolean applied;
+
+    @Label("Discriminant Class")
+    public String discriminantClass;
+}
@@ -0,0 +1,29 @@
+package org.example.lib.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One {@code ContextHandler.handle} call: the whole pipeline of one filter type.
+ * Only calls slower than the threshold are recorded; lower it with
+ * {@code org.example.solver.ContextHandle#threshold=0 ms} to see every call.
+ */
+@Name("org.example.solver.ContextHandle")
+@Label("Context Handle")
+@Category({"Quadratic Solver", "Pipeline"})
+@Description("Execution of the filter pipeline for one context")
+@StackTrace(false)
+@Threshold("10 us")
+public final class ContextHandleEvent extends Event {
+
+    @Label("Filter Type")
+    public String filterType;
+
+    @Label("Discriminant Class")
+    public String discriminantClass;
+}
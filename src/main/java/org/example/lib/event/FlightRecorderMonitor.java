@@ -0,0 +1,52 @@
+package org.example.lib.event;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Tracks whether a Java Flight Recorder recording is running.
+ * Instrumented code checks {@link #isRecording()} first, so while no recording runs
+ * the cost of the events is a single volatile read and no event object is created.
+ */
+public final class FlightRecorderMonitor {
+
+    private static volatile boolean recording;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    refresh();
+                }
+
+                @Override
+                public void recordingStateChanged(Recording changed) {
+                    refresh();
+                }
+            });
+        } catch (SecurityException e) {
+            // Not allowed to observe the recorder: the events stay disabled
+        }
+    }
+
+    private FlightRecorderMonitor() {
+    }
+
+    /**
+     * Checks whether any recording is currently running.
+     *
+     * @return true if events may be recorded
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    private static void refresh() {
+        // Checking isInitialized() first avoids starting the recorder just to look at it
+        recording = FlightRecorder.isInitialized() && FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.lib.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, with power-of-two buckets.
+ *
+ * <p>Bucket {@code i} counts durations in {@code [2^i, 2^(i+1))} ns; the last bucket also takes
+ * everything longer. Every bucket and the sum are {@link LongAdder}s, so threads recording at the
+ * same time update separate cells instead of contending on one counter. Reads are not atomic
+ * snapshots: a read during recording may see a bucket updated and the sum not yet.
+ */
+public final class LatencyHistogram {
+
+    // 2^40 ns is about 18 minutes
+    public static final int BUCKETS = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one duration; negative durations from clock adjustments count as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        buckets[bucketOf(duration)].increment();
+        sumNanos.add(duration);
+    }
+
+    /**
+     * @return the index of the bucket counting the given duration
+     */
+    public static int bucketOf(long nanos) {
+        if (nanos <= 1) {
+            return 0;
+        }
+        return Math.min(63 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+    }
+
+    /**
+     * @return the exclusive upper bound of a bucket in nanoseconds; the last bucket is unbounded
+     */
+    public static long upperBoundNanos(int bucket) {
+        return 1L << (bucket + 1);
+    }
+
+    /**
+     * @return the count of every bucket, in bucket order
+     */
+    public long[] bucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of the recorded durations in nanoseconds
+     */
+    public long sumNanos() {
+        return sumNanos.sum();
+    }
+
+    /**
+     * @return the mean duration in nanoseconds, 0 when nothing was recorded
+     */
+    public double meanNanos() {
+        long count = count();
+        return count == 0 ? 0 : (double) sumNanos() / count;
+    }
+}
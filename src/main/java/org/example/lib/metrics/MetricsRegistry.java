@@ -0,0 +1,200 @@
+package org.example.lib.metrics;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named counters and latency histograms, rendered in the Prometheus text exposition format.
+ *
+ * <p>Metrics are registered once, usually when the instrumented object is built, and the caller
+ * keeps the returned {@link LongAdder} or {@link LatencyHistogram}: the recording path never looks
+ * anything up. Registering the same name and labels again returns the same metric.
+ *
+ * <p>Recording is opt-in: instrumented code checks {@link #isEnabled()} first, so while metrics are
+ * off their cost is a single volatile read. They start enabled when the system property
+ * {@code solver.metrics} is {@code true}.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private static volatile boolean enabled = Boolean.getBoolean("solver.metrics");
+
+    // Families by name, each with its series by label set, both sorted for a stable exposition
+    private final NavigableMap<String, Family> families = new ConcurrentSkipListMap<>();
+
+    /**
+     * @return the registry shared by the whole process
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * @return true if instrumented code should record
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        MetricsRegistry.enabled = enabled;
+    }
+
+    /**
+     * Returns the counter with the given name and labels, registering it on first use.
+     *
+     * @param name   metric name, by convention ending in {@code _total}
+     * @param help   one-line description
+     * @param labels label set in exposition syntax, see {@link #labels(String...)}; empty for none
+     * @return the counter
+     * @throws IllegalArgumentException if the name is already registered as a histogram
+     */
+    public LongAdder counter(String name, String help, String labels) {
+        return (LongAdder) family(name, help, Type.COUNTER).series.computeIfAbsent(labels, key -> new LongAdder());
+    }
+
+    /**
+     * Returns the histogram with the given name and labels, registering it on first use.
+     * It is exposed in seconds.
+     *
+     * @param name   metric name, by convention ending in {@code _seconds}
+     * @param help   one-line description
+     * @param labels label set in exposition syntax; empty for none
+     * @return the histogram
+     * @throws IllegalArgumentException if the name is already registered as a counter
+     */
+    public LatencyHistogram histogram(String name, String help, String labels) {
+        return (LatencyHistogram) family(name, help, Type.HISTOGRAM).series
+                .computeIfAbsent(labels, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the histograms registered under a name.
+     *
+     * @return the histograms by label set, empty if the name is unknown
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, LatencyHistogram> histograms(String name) {
+        Family family = families.get(name);
+        if (family == null || family.type != Type.HISTOGRAM) {
+            return Map.of();
+        }
+        return Map.copyOf((Map<String, LatencyHistogram>) (Map<String, ?>) family.series);
+    }
+
+    /**
+     * Builds a label set from alternating names and values, escaping the values.
+     *
+     * @param namesAndValues {@code name1, value1, name2, value2, ...}
+     * @return the labels in exposition syntax, such as {@code type="QUADRATIC_EQUATION",filter="AValueValidator"}
+     */
+    public static String labels(String... namesAndValues) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            String value = namesAndValues[i + 1]
+                    .replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n");
+            labels.append(namesAndValues[i]).append("=\"").append(value).append('"');
+        }
+        return labels.toString();
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @return the exposition, one sample per line
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type.exposedName).append('\n');
+            for (Map.Entry<String, Object> series : family.series.entrySet()) {
+                if (family.type == Type.COUNTER) {
+                    sample(out, name, series.getKey(), null, ((LongAdder) series.getValue()).sum());
+                } else {
+                    writeHistogram(out, name, series.getKey(), (LatencyHistogram) series.getValue());
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type.exposedName);
+        }
+        return family;
+    }
+
+    /**
+     * Writes the cumulative buckets, the sum and the count of one histogram, in seconds.
+     */
+    private static void writeHistogram(StringBuilder out, String name, String labels, LatencyHistogram histogram) {
+        // One read of the buckets, so that the buckets and the count agree
+        long[] counts = histogram.bucketCounts();
+        long cumulative = 0;
+        for (int i = 0; i < counts.length - 1; i++) {
+            cumulative += counts[i];
+            sample(out, name + "_bucket", labels, "le=\"" + LatencyHistogram.upperBoundNanos(i) / 1e9 + '"', cumulative);
+        }
+        cumulative += counts[counts.length - 1];
+        sample(out, name + "_bucket", labels, "le=\"+Inf\"", cumulative);
+        out.append(name).append("_sum");
+        appendLabels(out, labels, null);
+        out.append(' ').append(histogram.sumNanos() / 1e9).append('\n');
+        sample(out, name + "_count", labels, null, cumulative);
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String extraLabel, long value) {
+        out.append(name);
+        appendLabels(out, labels, extraLabel);
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void appendLabels(StringBuilder out, String labels, String extraLabel) {
+        if (labels.isEmpty() && extraLabel == null) {
+            return;
+        }
+        out.append('{').append(labels);
+        if (extraLabel != null) {
+            out.append(labels.isEmpty() ? "" : ",").append(extraLabel);
+        }
+        out.append('}');
+    }
+
+    private enum Type {
+        COUNTER("counter"),
+        HISTOGRAM("histogram");
+
+        private final String exposedName;
+
+        Type(String exposedName) {
+            this.exposedName = exposedName;
+        }
+    }
+
+    /**
+     * The series of one metric name.
+     */
+    private static final class Family {
+        private final String help;
+        private final Type type;
+        private final NavigableMap<String, Object> series = new ConcurrentSkipListMap<>();
+
+        private Family(String help, Type type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.lib.trace;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Opt-in, sampled tracer of filter pipeline runs.
+ *
+ * <p>A run is traced when it is picked by the 1-in-N sampler or when its context matches the
+ * predicate. A traced run records every stage: whether the filter was authorized and applied,
+ * the time since the run started and the context after the stage. The entries go to a
+ * preallocated {@link TraceRingBuffer} that keeps the most recent ones and is dumped on demand.
+ *
+ * <p>While nothing is configured, deciding not to trace costs a single volatile read. Sampling
+ * draws from {@link ThreadLocalRandom}, so threads share no counter. It starts with 1 in N runs
+ * when the system property {@code solver.trace.sample} is N; {@code solver.trace.capacity}
+ * sets the ring size, 4096 stages by default.
+ */
+@Slf4j
+public final class PipelineTracer implements PipelineTracerMXBean {
+
+    public static final String OBJECT_NAME = "org.example.lib:type=PipelineTracer";
+
+    // Returned by sample() for a run that is not traced
+    public static final long NOT_TRACED = 0;
+
+    private static final PipelineTracer GLOBAL = new PipelineTracer(Integer.getInteger("solver.trace.capacity", 4096),
+            Integer.getInteger("solver.trace.sample", 0));
+
+    private final TraceRingBuffer ring;
+    private final AtomicLong traceIds = new AtomicLong();
+    // Null while neither sampling nor a predicate is configured
+    private volatile Sampler sampler;
+
+    /**
+     * @param capacity    the number of stages kept
+     * @param sampleEvery trace 1 in N runs, 0 for none
+     */
+    public PipelineTracer(int capacity, int sampleEvery) {
+        this.ring = new TraceRingBuffer(capacity);
+        setSampleEvery(sampleEvery);
+    }
+
+    /**
+     * @return the tracer of the whole process
+     */
+    public static PipelineTracer global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers the process-wide tracer with the platform MBean server, once.
+     *
+     * @return the object name
+     */
+    public static ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                try {
+                    server.registerMBean(GLOBAL, name);
+                    log.info("Registered pipeline tracer as {}", name);
+                } catch (InstanceAlreadyExistsException e) {
+                    // Registered concurrently by another caller
+                }
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Decides whether a pipeline run is traced.
+     *
+     * @param context the context about to run
+     * @return a new trace id, or {@link #NOT_TRACED}
+     */
+    public long sample(Object context) {
+        Sampler current = sampler;
+        if (current == null) {
+            return NOT_TRACED;
+        }
+
+        boolean sampled = current.every == 1
+                || current.every > 1 && ThreadLocalRandom.current().nextInt(current.every) == 0;
+        if (sampled || current.predicate != null && current.predicate.test(context)) {
+            return traceIds.incrementAndGet();
+        }
+        return NOT_TRACED;
+    }
+
+    /**
+     * Records one stage of a traced run.
+     *
+     * @param traceId      the id returned by {@link #sample(Object)}
+     * @param elapsedNanos time since the run started
+     * @param context      the context after the stage, formatted now
+     * @param error        the exception thrown by the stage, or null
+     */
+    public void record(long traceId, String filterType, int stage, String filterName,
+                       boolean authorized, boolean applied, long elapsedNanos, Object context, Throwable error) {
+        ring.publish(new TraceEntry(ring.claim(), traceId, filterType, stage, filterName, authorized, applied,
+                elapsedNanos, String.valueOf(context), error == null ? null : error.toString()));
+    }
+
+    /**
+     * Also traces every run whose context matches the predicate, on top of the sampled ones.
+     * It is tested on every run while set, so it must be cheap and thread-safe.
+     *
+     * @param predicate tested with the context before the run, null to remove it
+     */
+    public synchronized void setPredicate(Predicate<Object> predicate) {
+        int every = sampler == null ? 0 : sampler.every;
+        sampler = every == 0 && predicate == null ? null : new Sampler(every, predicate);
+    }
+
+    @Override
+    public int getSampleEvery() {
+        Sampler current = sampler;
+        return current == null ? 0 : current.every;
+    }
+
+    @Override
+    public synchronized void setSampleEvery(int sampleEvery) {
+        if (sampleEvery < 0) {
+            throw new IllegalArgumentException("sampleEvery must not be negative");
+        }
+        Predicate<Object> predicate = sampler == null ? null : sampler.predicate;
+        sampler = sampleEvery == 0 && predicate == null ? null : new Sampler(sampleEvery, predicate);
+    }
+
+    @Override
+    public int getCapacity() {
+        return ring.capacity();
+    }
+
+    @Override
+    public long getTracedStages() {
+        return ring.written();
+    }
+
+    /**
+     * @return the traced stages still in the ring buffer, oldest first
+     */
+    public List<TraceEntry> snapshot() {
+        return ring.snapshot();
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        for (TraceEntry entry : ring.snapshot()) {
+            out.append(entry).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Sampling configuration, replaced as a whole so that a run reads it once.
+     */
+    private static final class Sampler {
+        private final int every;
+        private final Predicate<Object> predicate;
+
+        private Sampler(int every, Predicate<Object> predicate) {
+            this.every = every;
+            this.predicate = predicate;
+        }
+    }
+}
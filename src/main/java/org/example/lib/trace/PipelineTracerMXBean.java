@@ -0,0 +1,32 @@
+package org.example.lib.trace;
+
+/**
+ * JMX view of the {@link PipelineTracer}, registered as {@value PipelineTracer#OBJECT_NAME}.
+ */
+public interface PipelineTracerMXBean {
+
+    /**
+     * @return N when 1 in N pipeline runs is traced, 0 when sampling is off
+     */
+    int getSampleEvery();
+
+    /**
+     * Traces 1 in N pipeline runs; 0 turns sampling off, 1 traces every run.
+     */
+    void setSampleEvery(int sampleEvery);
+
+    /**
+     * @return the number of stages the ring buffer keeps
+     */
+    int getCapacity();
+
+    /**
+     * @return the number of stages traced since start, including those already overwritten
+     */
+    long getTracedStages();
+
+    /**
+     * @return the stages in the ring buffer, oldest first, one per line
+     */
+    String dump();
+}
@@ -0,0 +1,43 @@
+package org.example.lib.trace;
+
+import lombok.Value;
+
+/**
+ * One filter stage of a traced pipeline run, as kept in the {@link TraceRingBuffer}.
+ */
+@Value
+public class TraceEntry {
+
+    // Position in the ring buffer, increasing across all traces
+    long sequence;
+    // Shared by all the stages of one pipeline run
+    long traceId;
+    String filterType;
+    int stage;
+    String filterName;
+    boolean authorized;
+    boolean applied;
+    // Time since the run started, at the end of this stage
+    long elapsedNanos;
+    // The context after this stage
+    String context;
+    // The exception thrown by this stage, or null
+    String error;
+
+    /**
+     * Formats the entry as one line of a trace dump.
+     */
+    @Override
+    public String toString() {
+        StringBuilder line = new StringBuilder(128)
+                .append('#').append(traceId)
+                .append(' ').append(filterType).append('[').append(stage).append("] ").append(filterName)
+                .append(applied ? " applied" : authorized ? " authorized" : " skipped")
+                .append(" +").append(elapsedNanos).append("ns ")
+                .append(context);
+        if (error != null) {
+            line.append(" threw ").append(error);
+        }
+        return line.toString();
+    }
+}
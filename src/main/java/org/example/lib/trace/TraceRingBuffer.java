@@ -0,0 +1,83 @@
+package org.example.lib.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of the most recent {@link TraceEntry}s.
+ *
+ * <p>The slots are allocated once. A writer claims a sequence with one atomic increment and
+ * stores its entry in the slot of that sequence, overwriting the entry one lap older; writers
+ * never wait for each other or for readers. Entries are immutable and carry their sequence, so
+ * a reader can tell a current entry from a stale one or from a slot not yet written.
+ */
+public final class TraceRingBuffer {
+
+    private final AtomicReferenceArray<TraceEntry> slots;
+    private final int mask;
+    // Next sequence to claim; also the number of entries ever claimed
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     * @param capacity the number of entries kept, rounded up to a power of two
+     */
+    public TraceRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Claims the sequence of the next entry.
+     *
+     * @return the sequence to build the entry with
+     */
+    public long claim() {
+        return cursor.getAndIncrement();
+    }
+
+    /**
+     * Stores an entry built with a claimed sequence.
+     */
+    public void publish(TraceEntry entry) {
+        slots.set((int) (entry.getSequence() & mask), entry);
+    }
+
+    /**
+     * Returns the entries still in the ring, oldest first. Entries claimed but not yet published
+     * are left out.
+     *
+     * @return a copy of the entries
+     */
+    public List<TraceEntry> snapshot() {
+        long end = cursor.get();
+        long start = Math.max(0, end - slots.length());
+        List<TraceEntry> entries = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            TraceEntry entry = slots.get((int) (sequence & mask));
+            if (entry != null && entry.getSequence() == sequence) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * @return the number of entries ever claimed, including those already overwritten
+     */
+    public long written() {
+        return cursor.get();
+    }
+}
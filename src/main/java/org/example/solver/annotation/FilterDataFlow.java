@@ -0,0 +1,33 @@
+package org.example.solver.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which context fields a filter reads and writes, in {@code isAuthorized} and {@code apply}.
+ * The handler uses it to drop filters whose outputs are never read, and to stop the chain
+ * after a terminal filter has been applied.
+ * Filters without this annotation are treated as reading every field and are never dropped.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FilterDataFlow {
+
+    /**
+     * Names of the context fields the filter reads.
+     */
+    String[] reads() default {};
+
+    /**
+     * Names of the context fields the filter writes. A filter that writes nothing
+     * (a validator) is kept for its side effects.
+     */
+    String[] writes() default {};
+
+    /**
+     * Whether the chain is complete once this filter has been applied.
+     */
+    boolean terminal() default false;
+}
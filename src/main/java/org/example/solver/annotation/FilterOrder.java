@@ -1,12 +1,24 @@
 package org.example.solver.annotation;
 
+import org.example.solver.enums.ContextFilterType;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Position of a filter in the pipeline of its filter type, lowest first.
+ * Orders must be unique per type; the filter registry processor rejects duplicates at compile time
+ * and generates a pre-ordered {@link org.example.lib.FilterRegistry} for every type.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface FilterOrder {
     int value();
+
+    /**
+     * The pipeline the filter belongs to; must match the filter's {@code getFilterType()}.
+     */
+    ContextFilterType type() default ContextFilterType.QUADRATIC_EQUATION;
 }
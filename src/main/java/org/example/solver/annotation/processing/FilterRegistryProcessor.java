@@ -0,0 +1,250 @@
+package org.example.solver.annotation.processing;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates one {@code org.example.lib.FilterRegistry} per filter type from the
+ * {@code @FilterOrder} annotations of the compiled filters.
+ *
+ * <p>For a type such as {@code QUADRATIC_EQUATION} it writes
+ * {@code org.example.solver.registry.QuadraticEquationFilterRegistry}, whose {@code createFilters()}
+ * instantiates the filters in ascending order. Compilation fails when two filters of one type share an
+ * order, or when an annotated class is not a concrete {@code ContextFilter} with a public no-argument
+ * constructor.
+ *
+ * <p>Annotation types are referenced by name, so the processor itself compiles before the rest of the
+ * project (see the {@code default-compile} execution in the POM).
+ */
+@SupportedAnnotationTypes(FilterRegistryProcessor.FILTER_ORDER)
+public class FilterRegistryProcessor extends AbstractProcessor {
+
+    static final String FILTER_ORDER = "org.example.solver.annotation.FilterOrder";
+    static final String CONTEXT_FILTER = "org.example.lib.ContextFilter";
+    static final String FILTER_REGISTRY = "org.example.lib.FilterRegistry";
+    static final String FILTER_TYPE = "org.example.solver.enums.ContextFilterType";
+    static final String REGISTRY_PACKAGE = "org.example.solver.registry";
+
+    /**
+     * One annotated filter class.
+     */
+    private static final class FilterEntry {
+        final TypeElement element;
+        final int order;
+        final String contextType;
+
+        FilterEntry(TypeElement element, int order, String contextType) {
+            this.element = element;
+            this.order = order;
+            this.contextType = contextType;
+        }
+    }
+
+    // Filter type constant -> order -> filter
+    private final Map<String, TreeMap<Integer, FilterEntry>> filtersByType = new TreeMap<>();
+    private boolean generated;
+    private boolean failed;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(java.util.Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement filterOrder = processingEnv.getElementUtils().getTypeElement(FILTER_ORDER);
+        if (filterOrder == null || generated) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(filterOrder)) {
+            collect(element, filterOrder);
+        }
+
+        // All hand-written filters are seen in the first round; generate there so the registries
+        // are compiled in the next round like any other source
+        if (!filtersByType.isEmpty() && !roundEnv.processingOver() && !failed) {
+            filtersByType.forEach(this::writeRegistry);
+            generated = true;
+        }
+        return false;
+    }
+
+    /**
+     * Validates one annotated element and records it under its filter type and order.
+     */
+    private void collect(Element element, TypeElement filterOrder) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(element, "@FilterOrder is only allowed on concrete filter classes");
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        String contextType = findContextType(type.asType());
+        if (contextType == null) {
+            error(element, "@FilterOrder class %s does not implement %s", type.getQualifiedName(), CONTEXT_FILTER);
+            return;
+        }
+        if (!isInstantiable(type)) {
+            error(element, "@FilterOrder class %s needs to be public, top-level or static, "
+                    + "with a public no-argument constructor", type.getQualifiedName());
+            return;
+        }
+
+        // Read value() and type(), falling back to the declared default of type()
+        AnnotationMirror mirror = findMirror(type, filterOrder);
+        int order = 0;
+        String filterType = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            String name = value.getKey().getSimpleName().toString();
+            if (name.equals("value")) {
+                order = (Integer) value.getValue().getValue();
+            } else if (name.equals("type")) {
+                filterType = ((Element) value.getValue().getValue()).getSimpleName().toString();
+            }
+        }
+
+        TreeMap<Integer, FilterEntry> filters = filtersByType.computeIfAbsent(filterType, k -> new TreeMap<>());
+        FilterEntry existing = filters.get(order);
+        if (existing != null) {
+            error(element, "Duplicate @FilterOrder(%d) for %s: %s and %s", order, filterType,
+                    existing.element.getQualifiedName(), type.getQualifiedName());
+            return;
+        }
+        if (!filters.isEmpty() && !filters.firstEntry().getValue().contextType.equals(contextType)) {
+            error(element, "Filter %s handles %s, but other %s filters handle %s", type.getQualifiedName(),
+                    contextType, filterType, filters.firstEntry().getValue().contextType);
+            return;
+        }
+        filters.put(order, new FilterEntry(type, order, contextType));
+    }
+
+    /**
+     * Returns the type argument of the {@code ContextFilter} supertype, or null if there is none.
+     */
+    private String findContextType(TypeMirror type) {
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype instanceof DeclaredType) {
+                DeclaredType declared = (DeclaredType) supertype;
+                TypeElement element = (TypeElement) declared.asElement();
+                if (element.getQualifiedName().contentEquals(CONTEXT_FILTER)) {
+                    return declared.getTypeArguments().isEmpty() ? "java.lang.Object"
+                            : declared.getTypeArguments().get(0).toString();
+                }
+            }
+            String found = findContextType(supertype);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isInstantiable(TypeElement type) {
+        if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    private static AnnotationMirror findMirror(TypeElement type, TypeElement annotation) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException("No @FilterOrder on " + type);
+    }
+
+    /**
+     * Writes {@code <Type>FilterRegistry} for one filter type.
+     */
+    private void writeRegistry(String filterType, TreeMap<Integer, FilterEntry> filters) {
+        String simpleName = registryName(filterType);
+        String contextType = filters.firstEntry().getValue().contextType;
+        List<Element> originating = new ArrayList<>();
+        filters.values().forEach(entry -> originating.add(entry.element));
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(REGISTRY_PACKAGE + "." + simpleName, originating.toArray(new Element[0]))
+                .openWriter())) {
+            out.println("package " + REGISTRY_PACKAGE + ";");
+            out.println();
+            out.println("import java.util.List;");
+            out.println();
+            out.println("/**");
+            out.println(" * The " + filterType + " filters in {@code @FilterOrder} order, generated at build time.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + simpleName + " implements " + FILTER_REGISTRY + "<" + contextType + "> {");
+            out.println();
+            out.println("    public static final " + simpleName + " INSTANCE = new " + simpleName + "();");
+            out.println();
+            out.println("    private " + simpleName + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + FILTER_TYPE + " getFilterType() {");
+            out.println("        return " + FILTER_TYPE + "." + filterType + ";");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public List<" + CONTEXT_FILTER + "<" + contextType + ">> createFilters() {");
+            out.println("        return List.of(");
+            int remaining = filters.size();
+            for (FilterEntry entry : filters.values()) {
+                out.println("                new " + entry.element.getQualifiedName() + "()"
+                        + (--remaining > 0 ? "," : "") + " // @FilterOrder(" + entry.order + ")");
+            }
+            out.println("        );");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * QUADRATIC_EQUATION becomes QuadraticEquationFilterRegistry.
+     */
+    static String registryName(String filterType) {
+        StringBuilder name = new StringBuilder();
+        for (String part : filterType.toLowerCase(Locale.ROOT).split("_")) {
+            if (!part.isEmpty()) {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return name.append("FilterRegistry").toString();
+    }
+
+    private void error(Element element, String format, Object... args) {
+        failed = true;
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+}
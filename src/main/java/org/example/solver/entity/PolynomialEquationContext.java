@@ -0,0 +1,81 @@
+package org.example.solver.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Working state of the cubic and quartic filter chains.
+ *
+ * <p>The coefficients are stored highest degree first, {@code a x^n + ... + constant}.
+ * The depressor filters substitute {@code x = t + shift} to remove the second-highest term and
+ * store the monic depressed polynomial {@code t^n + p t^(n-2) + q t^(n-3) + r} (r only for quartics).
+ * The roots are complex, in the parallel arrays {@code re} and {@code im}, sorted by real part
+ * and then by imaginary part. Arrays are reused between equations of the same degree.
+ */
+@Data
+@NoArgsConstructor
+public class PolynomialEquationContext {
+
+    // Marks a context whose roots have not been set by any filter
+    public static final int ROOTS_NOT_SET = -1;
+
+    private double[] coefficients;
+    private double shift;
+    private double p, q, r;
+    private int rootCount = ROOTS_NOT_SET;
+    private double[] re = new double[0];
+    private double[] im = new double[0];
+
+    /**
+     * Creates a context for the given coefficients.
+     *
+     * @param coefficients the coefficients, highest degree first
+     */
+    public PolynomialEquationContext(double... coefficients) {
+        reset(coefficients);
+    }
+
+    /**
+     * Prepares the context for a new polynomial, so that one instance can be reused.
+     * The root arrays are only reallocated when the degree grows.
+     *
+     * @param coefficients the coefficients, highest degree first; not copied
+     */
+    public void reset(double[] coefficients) {
+        this.coefficients = coefficients;
+        this.shift = 0;
+        this.p = 0;
+        this.q = 0;
+        this.r = 0;
+        this.rootCount = ROOTS_NOT_SET;
+        int degree = Math.max(coefficients.length - 1, 0);
+        if (re.length < degree) {
+            re = new double[degree];
+            im = new double[degree];
+        }
+    }
+
+    /**
+     * @return the degree implied by the number of coefficients
+     */
+    public int getDegree() {
+        return coefficients.length - 1;
+    }
+
+    /**
+     * Returns the roots in the packed layout {@code re1, im1, re2, im2, ...}.
+     *
+     * @return a new array of two doubles per root, or null if no filter has set the roots
+     */
+    public double[] getPackedRoots() {
+        if (rootCount == ROOTS_NOT_SET) {
+            return null;
+        }
+        double[] packed = new double[2 * rootCount];
+        for (int i = 0; i < rootCount; i++) {
+            packed[2 * i] = re[i];
+            packed[2 * i + 1] = im[i];
+        }
+        return packed;
+    }
+}
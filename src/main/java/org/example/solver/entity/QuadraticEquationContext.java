@@ -5,13 +5,187 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Working state of the quadratic filter chain.
+ * Roots are kept in primitive fields so that filters never allocate;
+ * {@link #getRoots()} builds the array form on demand.
+ */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class QuadraticEquationContext {
+
+    // Marks a context whose roots have not been set by any filter
+    public static final int ROOTS_NOT_SET = -1;
+
     private double a, b, c;
     private double discriminant;
-    private double[] roots;
     private double sqrtDiscriminant;
+    @Builder.Default
+    private int rootCount = ROOTS_NOT_SET;
+    @Builder.Default
+    private double root1 = Double.NaN;
+    @Builder.Default
+    private double root2 = Double.NaN;
+    // Complex-roots mode: a negative discriminant gives root1 ± i*imaginary instead of no roots
+    private boolean complexMode;
+    // Imaginary part of root1; root2 is its conjugate. Zero for real roots
+    private double imaginary;
+    // Status mode: the validators report invalid coefficients in status instead of throwing
+    private boolean statusMode;
+    // CoefficientStatus bits reported by the validators in status mode
+    private int status;
+
+    /**
+     * Prepares the context for a new equation, so that one instance can be reused.
+     *
+     * @param a coefficient of x^2
+     * @param b coefficient of x
+     * @param c constant term
+     */
+    public void reset(double a, double b, double c) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.discriminant = 0;
+        this.sqrtDiscriminant = 0;
+        this.rootCount = ROOTS_NOT_SET;
+        this.root1 = Double.NaN;
+        this.root2 = Double.NaN;
+        this.complexMode = false;
+        this.imaginary = 0;
+        this.statusMode = false;
+        this.status = 0;
+    }
+
+    /**
+     * Adds status bits reported by a validator.
+     *
+     * @param bits CoefficientStatus bits
+     */
+    public void addStatus(int bits) {
+        this.status |= bits;
+    }
+
+    /**
+     * Records that the equation has no real roots.
+     */
+    public void setNoRoots() {
+        this.rootCount = 0;
+        this.root1 = Double.NaN;
+        this.root2 = Double.NaN;
+        this.imaginary = Double.NaN;
+    }
+
+    /**
+     * Records a single root of multiplicity two.
+     *
+     * @param root the root
+     */
+    public void setSingleRoot(double root) {
+        this.rootCount = 1;
+        this.root1 = root;
+        this.root2 = root;
+        this.imaginary = 0;
+    }
+
+    /**
+     * Records two distinct real roots.
+     *
+     * @param root1 the first root
+     * @param root2 the second root
+     */
+    public void setTwoRoots(double root1, double root2) {
+        this.rootCount = 2;
+        this.root1 = root1;
+        this.root2 = root2;
+        this.imaginary = 0;
+    }
+
+    /**
+     * Records a pair of complex conjugate roots {@code real ± i*imaginary}.
+     *
+     * @param real      the common real part
+     * @param imaginary the imaginary part of the first root
+     */
+    public void setComplexRoots(double real, double imaginary) {
+        this.rootCount = 2;
+        this.root1 = real;
+        this.root2 = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Copies the roots in the packed layout of {@code QuadraticMath.solveComplex}:
+     * {@code re1, im1, re2, im2}, with a single root repeated and NaN when there are none.
+     *
+     * @param roots  receives the packed roots
+     * @param offset index of {@code re1} in {@code roots}
+     * @return the number of roots, 0 if no filter has set them
+     */
+    public int copyComplexRoots(double[] roots, int offset) {
+        if (rootCount <= 0) {
+            roots[offset] = Double.NaN;
+            roots[offset + 1] = Double.NaN;
+            roots[offset + 2] = Double.NaN;
+            roots[offset + 3] = Double.NaN;
+            return 0;
+        }
+        roots[offset] = root1;
+        roots[offset + 1] = imaginary;
+        roots[offset + 2] = root2;
+        roots[offset + 3] = imaginary == 0 ? 0 : -imaginary;
+        return rootCount;
+    }
+
+    /**
+     * Returns the roots as an array.
+     *
+     * @return the roots, or null if no filter has set them
+     */
+    public double[] getRoots() {
+        switch (rootCount) {
+            case ROOTS_NOT_SET:
+                return null;
+            case 1:
+                return new double[]{root1};
+            case 2:
+                return new double[]{root1, root2};
+            default:
+                return new double[0];
+        }
+    }
+
+    /**
+     * Sets the roots from an array, as the former {@code roots} property did.
+     *
+     * @param roots none, one or two roots, or null for roots not set
+     * @throws IllegalArgumentException if there are more than two roots
+     * @deprecated use {@link #setNoRoots()}, {@link #setSingleRoot(double)} or {@link #setTwoRoots(double, double)},
+     * which do not need an array
+     */
+    @Deprecated
+    public void setRoots(double[] roots) {
+        if (roots == null) {
+            this.rootCount = ROOTS_NOT_SET;
+            this.root1 = Double.NaN;
+            this.root2 = Double.NaN;
+            this.imaginary = 0;
+            return;
+        }
+        switch (roots.length) {
+            case 0:
+                setNoRoots();
+                break;
+            case 1:
+                setSingleRoot(roots[0]);
+                break;
+            case 2:
+                setTwoRoots(roots[0], roots[1]);
+                break;
+            default:
+                throw new IllegalArgumentException("a quadratic has at most 2 roots, got " + roots.length);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package org.example.solver.entity;
+
+import lombok.Data;
+
+/**
+ * Mutable, reusable holder for the real roots of one quadratic equation.
+ * A caller keeps one instance and passes it to every {@code solveInto} call,
+ * so solving does not allocate.
+ *
+ * <p>{@code count} is 0, 1 or 2. With a single root both {@code root1} and {@code root2}
+ * hold it; with no real roots both are NaN.
+ */
+@Data
+public class RootResult {
+    private int count;
+    private double root1 = Double.NaN;
+    private double root2 = Double.NaN;
+
+    /**
+     * Overwrites the holder in place.
+     *
+     * @param count number of real roots
+     * @param root1 the first root
+     * @param root2 the second root
+     */
+    public void set(int count, double root1, double root2) {
+        this.count = count;
+        this.root1 = root1;
+        this.root2 = root2;
+    }
+
+    /**
+     * Copies the roots into a new array, in the format returned by {@code solve}.
+     *
+     * @return an array of {@code count} roots
+     */
+    public double[] toArray() {
+        switch (count) {
+            case 1:
+                return new double[]{root1};
+            case 2:
+                return new double[]{root1, root2};
+            default:
+                return new double[0];
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.solver.enums;
 
 public enum ContextFilterType {
-    QUADRATIC_EQUATION
+    QUADRATIC_EQUATION,
+    CUBIC_EQUATION,
+    QUARTIC_EQUATION
 }
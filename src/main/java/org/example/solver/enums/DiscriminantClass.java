@@ -0,0 +1,30 @@
+package org.example.solver.enums;
+
+import org.example.solver.math.QuadraticMath;
+
+/**
+ * Classification of a discriminant with the EPSILON semantics of the filter chain.
+ */
+public enum DiscriminantClass {
+    NEGATIVE,
+    ZERO,
+    POSITIVE,
+    // NaN, or exactly EPSILON where no filter produces roots
+    UNDEFINED;
+
+    /**
+     * Classifies the given discriminant.
+     *
+     * @param discriminant the discriminant
+     * @return the class of the discriminant
+     */
+    public static DiscriminantClass of(double discriminant) {
+        if (QuadraticMath.isZero(discriminant)) {
+            return ZERO;
+        }
+        if (QuadraticMath.isPositive(discriminant)) {
+            return POSITIVE;
+        }
+        return QuadraticMath.isNegative(discriminant) ? NEGATIVE : UNDEFINED;
+    }
+}
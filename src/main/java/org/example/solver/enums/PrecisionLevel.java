@@ -0,0 +1,13 @@
+package org.example.solver.enums;
+
+/**
+ * Arithmetic used to certify the result of one equation, cheapest first.
+ */
+public enum PrecisionLevel {
+    /** Plain double discriminant, trusted because its error bound is small enough. */
+    DOUBLE,
+    /** Discriminant from FMA error-free products (Kahan's algorithm), within 2 ulp of the exact value. */
+    DOUBLE_DOUBLE,
+    /** Exact discriminant in BigDecimal; used for overflow and for values within rounding of ±EPSILON. */
+    BIG_DECIMAL
+}
@@ -0,0 +1,25 @@
+package org.example.solver.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code QuadraticEquationSolver.solveBatch} call. Batches are coarse, so every one is recorded.
+ */
+@Name("org.example.solver.QuadraticBatch")
+@Label("Quadratic Batch")
+@Category("Quadratic Solver")
+@Description("Solution of a batch of quadratic equations")
+@StackTrace(false)
+public final class QuadraticBatchEvent extends Event {
+
+    @Label("Equations")
+    public int length;
+
+    @Label("Engine")
+    public String engine;
+}
@@ -0,0 +1,38 @@
+package org.example.solver.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One {@code QuadraticEquationSolver.solve} or {@code solveInto} call.
+ * Only calls slower than the threshold are recorded; lower it with
+ * {@code org.example.solver.QuadraticSolve#threshold=0 ms} to see every call.
+ */
+@Name("org.example.solver.QuadraticSolve")
+@Label("Quadratic Solve")
+@Category("Quadratic Solver")
+@Description("Solution of one quadratic equation")
+@StackTrace(false)
+@Threshold("10 us")
+public final class QuadraticSolveEvent extends Event {
+
+    @Label("a")
+    public double a;
+
+    @Label("b")
+    public double b;
+
+    @Label("c")
+    public double c;
+
+    @Label("Root Count")
+    public int rootCount;
+
+    @Label("Discriminant Class")
+    public String discriminantClass;
+}
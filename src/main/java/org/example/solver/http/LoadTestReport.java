@@ -0,0 +1,31 @@
+package org.example.solver.http;
+
+import lombok.Value;
+
+/**
+ * Result of a {@link SolverLoadTest} run. Latencies are in nanoseconds.
+ */
+@Value
+public class LoadTestReport {
+    long requests;
+    long errors;
+    long elapsedNanos;
+    long p50Nanos;
+    long p99Nanos;
+    long p999Nanos;
+    long maxNanos;
+
+    /**
+     * @return completed requests per second
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : requests * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests (%d errors) in %.2f s: %.0f req/s, p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us",
+                requests, errors, elapsedNanos / 1e9, throughput(),
+                p50Nanos / 1e3, p99Nanos / 1e3, p999Nanos / 1e3, maxNanos / 1e3);
+    }
+}
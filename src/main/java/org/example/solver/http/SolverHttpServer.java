@@ -0,0 +1,335 @@
+package org.example.solver.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.lib.trace.PipelineTracer;
+import org.example.solver.entity.RootResult;
+import org.example.solver.io.BinaryRecordFormat;
+import org.example.solver.metrics.SolverMetrics;
+import org.example.solver.service.QuadraticEquationSolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.solver.io.BinaryRecordFormat.*;
+
+/**
+ * Serves a {@link QuadraticEquationSolver} over HTTP with the JDK's built-in server.
+ *
+ * <ul>
+ *   <li>{@code GET /solve?a=1&b=-3&c=2} answers {@code {"count":2,"roots":[2.0,1.0]}}.</li>
+ *   <li>{@code POST /solve/batch} takes a body of {@link BinaryRecordFormat} input records and answers
+ *   with one output record per input record, in the same order. Invalid coefficients do not fail the
+ *   batch: their rows carry their status.</li>
+ *   <li>{@code GET /metrics} answers the {@link SolverMetrics} in the Prometheus text format; they are
+ *   recorded only while {@link MetricsRegistry#isEnabled()}.</li>
+ *   <li>{@code GET /trace} dumps the stages of the pipeline runs sampled by the {@link PipelineTracer},
+ *   oldest first.</li>
+ * </ul>
+ * Invalid coefficients of {@code /solve} answer 400 with {@code {"error":"..."}}.
+ *
+ * <p>{@code /metrics} and {@code /trace} have no access control, and a trace holds the coefficients
+ * and intermediate values of the sampled requests. They are only bound when diagnostics are enabled at construction;
+ * otherwise they answer 404 like any unknown path.
+ *
+ * <p>The JDK server leaves Nagle's algorithm on, which costs a delayed-ACK round (~40 ms) on every small
+ * keep-alive response. It is turned off with the launch flag {@code -Dsun.net.httpserver.nodelay=true},
+ * a JVM-wide setting read once when the server classes load; the application sets it in
+ * {@code App} before creating a server.
+ *
+ * <p>Each request runs on its own virtual thread when the JVM provides
+ * {@code Executors.newVirtualThreadPerTaskExecutor()} (JDK 21+). Older JVMs fall back to a fixed
+ * pool of platform threads. The factory is looked up reflectively so the class still compiles
+ * and runs on JDK 17.
+ */
+@Slf4j
+public class SolverHttpServer implements AutoCloseable {
+
+    public static final String SOLVE_PATH = "/solve";
+    public static final String BATCH_PATH = "/solve/batch";
+    public static final String METRICS_PATH = "/metrics";
+    public static final String TRACE_PATH = "/trace";
+
+    // 64K records: 1.5 MB of request body
+    public static final int MAX_BATCH_RECORDS = 1 << 16;
+
+    private static final String JSON = "application/json";
+    private static final String BINARY = "application/octet-stream";
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    private final QuadraticEquationSolver solver;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Binds the server without the diagnostics endpoints; requests are accepted after {@link #start()}.
+     *
+     * @param solver  the solver answering the requests
+     * @param address the address to bind, port 0 for an ephemeral port
+     * @throws IOException if the address cannot be bound
+     */
+    public SolverHttpServer(QuadraticEquationSolver solver, InetSocketAddress address) throws IOException {
+        this(solver, address, false);
+    }
+
+    /**
+     * Binds the server; requests are accepted after {@link #start()}.
+     *
+     * @param solver      the solver answering the requests
+     * @param address     the address to bind, port 0 for an ephemeral port
+     * @param diagnostics whether to bind {@code /metrics} and {@code /trace}
+     * @throws IOException if the address cannot be bound
+     */
+    public SolverHttpServer(QuadraticEquationSolver solver, InetSocketAddress address, boolean diagnostics)
+            throws IOException {
+        this.solver = solver;
+        this.server = HttpServer.create(address, 0);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext(SOLVE_PATH, this::handleSolve);
+        server.createContext(BATCH_PATH, this::handleBatch);
+        if (diagnostics) {
+            server.createContext(METRICS_PATH, this::handleMetrics);
+            server.createContext(TRACE_PATH, this::handleTrace);
+            log.warn("Serving {} and {} without access control", METRICS_PATH, TRACE_PATH);
+        }
+    }
+
+    public void start() {
+        server.start();
+        log.info("Solver HTTP server listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits up to one second for exchanges in flight and stops the executor.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when available, otherwise a platform thread pool.
+     *
+     * @return the executor running request handlers
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            log.info("Handling requests on virtual threads");
+            return executor;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // Not on this JDK, or a preview feature that is not enabled
+            int threads = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+            log.info("Virtual threads unavailable, handling requests on {} platform threads", threads);
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    /**
+     * Handles {@code GET /solve?a=&b=&c=}.
+     */
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        try {
+            if (!SOLVE_PATH.equals(exchange.getRequestURI().getPath())) {
+                sendError(exchange, 404, "not found");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "use GET");
+                return;
+            }
+
+            String query = exchange.getRequestURI().getRawQuery();
+            RootResult result;
+            try {
+                double a = parameter(query, "a");
+                double b = parameter(query, "b");
+                double c = parameter(query, "c");
+                result = solver.solveInto(a, b, c, new RootResult());
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            send(exchange, 200, JSON, toJson(result).getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles {@code POST /solve/batch} with a binary body.
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        try {
+            if (!BATCH_PATH.equals(exchange.getRequestURI().getPath())) {
+                sendError(exchange, 404, "not found");
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "use POST");
+                return;
+            }
+
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readNBytes(MAX_BATCH_RECORDS * INPUT_RECORD_BYTES + 1);
+            }
+            if (body.length > MAX_BATCH_RECORDS * INPUT_RECORD_BYTES) {
+                sendError(exchange, 413, "at most " + MAX_BATCH_RECORDS + " records per batch");
+                return;
+            }
+            if (body.length % INPUT_RECORD_BYTES != 0) {
+                sendError(exchange, 400, "body is not a whole number of " + INPUT_RECORD_BYTES + "-byte records");
+                return;
+            }
+
+            // Unpack the records into columns
+            int records = body.length / INPUT_RECORD_BYTES;
+            ByteBuffer input = ByteBuffer.wrap(body).order(BYTE_ORDER);
+            double[] a = new double[records];
+            double[] b = new double[records];
+            double[] c = new double[records];
+            for (int i = 0; i < records; i++) {
+                int position = i * INPUT_RECORD_BYTES;
+                a[i] = input.getDouble(position + A_OFFSET);
+                b[i] = input.getDouble(position + B_OFFSET);
+                c[i] = input.getDouble(position + C_OFFSET);
+            }
+
+            double[] root1 = new double[records];
+            double[] root2 = new double[records];
+            int[] rootCount = new int[records];
+            int[] status = new int[records];
+            solver.solveBatch(a, b, c, 0, records, root1, root2, rootCount, status);
+
+            // Pack the results as output records
+            ByteBuffer output = ByteBuffer.allocate(records * OUTPUT_RECORD_BYTES).order(BYTE_ORDER);
+            for (int i = 0; i < records; i++) {
+                int position = i * OUTPUT_RECORD_BYTES;
+                output.putInt(position + COUNT_OFFSET, rootCount[i]);
+                output.putInt(position + STATUS_OFFSET, status[i]);
+                output.putDouble(position + ROOT1_OFFSET, root1[i]);
+                output.putDouble(position + ROOT2_OFFSET, root2[i]);
+            }
+            send(exchange, 200, BINARY, output.array());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles {@code GET /metrics}.
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "use GET");
+                return;
+            }
+            send(exchange, 200, PROMETHEUS_TEXT, SolverMetrics.global().scrape().getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles {@code GET /trace}.
+     */
+    private void handleTrace(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "use GET");
+                return;
+            }
+            send(exchange, 200, TEXT, PipelineTracer.global().dump().getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Finds a query parameter and parses it as a double.
+     *
+     * @throws IllegalArgumentException if the parameter is missing or not a number
+     */
+    static double parameter(String query, String name) {
+        if (query != null) {
+            int start = 0;
+            while (start <= query.length()) {
+                int end = query.indexOf('&', start);
+                if (end < 0) {
+                    end = query.length();
+                }
+                int equals = query.indexOf('=', start);
+                if (equals - start == name.length() && equals < end && query.startsWith(name, start)) {
+                    String value = URLDecoder.decode(query.substring(equals + 1, end), StandardCharsets.UTF_8);
+                    try {
+                        return Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException(name + " must be a numeric value");
+                    }
+                }
+                start = end + 1;
+            }
+        }
+        throw new IllegalArgumentException(name + " is required");
+    }
+
+    /**
+     * Formats a result as {@code {"count":n,"roots":[...]}}; non-finite roots become {@code null}.
+     */
+    static String toJson(RootResult result) {
+        StringBuilder json = new StringBuilder(64).append("{\"count\":").append(result.getCount()).append(",\"roots\":[");
+        double[] roots = {result.getRoot1(), result.getRoot2()};
+        for (int i = 0; i < result.getCount(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            if (Double.isFinite(roots[i])) {
+                json.append(roots[i]);
+            } else {
+                json.append("null");
+            }
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        String json = "{\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+        send(exchange, status, JSON, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
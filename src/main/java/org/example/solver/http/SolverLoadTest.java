@@ -0,0 +1,159 @@
+package org.example.solver.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop load generator for {@link SolverHttpServer}.
+ *
+ * <p>{@code concurrency} workers each send {@code GET /solve} requests back to back over
+ * keep-alive connections and time every request with {@link System#nanoTime()}. The first
+ * {@value #WARMUP_PERCENT}% of every worker's requests warm up the JIT on both sides and are not
+ * recorded. Equations are drawn from a fixed, pre-encoded set so that the client does not measure
+ * its own URI formatting.
+ */
+@Slf4j
+public class SolverLoadTest {
+
+    static final int WARMUP_PERCENT = 10;
+    private static final int DISTINCT_REQUESTS = 1024;
+
+    private final HttpClient client;
+    private final HttpRequest[] requests;
+    private final int concurrency;
+    private final long requestCount;
+
+    /**
+     * @param baseUri      the server root, e.g. {@code http://localhost:8080}
+     * @param concurrency  number of requests in flight
+     * @param requestCount number of recorded requests over all workers
+     */
+    public SolverLoadTest(URI baseUri, int concurrency, long requestCount) {
+        if (concurrency <= 0 || requestCount < concurrency) {
+            throw new IllegalArgumentException("concurrency must be positive and at most requestCount");
+        }
+        this.concurrency = concurrency;
+        this.requestCount = requestCount;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // Equations with integer roots r1, r2 in [-50, 50]: (x - r1)(x - r2)
+        Random random = new Random(42);
+        this.requests = new HttpRequest[DISTINCT_REQUESTS];
+        for (int i = 0; i < DISTINCT_REQUESTS; i++) {
+            int r1 = random.nextInt(101) - 50;
+            int r2 = random.nextInt(101) - 50;
+            URI uri = baseUri.resolve(SolverHttpServer.SOLVE_PATH + "?a=1&b=" + -(r1 + r2) + "&c=" + r1 * r2);
+            requests[i] = HttpRequest.newBuilder(uri).GET().build();
+        }
+    }
+
+    /**
+     * Runs the load and collects latency percentiles.
+     *
+     * @return the report of the recorded requests
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public LoadTestReport run() throws InterruptedException {
+        int perWorker = (int) (requestCount / concurrency);
+        int warmup = perWorker * WARMUP_PERCENT / 100;
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            // Warm up, then measure
+            runWorkers(workers, warmup, 0);
+            long started = System.nanoTime();
+            long[][] latencies = runWorkers(workers, perWorker, 1);
+            long elapsed = System.nanoTime() - started;
+
+            return report(latencies, elapsed);
+        } finally {
+            workers.shutdownNow();
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private long[][] runWorkers(ExecutorService workers, int perWorker, int seed) throws InterruptedException {
+        @SuppressWarnings("unchecked")
+        Future<long[]>[] futures = new Future[concurrency];
+        for (int w = 0; w < concurrency; w++) {
+            int offset = w * 31 + seed;
+            futures[w] = workers.submit(() -> runWorker(perWorker, offset));
+        }
+
+        long[][] latencies = new long[concurrency][];
+        for (int w = 0; w < concurrency; w++) {
+            try {
+                latencies[w] = futures[w].get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load test worker failed", e.getCause());
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Sends {@code count} requests; a failed request is recorded as a negative latency.
+     */
+    private long[] runWorker(int count, int offset) {
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = requests[(offset + i) % DISTINCT_REQUESTS];
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Arrays.copyOf(latencies, i);
+            }
+            long latency = System.nanoTime() - started;
+            latencies[i] = ok ? latency : -latency;
+        }
+        return latencies;
+    }
+
+    static LoadTestReport report(long[][] workerLatencies, long elapsedNanos) {
+        long total = 0;
+        for (long[] latencies : workerLatencies) {
+            total += latencies.length;
+        }
+
+        long[] all = new long[(int) total];
+        int size = 0;
+        long errors = 0;
+        for (long[] latencies : workerLatencies) {
+            for (long latency : latencies) {
+                if (latency < 0) {
+                    errors++;
+                }
+                all[size++] = Math.abs(latency);
+            }
+        }
+        Arrays.sort(all);
+
+        return new LoadTestReport(total, errors, elapsedNanos,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                all.length == 0 ? 0 : all[all.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.solver.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses decimal numbers straight from ASCII bytes.
+ *
+ * <p>Plain decimals such as {@code -12.5} or {@code 3e-4} with at most 15 significant digits
+ * and a decimal exponent within ±22 take Clinger's fast path: the digits are exact in a long,
+ * the power of ten is exact in a double, so a single multiplication or division gives the
+ * correctly rounded result without allocating. Anything else (more digits, large exponents,
+ * {@code NaN}, {@code Infinity}, hexadecimal) is handed to {@link Double#parseDouble}, which
+ * allocates a String but returns the same value.
+ *
+ * <p>Parsing never throws; a field that is not a number returns NaN and clears {@link #isValid()}.
+ * An instance keeps that flag and is therefore not thread-safe.
+ */
+public final class AsciiDoubleParser {
+
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final int MAX_FAST_EXPONENT = 22;
+    private static final double[] POWERS_OF_TEN = new double[MAX_FAST_EXPONENT + 1];
+
+    static {
+        double power = 1;
+        for (int i = 0; i <= MAX_FAST_EXPONENT; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private boolean valid;
+
+    /**
+     * Parses {@code bytes[from, to)}, ignoring surrounding spaces and tabs.
+     *
+     * @param bytes the buffer
+     * @param from  first byte of the field
+     * @param to    end of the field, exclusive
+     * @return the value, or NaN if the field is not a number
+     */
+    public double parse(byte[] bytes, int from, int to) {
+        // Trim blanks on both ends
+        while (from < to && isBlank(bytes[from])) {
+            from++;
+        }
+        while (to > from && isBlank(bytes[to - 1])) {
+            to--;
+        }
+        valid = false;
+        if (from == to) {
+            return Double.NaN;
+        }
+
+        int position = from;
+        boolean negative = false;
+        if (bytes[position] == '-' || bytes[position] == '+') {
+            negative = bytes[position] == '-';
+            position++;
+        }
+
+        // Mantissa: integer and fraction digits accumulated into one long
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (; position < to; position++) {
+            byte current = bytes[position];
+            if (current >= '0' && current <= '9') {
+                digits++;
+                if (mantissa == 0 && current == '0') {
+                    // Leading zeros are not significant
+                    if (fraction) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (++significantDigits > MAX_FAST_DIGITS) {
+                    return slowPath(bytes, from, to);
+                }
+                mantissa = mantissa * 10 + (current - '0');
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (current == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return slowPath(bytes, from, to);
+        }
+
+        // Optional exponent
+        if (position < to && (bytes[position] == 'e' || bytes[position] == 'E')) {
+            position++;
+            boolean negativeExponent = false;
+            if (position < to && (bytes[position] == '-' || bytes[position] == '+')) {
+                negativeExponent = bytes[position] == '-';
+                position++;
+            }
+            int exponentStart = position;
+            int explicitExponent = 0;
+            for (; position < to && bytes[position] >= '0' && bytes[position] <= '9'; position++) {
+                if (explicitExponent > 10_000) {
+                    return slowPath(bytes, from, to);
+                }
+                explicitExponent = explicitExponent * 10 + (bytes[position] - '0');
+            }
+            if (position == exponentStart) {
+                return invalid();
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (position != to) {
+            return slowPath(bytes, from, to);
+        }
+
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (exponent < -MAX_FAST_EXPONENT || exponent > MAX_FAST_EXPONENT) {
+            return slowPath(bytes, from, to);
+        } else if (exponent < 0) {
+            value = (double) mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            value = (double) mantissa * POWERS_OF_TEN[exponent];
+        }
+        valid = true;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Tells whether the last parsed field was a number.
+     *
+     * @return false if the last call returned NaN for a malformed field
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    private double slowPath(byte[] bytes, int from, int to) {
+        try {
+            double value = Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+            valid = true;
+            return value;
+        } catch (NumberFormatException e) {
+            return invalid();
+        }
+    }
+
+    private double invalid() {
+        valid = false;
+        return Double.NaN;
+    }
+
+    private static boolean isBlank(byte value) {
+        return value == ' ' || value == '\t';
+    }
+}
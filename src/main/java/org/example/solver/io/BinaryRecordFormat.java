@@ -0,0 +1,32 @@
+package org.example.solver.io;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary files read and written by the file jobs.
+ *
+ * <p>Input: packed records of three little-endian doubles {@code (a, b, c)}, 24 bytes each.
+ * <br>Output: one 24-byte little-endian record per input record:
+ * {@code int count, int status, double root1, double root2}. {@code count} is 0, 1 or 2;
+ * roots follow the batch conventions (a single root is repeated, missing roots are NaN).
+ * {@code status} is 0 for a regular row, or its {@code CoefficientStatus} when invalid rows are
+ * reported instead of rejected.
+ */
+public final class BinaryRecordFormat {
+
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    public static final int INPUT_RECORD_BYTES = 3 * Double.BYTES;
+    public static final int A_OFFSET = 0;
+    public static final int B_OFFSET = Double.BYTES;
+    public static final int C_OFFSET = 2 * Double.BYTES;
+
+    public static final int OUTPUT_RECORD_BYTES = 2 * Integer.BYTES + 2 * Double.BYTES;
+    public static final int COUNT_OFFSET = 0;
+    public static final int STATUS_OFFSET = Integer.BYTES;
+    public static final int ROOT1_OFFSET = 2 * Integer.BYTES;
+    public static final int ROOT2_OFFSET = 2 * Integer.BYTES + Double.BYTES;
+
+    private BinaryRecordFormat() {
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.solver.io;
+
+/**
+ * Arrangement of equations and results in a byte buffer, for {@link ByteBufferBatchSolver}.
+ */
+public enum BufferLayout {
+    /**
+     * Array of structs: the records of {@link BinaryRecordFormat}, i.e. {@code (a, b, c)} doubles per
+     * equation in, {@code (int count, int status, double root1, double root2)} per equation out.
+     */
+    AOS,
+    /**
+     * Struct of arrays: {@code count} doubles of a, then of b, then of c in; {@code count} doubles of
+     * root1, then of root2, then {@code count} ints of root counts out.
+     */
+    SOA
+}
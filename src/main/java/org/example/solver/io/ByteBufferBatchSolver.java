@@ -0,0 +1,137 @@
+package org.example.solver.io;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.batch.QuadraticBatchEngine;
+import org.example.solver.service.batch.QuadraticBatchEngines;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static org.example.solver.io.BinaryRecordFormat.*;
+
+/**
+ * Solves equations stored in byte buffers and writes the results into byte buffers,
+ * without staging them in heap arrays.
+ *
+ * <p>Works on any buffer: direct buffers shared with native code or channels, mapped files,
+ * or heap buffers. The data starts at each buffer's position; positions and limits are not
+ * modified. The layout and byte order are fixed per instance:
+ * <pre>
+ * ByteBufferBatchSolver solver = ByteBufferBatchSolver.builder()
+ *         .layout(BufferLayout.SOA)
+ *         .byteOrder(ByteOrder.nativeOrder())
+ *         .build();
+ * </pre>
+ * On JDKs with the final FFM API, a {@code MemorySegment} is solved in place by passing
+ * {@code segment.asByteBuffer()}, which is a view and copies nothing.
+ *
+ * <p>Results follow the batch conventions: a single root is repeated, missing roots are NaN.
+ * {@link BufferLayout#SOA} buffers are handed to the {@link QuadraticBatchEngine} column-wise, so
+ * they are vectorized when the Vector API is available; {@link BufferLayout#AOS} records are solved
+ * row by row. With SOA, an invalid row is reported with its index within the call.
+ *
+ * <p>With {@code reportStatus}, AOS records never raise for invalid coefficients: the
+ * {@link CoefficientStatus} of each row goes to its status field, rows with a zero {@code a} are
+ * solved as linear equations, and rows that cannot be solved get 0 roots. SOA results have no
+ * status column and are always validated.
+ */
+@Getter
+@Builder
+public class ByteBufferBatchSolver {
+
+    @Builder.Default
+    private final BufferLayout layout = BufferLayout.AOS;
+    @Builder.Default
+    private final ByteOrder byteOrder = BYTE_ORDER;
+    @Builder.Default
+    private final QuadraticBatchEngine engine = QuadraticBatchEngines.best();
+    // AOS only: write the row status instead of raising for invalid coefficients
+    @Builder.Default
+    private final boolean reportStatus = false;
+
+    // SOA results: root1, root2 and an int count per equation
+    private static final int SOA_OUTPUT_BYTES = 2 * Double.BYTES + Integer.BYTES;
+
+    /**
+     * Returns the number of input bytes holding {@code count} equations; the same in both layouts.
+     *
+     * @param count number of equations
+     * @return the input size in bytes
+     */
+    public long inputBytes(int count) {
+        return (long) count * INPUT_RECORD_BYTES;
+    }
+
+    /**
+     * Returns the number of output bytes holding the results of {@code count} equations.
+     *
+     * @param count number of equations
+     * @return the output size in bytes in this layout
+     */
+    public long outputBytes(int count) {
+        return (long) count * (layout == BufferLayout.AOS ? OUTPUT_RECORD_BYTES : SOA_OUTPUT_BYTES);
+    }
+
+    /**
+     * Solves {@code count} equations.
+     *
+     * @param coefficients the equations, from its position
+     * @param roots        receives the results, from its position
+     * @param count        number of equations
+     * @throws IndexOutOfBoundsException if a buffer has fewer remaining bytes than the layout needs
+     * @throws IllegalArgumentException  for the first equation with invalid coefficients, unless AOS
+     *                                   records report their status; the results of earlier
+     *                                   equations are already written
+     */
+    public void solve(ByteBuffer coefficients, ByteBuffer roots, int count) {
+        solve(coefficients, roots, count, 0);
+    }
+
+    /**
+     * Solves {@code count} equations; AOS rows are numbered from {@code firstRow} in error messages.
+     */
+    void solve(ByteBuffer coefficients, ByteBuffer roots, int count, long firstRow) {
+        Objects.checkFromIndexSize(0, inputBytes(count), coefficients.remaining());
+        Objects.checkFromIndexSize(0, outputBytes(count), roots.remaining());
+
+        // Views in the configured byte order; the caller's buffers keep their state
+        ByteBuffer in = coefficients.duplicate().order(byteOrder);
+        ByteBuffer out = roots.duplicate().order(byteOrder);
+        if (layout == BufferLayout.AOS) {
+            solveAos(in, in.position(), out, out.position(), count, firstRow, reportStatus);
+        } else {
+            // Rows of a column are contiguous, so the batch engine can work on whole vectors
+            engine.solveColumns(in, in.position(), out, out.position(), count, 0, count);
+        }
+    }
+
+    private static void solveAos(ByteBuffer in, int inBase, ByteBuffer out, int outBase, int count, long firstRow,
+                                 boolean reportStatus) {
+        RootResult result = new RootResult();
+        for (int i = 0; i < count; i++) {
+            int inPosition = inBase + i * INPUT_RECORD_BYTES;
+            double a = in.getDouble(inPosition + A_OFFSET);
+            double b = in.getDouble(inPosition + B_OFFSET);
+            double c = in.getDouble(inPosition + C_OFFSET);
+            int status = 0;
+            if (QuadraticMath.isValid(a, b, c)) {
+                QuadraticMath.solve(a, b, c, result);
+            } else if (reportStatus) {
+                status = QuadraticMath.solveChecked(a, b, c, result);
+            } else {
+                CoefficientStatus.validateRow(a, b, c, firstRow + i);
+            }
+
+            int outPosition = outBase + i * OUTPUT_RECORD_BYTES;
+            out.putInt(outPosition + COUNT_OFFSET, result.getCount());
+            out.putInt(outPosition + STATUS_OFFSET, status);
+            out.putDouble(outPosition + ROOT1_OFFSET, result.getRoot1());
+            out.putDouble(outPosition + ROOT2_OFFSET, result.getRoot2());
+        }
+    }
+}
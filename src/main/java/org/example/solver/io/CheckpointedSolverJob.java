@@ -0,0 +1,219 @@
+package org.example.solver.io;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static org.example.solver.io.BinaryRecordFormat.*;
+
+/**
+ * Solves a binary file of coefficient triples into a binary file of roots, like
+ * {@link MappedFileSolverJob}, in numbered segments that survive a crash.
+ *
+ * <p>After each segment the output is forced to disk and a {@link SolverJobCheckpoint} is
+ * committed to the journal next to the output ({@code <output>.journal}). A run that finds a
+ * journal resumes after its last completed segment: it checks the checksum of that segment,
+ * truncates whatever a crashed segment left behind and goes on, so no output row is missing or
+ * written twice. The journal is deleted once the job completes.
+ *
+ * <p>The segment size trades checkpoint overhead, one fsync of the output and one of the journal
+ * per segment, against the work redone after a crash, at most one segment. Invalid coefficients do
+ * not stop the job: their rows are written with their status, see {@link BinaryRecordFormat}.
+ */
+@Slf4j
+public class CheckpointedSolverJob {
+
+    // 4M records: 96 MB of input and 96 MB of output per checkpoint
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 22;
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /**
+     * Where a run stopped.
+     */
+    @Value
+    public static class Progress {
+        long records;
+        long completedRecords;
+        // Segments solved by this run, not counting those of earlier runs
+        long solvedSegments;
+        boolean resumed;
+
+        public boolean isComplete() {
+            return completedRecords == records;
+        }
+    }
+
+    private final int segmentRecords;
+    private final ByteBufferBatchSolver batchSolver = ByteBufferBatchSolver.builder()
+            .layout(BufferLayout.AOS)
+            .byteOrder(BYTE_ORDER)
+            .reportStatus(true)
+            .build();
+
+    public CheckpointedSolverJob() {
+        this(DEFAULT_SEGMENT_RECORDS);
+    }
+
+    /**
+     * Creates a job committing a checkpoint every {@code segmentRecords} records.
+     *
+     * @param segmentRecords records per segment
+     */
+    public CheckpointedSolverJob(int segmentRecords) {
+        if (segmentRecords <= 0 || (long) segmentRecords * OUTPUT_RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentRecords must be positive and map less than 2 GB");
+        }
+        this.segmentRecords = segmentRecords;
+    }
+
+    /**
+     * @return the journal of a job writing the given output
+     */
+    public static Path journalOf(Path output) {
+        return output.resolveSibling(output.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Solves every record of the input file into the output file, resuming from the journal if there is one.
+     *
+     * @param input  the coefficient file
+     * @param output the root file
+     * @return the progress, complete unless an exception is thrown
+     * @throws IOException              if a file cannot be read, written or mapped
+     * @throws IllegalArgumentException if the input is truncated
+     * @throws IllegalStateException    if the journal does not match the input, the segment size or the output
+     */
+    public Progress run(Path input, Path output) throws IOException {
+        return run(input, output, Long.MAX_VALUE);
+    }
+
+    /**
+     * Solves at most {@code maxSegments} segments, then stops with the checkpoint committed,
+     * so that a long job can also be run in slices.
+     *
+     * @param input       the coefficient file
+     * @param output      the root file
+     * @param maxSegments the number of segments to solve in this run
+     * @return the progress after this run
+     * @throws IOException              if a file cannot be read, written or mapped
+     * @throws IllegalArgumentException if the input is truncated
+     * @throws IllegalStateException    if the journal does not match the input, the segment size or the output
+     */
+    public Progress run(Path input, Path output, long maxSegments) throws IOException {
+        Path journal = journalOf(output);
+        SolverJobCheckpoint checkpoint = SolverJobCheckpoint.read(journal);
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE)) {
+
+            long inputBytes = in.size();
+            long records = MappedFileSolverJob.recordCount(inputBytes);
+            long segments = (records + segmentRecords - 1) / segmentRecords;
+
+            // Start over, or resume after the last committed segment
+            boolean resumed = checkpoint != null;
+            if (resumed) {
+                verify(checkpoint, inputBytes, out, output);
+                log.info("Resuming {} at segment {} of {}", output, checkpoint.getCompletedSegments(), segments);
+            } else {
+                checkpoint = new SolverJobCheckpoint(inputBytes, segmentRecords, 0, 0, 0);
+                log.info("Solving {} records from {} into {} in {} segments", records, input, output, segments);
+            }
+            // Drops the rows of a segment that crashed before its checkpoint, or a stale output
+            out.truncate(checkpoint.getOutputBytes());
+
+            long solved = 0;
+            for (long segment = checkpoint.getCompletedSegments(); segment < segments && solved < maxSegments; segment++) {
+                long first = segment * segmentRecords;
+                int count = (int) Math.min(segmentRecords, records - first);
+                int segmentCrc = solveSegment(in, out, first, count);
+
+                checkpoint = new SolverJobCheckpoint(inputBytes, segmentRecords, segment + 1,
+                        (first + count) * OUTPUT_RECORD_BYTES, segmentCrc);
+                checkpoint.write(journal);
+                solved++;
+                log.debug("Committed segment {} of {}", segment + 1, segments);
+            }
+
+            long completedRecords = Math.min(checkpoint.getCompletedSegments() * segmentRecords, records);
+            Progress progress = new Progress(records, completedRecords, solved, resumed);
+            if (progress.isComplete()) {
+                Files.deleteIfExists(journal);
+                log.info("Solved {} records into {}", records, output);
+            }
+            return progress;
+        }
+    }
+
+    /**
+     * Maps one segment of both files, solves it, forces the output to disk and unmaps both segments.
+     *
+     * @return the CRC32C of the segment's output
+     */
+    int solveSegment(FileChannel in, FileChannel out, long first, int count) throws IOException {
+        MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY,
+                first * INPUT_RECORD_BYTES, (long) count * INPUT_RECORD_BYTES);
+        MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE,
+                first * OUTPUT_RECORD_BYTES, (long) count * OUTPUT_RECORD_BYTES);
+        try {
+            batchSolver.solve(source, target, count, first);
+            // The mapped rows, then the file size the mapping may have grown
+            target.force();
+            out.force(true);
+
+            CRC32C crc = new CRC32C();
+            crc.update(target.clear());
+            return (int) crc.getValue();
+        } finally {
+            MappedBuffers.unmap(source);
+            MappedBuffers.unmap(target);
+        }
+    }
+
+    /**
+     * Checks that a checkpoint belongs to this input, this segment size and this output.
+     * Only the last completed segment is read back, so resuming costs one segment whatever the output size.
+     */
+    private void verify(SolverJobCheckpoint checkpoint, long inputBytes, FileChannel out, Path output)
+            throws IOException {
+        String restart = "; delete " + journalOf(output) + " to start over";
+        if (checkpoint.getInputBytes() != inputBytes) {
+            throw new IllegalStateException("The journal was written for an input of " + checkpoint.getInputBytes()
+                    + " bytes, not " + inputBytes + restart);
+        }
+        if (checkpoint.getSegmentRecords() != segmentRecords) {
+            throw new IllegalStateException("The journal was written with segments of " + checkpoint.getSegmentRecords()
+                    + " records, not " + segmentRecords + restart);
+        }
+        if (out.size() < checkpoint.getOutputBytes()) {
+            throw new IllegalStateException("The output has " + out.size() + " bytes, fewer than the "
+                    + checkpoint.getOutputBytes() + " committed" + restart);
+        }
+        if (checkpoint.getCompletedSegments() == 0) {
+            return;
+        }
+
+        long last = (checkpoint.getCompletedSegments() - 1) * segmentRecords * OUTPUT_RECORD_BYTES;
+        MappedByteBuffer committed = out.map(FileChannel.MapMode.READ_ONLY, last, checkpoint.getOutputBytes() - last);
+        CRC32C crc = new CRC32C();
+        try {
+            crc.update(committed);
+        } finally {
+            // Unmapped before run truncates the file, which fails on Windows while a mapping is open
+            MappedBuffers.unmap(committed);
+        }
+        if ((int) crc.getValue() != checkpoint.getSegmentCrc()) {
+            throw new IllegalStateException("Segment " + (checkpoint.getCompletedSegments() - 1)
+                    + " of the output fails its checksum" + restart);
+        }
+    }
+}
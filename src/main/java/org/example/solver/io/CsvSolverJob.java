@@ -0,0 +1,248 @@
+package org.example.solver.io;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streams a CSV of coefficients into a CSV of roots.
+ *
+ * <p>Input: one equation per line, {@code a,b,c}; blank lines are skipped and {@code \r\n}
+ * line ends are accepted. Output: one line per input row, {@code count,root1,root2}, with the
+ * batch conventions (a single root is repeated) and empty fields for missing roots.
+ *
+ * <p>Bytes are read into a reusable buffer and the fields are parsed in place by an
+ * {@link AsciiDoubleParser}; roots are formatted into a reusable {@link StringBuilder} and copied
+ * into a reusable output buffer. A well-formed row therefore costs no String or array.
+ *
+ * <p>A row that cannot be solved does not stop the job: it is passed to the
+ * {@link RowErrorListener} and written as {@code error,,} so that output lines stay aligned
+ * with input rows.
+ */
+@Slf4j
+public class CsvSolverJob {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final String OUTPUT_HEADER = "count,root1,root2";
+
+    private static final byte[] ERROR_ROW = "error,,\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Receives the rows the job could not solve.
+     */
+    @FunctionalInterface
+    public interface RowErrorListener {
+
+        /**
+         * @param line    1-based line number in the input
+         * @param message what is wrong with the row
+         */
+        void onError(long line, String message);
+    }
+
+    /**
+     * Counters of a finished run.
+     */
+    @Value
+    public static class Summary {
+        long rows;
+        long solved;
+        long errors;
+    }
+
+    private final boolean header;
+    private final RowErrorListener errorListener;
+    private final AsciiDoubleParser parser = new AsciiDoubleParser();
+    private final RootResult result = new RootResult();
+    private final StringBuilder formatted = new StringBuilder(64);
+
+    private byte[] input = new byte[DEFAULT_BUFFER_SIZE];
+    private final byte[] output = new byte[DEFAULT_BUFFER_SIZE];
+    private int outputLength;
+
+    /**
+     * Creates a job that logs rejected rows.
+     *
+     * @param header whether the first line of the input is a header to skip
+     */
+    public CsvSolverJob(boolean header) {
+        this(header, (line, message) -> log.warn("Skipping line {}: {}", line, message));
+    }
+
+    /**
+     * @param header        whether the first line of the input is a header to skip;
+     *                      the output then starts with {@link #OUTPUT_HEADER}
+     * @param errorListener receives the rows that cannot be solved
+     */
+    public CsvSolverJob(boolean header, RowErrorListener errorListener) {
+        this.header = header;
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Solves every row of {@code in} into {@code out}. Neither stream is closed; {@code out} is flushed.
+     * A job instance reuses its buffers and must not run on two threads at once.
+     *
+     * @param in  the coefficient CSV
+     * @param out receives the root CSV
+     * @return the row counters
+     * @throws IOException if a stream fails
+     */
+    public Summary run(InputStream in, OutputStream out) throws IOException {
+        long line = 0;
+        long rows = 0;
+        long errors = 0;
+        outputLength = 0;
+        if (header) {
+            formatted.setLength(0);
+            formatted.append(OUTPUT_HEADER).append('\n');
+            writeFormatted(out);
+        }
+
+        int start = 0;
+        int end = 0;
+        boolean eof = false;
+        while (true) {
+            // Find the end of the next line in the buffer
+            int newline = indexOf(input, start, end, (byte) '\n');
+            if (newline < 0 && !eof) {
+                // Move the partial line to the front, grow the buffer if a line fills it, and refill
+                if (start > 0) {
+                    System.arraycopy(input, start, input, 0, end - start);
+                    end -= start;
+                    start = 0;
+                }
+                if (end == input.length) {
+                    input = Arrays.copyOf(input, input.length * 2);
+                }
+                int read = in.read(input, end, input.length - end);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    end += read;
+                }
+                continue;
+            }
+            int lineEnd = newline < 0 ? end : newline;
+            if (newline < 0 && start == end) {
+                break;
+            }
+
+            line++;
+            int contentEnd = lineEnd > start && input[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            if (!(line == 1 && header) && !isBlankLine(input, start, contentEnd)) {
+                rows++;
+                if (!solveRow(start, contentEnd, line, out)) {
+                    errors++;
+                }
+            }
+            start = newline < 0 ? end : newline + 1;
+        }
+
+        flush(out);
+        return new Summary(rows, rows - errors, errors);
+    }
+
+    /**
+     * Parses, solves and writes one row.
+     *
+     * @return false if the row was rejected
+     */
+    private boolean solveRow(int from, int to, long line, OutputStream out) throws IOException {
+        // Split the three fields in place
+        int firstComma = indexOf(input, from, to, (byte) ',');
+        int secondComma = firstComma < 0 ? -1 : indexOf(input, firstComma + 1, to, (byte) ',');
+        if (secondComma < 0 || indexOf(input, secondComma + 1, to, (byte) ',') >= 0) {
+            return reject(line, "expected 3 fields", out);
+        }
+
+        double a = parser.parse(input, from, firstComma);
+        if (!parser.isValid()) {
+            return reject(line, "a is not a number", out);
+        }
+        double b = parser.parse(input, firstComma + 1, secondComma);
+        if (!parser.isValid()) {
+            return reject(line, "b is not a number", out);
+        }
+        double c = parser.parse(input, secondComma + 1, to);
+        if (!parser.isValid()) {
+            return reject(line, "c is not a number", out);
+        }
+        if (!QuadraticMath.isValid(a, b, c)) {
+            return reject(line, CoefficientStatus.message(CoefficientStatus.of(a, b, c)), out);
+        }
+
+        QuadraticMath.solve(a, b, c, result);
+
+        // Format count,root1,root2
+        formatted.setLength(0);
+        formatted.append(result.getCount()).append(',');
+        if (result.getCount() > 0) {
+            formatted.append(result.getRoot1()).append(',').append(result.getRoot2());
+        } else {
+            formatted.append(',');
+        }
+        formatted.append('\n');
+        writeFormatted(out);
+        return true;
+    }
+
+    private boolean reject(long line, String message, OutputStream out) throws IOException {
+        errorListener.onError(line, message);
+        write(ERROR_ROW, out);
+        return false;
+    }
+
+    /**
+     * Copies the ASCII content of the formatting builder into the output buffer.
+     */
+    private void writeFormatted(OutputStream out) throws IOException {
+        int length = formatted.length();
+        if (outputLength + length > output.length) {
+            flush(out);
+        }
+        for (int i = 0; i < length; i++) {
+            output[outputLength++] = (byte) formatted.charAt(i);
+        }
+    }
+
+    private void write(byte[] bytes, OutputStream out) throws IOException {
+        if (outputLength + bytes.length > output.length) {
+            flush(out);
+        }
+        System.arraycopy(bytes, 0, output, outputLength, bytes.length);
+        outputLength += bytes.length;
+    }
+
+    private void flush(OutputStream out) throws IOException {
+        out.write(output, 0, outputLength);
+        outputLength = 0;
+        out.flush();
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBlankLine(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.solver.io;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Releases memory mappings without waiting for the garbage collector.
+ *
+ * <p>A {@link MappedByteBuffer} is only unmapped when it is collected, so a job mapping window
+ * after window can hold thousands of mappings and hit the {@code vm.max_map_count} limit before a
+ * GC runs. The JDK has no public unmap, so {@code sun.misc.Unsafe.invokeCleaner} of the
+ * {@code jdk.unsupported} module is looked up once; where it is missing, mappings are left to the GC.
+ */
+@Slf4j
+final class MappedBuffers {
+
+    // Unsafe.invokeCleaner bound to the Unsafe instance, or null when it is not available
+    private static final MethodHandle INVOKE_CLEANER = lookupInvokeCleaner();
+
+    private MappedBuffers() {
+    }
+
+    /**
+     * Unmaps a buffer. The buffer and every view of it must not be used afterwards.
+     *
+     * @param buffer a mapped buffer that is no longer needed
+     */
+    static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            // The mapping stays until the buffer is collected
+            log.debug("Could not unmap buffer", e);
+        }
+    }
+
+    private static MethodHandle lookupInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Mapped buffers are unmapped by the garbage collector", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.solver.io;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.example.solver.io.BinaryRecordFormat.*;
+
+/**
+ * Solves a binary file of coefficient triples into a binary file of roots,
+ * both in {@link BinaryRecordFormat}.
+ *
+ * <p>The files are processed in windows of a fixed number of records. Every window of the
+ * input and of the output is memory-mapped with {@link FileChannel#map} and solved in place by a
+ * {@link ByteBufferBatchSolver}, without copying through heap arrays. Because only one window
+ * is mapped at a time, file size is not limited by the 2 GB mapping limit or by the heap.
+ *
+ * <p>Each window of the output is forced to disk and both windows are unmapped before the next
+ * one is mapped, see {@link MappedBuffers}. Invalid coefficients do not stop the job: their rows
+ * are written with their status, see {@link BinaryRecordFormat}. A run that fails on an I/O error
+ * leaves a partial output file holding the windows solved so far; use
+ * {@link CheckpointedSolverJob} to resume such a run.
+ */
+@Slf4j
+public class MappedFileSolverJob {
+
+    // 1M records: 24 MB of input and 24 MB of output per window
+    public static final int DEFAULT_WINDOW_RECORDS = 1 << 20;
+
+    private final int windowRecords;
+    private final ByteBufferBatchSolver batchSolver = ByteBufferBatchSolver.builder()
+            .layout(BufferLayout.AOS)
+            .byteOrder(BYTE_ORDER)
+            .reportStatus(true)
+            .build();
+
+    public MappedFileSolverJob() {
+        this(DEFAULT_WINDOW_RECORDS);
+    }
+
+    /**
+     * Creates a job mapping {@code windowRecords} records at a time.
+     *
+     * @param windowRecords records per mapped window
+     */
+    public MappedFileSolverJob(int windowRecords) {
+        if (windowRecords <= 0 || (long) windowRecords * OUTPUT_RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("windowRecords must be positive and map less than 2 GB");
+        }
+        this.windowRecords = windowRecords;
+    }
+
+    /**
+     * Solves every record of the input file into the output file, which is created or truncated.
+     * If an exception is thrown after the first window, the output is left partially written.
+     *
+     * @param input  the coefficient file
+     * @param output the root file
+     * @return the number of solved records
+     * @throws IOException              if a file cannot be read, written or mapped
+     * @throws IllegalArgumentException if the input is truncated, before anything is written
+     */
+    public long run(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            // Checked before the output is opened, so that a truncated input leaves it untouched
+            long records = recordCount(in.size());
+
+            try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                log.info("Solving {} records from {} into {}", records, input, output);
+                long started = System.nanoTime();
+
+                for (long first = 0; first < records; first += windowRecords) {
+                    int count = (int) Math.min(windowRecords, records - first);
+                    solveWindow(in, out, first, count);
+                }
+                // The windows' data is on disk; this also persists the file size they grew it to
+                out.force(true);
+
+                log.info("Solved {} records in {} ms", records, (System.nanoTime() - started) / 1_000_000);
+                return records;
+            }
+        }
+    }
+
+    /**
+     * Maps one window of both files, solves it, forces the output to disk and unmaps both windows.
+     *
+     * @param in    the input channel
+     * @param out   the output channel, extended by the mapping as needed
+     * @param first index of the first record of the window
+     * @param count number of records in the window
+     */
+    void solveWindow(FileChannel in, FileChannel out, long first, int count) throws IOException {
+        MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY,
+                first * INPUT_RECORD_BYTES, (long) count * INPUT_RECORD_BYTES);
+        MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE,
+                first * OUTPUT_RECORD_BYTES, (long) count * OUTPUT_RECORD_BYTES);
+        try {
+            batchSolver.solve(source, target, count, first);
+            target.force();
+        } finally {
+            MappedBuffers.unmap(source);
+            MappedBuffers.unmap(target);
+        }
+    }
+
+    /**
+     * Returns the number of records in an input file of the given size.
+     *
+     * @param inputBytes the size of the input file
+     * @return the number of records
+     */
+    static long recordCount(long inputBytes) {
+        if (inputBytes % INPUT_RECORD_BYTES != 0) {
+            throw new IllegalArgumentException("Input size " + inputBytes
+                    + " is not a multiple of the " + INPUT_RECORD_BYTES + "-byte record size");
+        }
+        return inputBytes / INPUT_RECORD_BYTES;
+    }
+}
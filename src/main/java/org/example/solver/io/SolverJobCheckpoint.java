@@ -0,0 +1,130 @@
+package org.example.solver.io;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Progress journal of a {@link CheckpointedSolverJob}: what was committed after the last completed segment.
+ *
+ * <p>On disk it is one fixed 44-byte little-endian record:
+ * {@code int magic, int version, long inputBytes, int segmentRecords, long completedSegments,
+ * long outputBytes, int segmentCrc, int journalCrc}. {@code journalCrc} is the CRC32C of
+ * the bytes before it. The journal is written to a temporary file, forced to disk and then moved
+ * over the previous one, so a crash leaves either the old or the new checkpoint and never a torn one.
+ */
+@Slf4j
+@Value
+public class SolverJobCheckpoint {
+
+    public static final int JOURNAL_BYTES = 44;
+
+    private static final int MAGIC = 0x51434B50; // "QCKP"
+    private static final int VERSION = 1;
+    private static final ByteOrder JOURNAL_BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // Size of the input file the job was started on
+    long inputBytes;
+    int segmentRecords;
+    long completedSegments;
+    // Bytes of output committed; anything past it is discarded on resume
+    long outputBytes;
+    // CRC32C of the output bytes of the last completed segment, 0 before the first one
+    int segmentCrc;
+
+    /**
+     * Reads a journal.
+     *
+     * @param journal the journal file
+     * @return the checkpoint, or null if there is no journal
+     * @throws IOException           if the journal cannot be read
+     * @throws IllegalStateException if the file is not a valid journal
+     */
+    public static SolverJobCheckpoint read(Path journal) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(journal);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (bytes.length != JOURNAL_BYTES) {
+            throw new IllegalStateException("Journal " + journal + " has " + bytes.length
+                    + " bytes instead of " + JOURNAL_BYTES);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(JOURNAL_BYTE_ORDER);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Journal " + journal + " is not a version " + VERSION + " solver journal");
+        }
+        if (buffer.getInt(JOURNAL_BYTES - Integer.BYTES) != crc(buffer, JOURNAL_BYTES - Integer.BYTES)) {
+            throw new IllegalStateException("Journal " + journal + " fails its checksum");
+        }
+        buffer.position(8);
+        return new SolverJobCheckpoint(buffer.getLong(), buffer.getInt(), buffer.getLong(), buffer.getLong(),
+                buffer.getInt());
+    }
+
+    /**
+     * Replaces the journal with this checkpoint, durably: once this returns, the checkpoint survives a crash.
+     *
+     * @param journal the journal file
+     * @throws IOException if the journal cannot be written
+     */
+    public void write(Path journal) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(JOURNAL_BYTES).order(JOURNAL_BYTE_ORDER)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(inputBytes)
+                .putInt(segmentRecords)
+                .putLong(completedSegments)
+                .putLong(outputBytes)
+                .putInt(segmentCrc);
+        buffer.putInt(crc(buffer, buffer.position()));
+        buffer.flip();
+
+        // Write and force a temporary file, then move it over the journal in one step
+        Path temporary = journal.resolveSibling(journal.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temporary, journal, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, journal, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(journal.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces a directory, so that a rename in it is durable. Not every platform can open a
+     * directory; there the rename is left to the file system.
+     */
+    static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Cannot force directory {}: {}", directory, e.toString());
+        }
+    }
+
+    private static int crc(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.solver.math;
+
+import org.example.lib.ValueValidator;
+
+/**
+ * Per-row status codes of the exception-free validation mode.
+ *
+ * <p>A status is a bitmask describing the coefficients, with the {@link ValueValidator} check flags
+ * of {@code a}, {@code b} and {@code c} at {@link #A_SHIFT}, {@link #B_SHIFT} and {@link #C_SHIFT}.
+ * 0 means a regular quadratic. A row with {@link #A_ZERO} and finite {@code b} and {@code c} is
+ * solved as the linear equation {@code bx + c = 0}, with one root {@code -c / b}; when {@code b}
+ * is zero too, {@link #B_ZERO} is added and the row has no roots. A row with any {@link #INVALID}
+ * bit has no roots.
+ *
+ * <p>The throwing entry points validate through {@link #validate} and {@link #validateRow}, so that
+ * every one of them raises the same messages as the validator filters.
+ */
+public final class CoefficientStatus {
+
+    public static final int A_SHIFT = 0;
+    public static final int B_SHIFT = 3;
+    public static final int C_SHIFT = 6;
+
+    public static final int A_NAN = ValueValidator.NAN << A_SHIFT;
+    public static final int A_INFINITE = ValueValidator.INFINITE << A_SHIFT;
+    public static final int A_ZERO = ValueValidator.ZERO << A_SHIFT;
+    public static final int B_NAN = ValueValidator.NAN << B_SHIFT;
+    public static final int B_INFINITE = ValueValidator.INFINITE << B_SHIFT;
+    // Only set together with A_ZERO: the equation has no unknown left
+    public static final int B_ZERO = ValueValidator.ZERO << B_SHIFT;
+    public static final int C_NAN = ValueValidator.NAN << C_SHIFT;
+    public static final int C_INFINITE = ValueValidator.INFINITE << C_SHIFT;
+
+    // Every non-numeric coefficient bit
+    public static final int INVALID = A_NAN | A_INFINITE | B_NAN | B_INFINITE | C_NAN | C_INFINITE;
+
+    private static final ValueValidator VALUE_VALIDATOR = new ValueValidator();
+
+    private CoefficientStatus() {
+    }
+
+    /**
+     * Computes the status of one row the way the validator filters report it in status mode.
+     *
+     * @return 0 for a regular quadratic, otherwise the bits described above
+     */
+    public static int of(double a, double b, double c) {
+        if (QuadraticMath.isValid(a, b, c)) {
+            return 0;
+        }
+        int status = (VALUE_VALIDATOR.checkNotZero(a) | VALUE_VALIDATOR.checkNumeric(a)) << A_SHIFT
+                | VALUE_VALIDATOR.checkNumeric(b) << B_SHIFT
+                | VALUE_VALIDATOR.checkNumeric(c) << C_SHIFT;
+        if (status == A_ZERO) {
+            status |= VALUE_VALIDATOR.checkNotZero(b) << B_SHIFT;
+        }
+        return status;
+    }
+
+    /**
+     * @return true if the row is a linear equation with one root
+     */
+    public static boolean isLinear(int status) {
+        return status == A_ZERO;
+    }
+
+    /**
+     * @return true if the row has roots computed from its coefficients: a quadratic or a linear row
+     */
+    public static boolean isSolvable(int status) {
+        return status == 0 || status == A_ZERO;
+    }
+
+    /**
+     * Returns the message the throwing validators raise for a row with this status,
+     * so that it is only built when someone asks for it.
+     *
+     * @return the first validator message, or null for status 0
+     */
+    public static String message(int status) {
+        if ((status & A_ZERO) != 0) {
+            return "a cannot be zero";
+        }
+        if ((status & (A_NAN | A_INFINITE)) != 0) {
+            return "a must be a numeric value";
+        }
+        if ((status & (B_NAN | B_INFINITE)) != 0) {
+            return "b must be a numeric value";
+        }
+        if ((status & (C_NAN | C_INFINITE)) != 0) {
+            return "c must be a numeric value";
+        }
+        return null;
+    }
+
+    /**
+     * Raises the exception of the validator filters for coefficients that are not a regular quadratic.
+     *
+     * @throws IllegalArgumentException with the {@link #message(int)} of their status
+     */
+    public static void validate(double a, double b, double c) {
+        int status = of(a, b, c);
+        if (status != 0) {
+            throw new IllegalArgumentException(message(status));
+        }
+    }
+
+    /**
+     * Like {@link #validate}, for one row of a batch.
+     *
+     * @throws IllegalArgumentException with the row index added to the message
+     */
+    public static void validateRow(double a, double b, double c, long row) {
+        int status = of(a, b, c);
+        if (status != 0) {
+            throw rowException(status, row);
+        }
+    }
+
+    /**
+     * @return the exception {@link #validateRow} raises for a row with this non-zero status
+     */
+    public static IllegalArgumentException rowException(int status, long row) {
+        return new IllegalArgumentException(message(status) + " (row " + row + ")");
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.solver.math;
+
+/**
+ * Closed-form roots of {@code a x^3 + b x^2 + c x + d}.
+ *
+ * <p>The cubic is depressed with {@code x = t + shift}, {@code shift = -b / 3a}, into
+ * {@code t^3 + p t + q}. One real root and a conjugate pair are found with Cardano's formula,
+ * written so that the cube root never takes a cancelling difference; three real roots are found
+ * with the trigonometric method, which needs no complex arithmetic.
+ */
+public final class CubicMath {
+
+    private static final double HALF_SQRT_3 = Math.sqrt(3) / 2;
+    private static final double TWO_PI_OVER_3 = 2 * Math.PI / 3;
+
+    private CubicMath() {
+    }
+
+    /**
+     * @return the shift {@code -b / 3a} of the depressing substitution
+     */
+    public static double shift(double a, double b) {
+        return -b / (3 * a);
+    }
+
+    /**
+     * @return the coefficient p of the depressed cubic {@code t^3 + p t + q}
+     */
+    public static double depressedP(double a, double b, double c) {
+        double bn = b / a;
+        return c / a - bn * bn / 3;
+    }
+
+    /**
+     * @return the coefficient q of the depressed cubic {@code t^3 + p t + q}
+     */
+    public static double depressedQ(double a, double b, double c, double d) {
+        double bn = b / a;
+        return 2 * bn * bn * bn / 27 - bn * (c / a) / 3 + d / a;
+    }
+
+    /**
+     * Writes the three roots of {@code t^3 + p t + q}, shifted by {@code shift}, to
+     * {@code re[offset..offset+2]} and {@code im[offset..offset+2]}. The roots are not sorted.
+     */
+    public static void solveDepressed(double p, double q, double shift, double[] re, double[] im, int offset) {
+        double halfQ = q / 2;
+        double thirdP = p / 3;
+        double discriminant = halfQ * halfQ + thirdP * thirdP * thirdP;
+
+        if (p == 0 && q == 0) {
+            // Triple root
+            for (int k = 0; k < 3; k++) {
+                re[offset + k] = shift;
+                im[offset + k] = 0;
+            }
+        } else if (discriminant > 0) {
+            // One real root and a conjugate pair; u takes the cube root of the non-cancelling sum
+            double u = -Math.copySign(Math.cbrt(Math.abs(halfQ) + Math.sqrt(discriminant)), q);
+            double v = u == 0 ? 0 : -thirdP / u;
+            double imaginary = Math.abs(HALF_SQRT_3 * (u - v));
+            re[offset] = u + v + shift;
+            im[offset] = 0;
+            re[offset + 1] = -(u + v) / 2 + shift;
+            im[offset + 1] = imaginary;
+            re[offset + 2] = re[offset + 1];
+            im[offset + 2] = -imaginary;
+        } else {
+            // Three real roots (p < 0): t_k = 2 sqrt(-p/3) cos(theta/3 - 2 pi k / 3)
+            double radius = Math.sqrt(-thirdP);
+            double cosine = Math.max(-1, Math.min(1, -halfQ / (-thirdP * radius)));
+            double theta = Math.acos(cosine) / 3;
+            for (int k = 0; k < 3; k++) {
+                re[offset + k] = 2 * radius * Math.cos(theta - k * TWO_PI_OVER_3) + shift;
+                im[offset + k] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the largest real root of the monic cubic {@code x^3 + b x^2 + c x + d}, without
+     * writing any array. Used for the resolvent cubic of the quartic.
+     */
+    public static double largestRealRoot(double b, double c, double d) {
+        double shift = -b / 3;
+        double p = c - b * b / 3;
+        double q = 2 * b * b * b / 27 - b * c / 3 + d;
+        double halfQ = q / 2;
+        double thirdP = p / 3;
+        double discriminant = halfQ * halfQ + thirdP * thirdP * thirdP;
+
+        if (p == 0 && q == 0) {
+            return shift;
+        }
+        if (discriminant > 0) {
+            double u = -Math.copySign(Math.cbrt(Math.abs(halfQ) + Math.sqrt(discriminant)), q);
+            double v = u == 0 ? 0 : -thirdP / u;
+            return u + v + shift;
+        }
+        // k = 0 gives the largest cosine
+        double radius = Math.sqrt(-thirdP);
+        double cosine = Math.max(-1, Math.min(1, -halfQ / (-thirdP * radius)));
+        return 2 * radius * Math.cos(Math.acos(cosine) / 3) + shift;
+    }
+
+    /**
+     * Solves one cubic with valid coefficients {@code coefficients[from..from+3]}: closed form,
+     * Newton polish on the original coefficients, roots sorted by real then imaginary part.
+     */
+    public static void solve(double[] coefficients, int from, double[] re, double[] im, int offset) {
+        double a = coefficients[from];
+        double b = coefficients[from + 1];
+        double c = coefficients[from + 2];
+        double d = coefficients[from + 3];
+        solveDepressed(depressedP(a, b, c), depressedQ(a, b, c, d), shift(a, b), re, im, offset);
+        PolynomialMath.polishAndSort(coefficients, from, 3, re, im, offset);
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.solver.math;
+
+import org.example.lib.ValueValidator;
+
+/**
+ * Helpers shared by the cubic, quartic and degree-n root finders.
+ *
+ * <p>A polynomial is a slice of a coefficient array, highest degree first: {@code degree + 1}
+ * doubles starting at {@code from}. Roots are complex, in parallel {@code re}/{@code im} arrays.
+ * Nothing here allocates.
+ */
+public final class PolynomialMath {
+
+    // Newton steps applied to closed-form roots
+    public static final int POLISH_STEPS = 2;
+
+    private PolynomialMath() {
+    }
+
+    /**
+     * Names the coefficients like the quadratic validators do: a, b, c, ... from the highest degree.
+     *
+     * @param index position in the coefficient slice
+     * @return the name used in validation messages
+     */
+    public static String coefficientName(int index) {
+        return index < 26 ? String.valueOf((char) ('a' + index)) : "coefficient " + index;
+    }
+
+    /**
+     * Checks the coefficients the way the quadratic validators do.
+     *
+     * @return true if the leading coefficient is non-zero and every coefficient is finite
+     */
+    public static boolean isValid(double[] coefficients, int from, int degree) {
+        if (coefficients[from] == 0) {
+            return false;
+        }
+        for (int k = 0; k <= degree; k++) {
+            if (!Double.isFinite(coefficients[from + k])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Raises the validator exception for the first invalid coefficient.
+     *
+     * @throws IllegalArgumentException if the leading coefficient is zero or a coefficient is not finite
+     */
+    public static void validate(double[] coefficients, int from, int degree, ValueValidator valueValidator) {
+        valueValidator.validateNotZero(coefficients[from], coefficientName(0));
+        for (int k = 0; k <= degree; k++) {
+            valueValidator.validateNumeric(coefficients[from + k], coefficientName(k));
+        }
+    }
+
+    /**
+     * Improves roots with Newton steps on the original polynomial. A step is kept only if it
+     * reduces |p(z)|, so multiple roots, where p' vanishes, are never made worse.
+     *
+     * @param steps number of Newton steps per root
+     */
+    public static void polish(double[] coefficients, int from, int degree,
+                              double[] re, double[] im, int offset, int steps) {
+        for (int k = offset; k < offset + degree; k++) {
+            double zr = re[k];
+            double zi = im[k];
+            for (int step = 0; step < steps; step++) {
+                // Horner for p and p' at z
+                double pr = coefficients[from];
+                double pi = 0;
+                double dr = 0;
+                double di = 0;
+                for (int j = 1; j <= degree; j++) {
+                    double ndr = dr * zr - di * zi + pr;
+                    di = dr * zi + di * zr + pi;
+                    dr = ndr;
+                    double npr = pr * zr - pi * zi + coefficients[from + j];
+                    pi = pr * zi + pi * zr;
+                    pr = npr;
+                }
+                double derivative = dr * dr + di * di;
+                if (derivative == 0 || (pr == 0 && pi == 0)) {
+                    break;
+                }
+                // z - p / p'
+                double nzr = zr - (pr * dr + pi * di) / derivative;
+                double nzi = zi - (pi * dr - pr * di) / derivative;
+                if (!(magnitudeAt(coefficients, from, degree, nzr, nzi) < pr * pr + pi * pi)) {
+                    break;
+                }
+                zr = nzr;
+                zi = nzi;
+            }
+            re[k] = zr;
+            im[k] = zi;
+        }
+    }
+
+    /**
+     * Finishes closed-form roots: {@value #POLISH_STEPS} Newton steps, then sorted.
+     */
+    public static void polishAndSort(double[] coefficients, int from, int degree,
+                                     double[] re, double[] im, int offset) {
+        polish(coefficients, from, degree, re, im, offset, POLISH_STEPS);
+        sortRoots(re, im, offset, degree);
+    }
+
+    /**
+     * Sorts roots by real part, then by imaginary part (insertion sort; degrees are small).
+     */
+    public static void sortRoots(double[] re, double[] im, int offset, int count) {
+        for (int i = offset + 1; i < offset + count; i++) {
+            double r = re[i];
+            double m = im[i];
+            int j = i - 1;
+            while (j >= offset && (re[j] > r || (re[j] == r && im[j] > m))) {
+                re[j + 1] = re[j];
+                im[j + 1] = im[j];
+                j--;
+            }
+            re[j + 1] = r;
+            im[j + 1] = m;
+        }
+    }
+
+    /**
+     * Returns |p(z)|^2.
+     */
+    private static double magnitudeAt(double[] coefficients, int from, int degree, double zr, double zi) {
+        double pr = coefficients[from];
+        double pi = 0;
+        for (int j = 1; j <= degree; j++) {
+            double npr = pr * zr - pi * zi + coefficients[from + j];
+            pi = pr * zi + pi * zr;
+            pr = npr;
+        }
+        return pr * pr + pi * pi;
+    }
+}
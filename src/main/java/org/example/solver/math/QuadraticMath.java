@@ -0,0 +1,226 @@
+package org.example.solver.math;
+
+import org.example.solver.entity.RootResult;
+
+/**
+ * Shared arithmetic of the quadratic equation filters.
+ * The filter chain and every batch engine go through these definitions,
+ * so that all entry points agree on the discriminant and on the EPSILON band.
+ */
+public final class QuadraticMath {
+
+    // Small epsilon value for floating-point comparison of the discriminant
+    public static final double EPSILON = 1e-8;
+
+    // Packed complex layout: {re1, im1, re2, im2}
+    public static final int COMPLEX_STRIDE = 4;
+
+    private QuadraticMath() {
+    }
+
+    /**
+     * Calculates the discriminant Δ = b^2 - 4ac, in the same evaluation order as the filter chain.
+     *
+     * @param a coefficient of x^2
+     * @param b coefficient of x
+     * @param c constant term
+     * @return the discriminant
+     */
+    public static double discriminant(double a, double b, double c) {
+        return b * b - 4 * a * c;
+    }
+
+    /**
+     * Checks if the discriminant is approximately zero (within EPSILON tolerance).
+     *
+     * @param discriminant the discriminant to check
+     * @return true if the equation has a single root of multiplicity two
+     */
+    public static boolean isZero(double discriminant) {
+        return Math.abs(discriminant) < EPSILON;
+    }
+
+    /**
+     * Checks if the discriminant is positive and significantly greater than zero.
+     *
+     * @param discriminant the discriminant to check
+     * @return true if the equation has two distinct real roots
+     */
+    public static boolean isPositive(double discriminant) {
+        return discriminant > 0 && Math.abs(discriminant) > EPSILON;
+    }
+
+    /**
+     * Checks if the discriminant is negative and outside the EPSILON band around zero.
+     *
+     * @param discriminant the discriminant to check
+     * @return true if the equation has no real roots
+     */
+    public static boolean isNegative(double discriminant) {
+        return discriminant < 0 && !isZero(discriminant);
+    }
+
+    /**
+     * Returns the number of real roots reported by the filter chain for the given discriminant.
+     *
+     * @param discriminant the discriminant of the equation
+     * @return 0, 1 or 2
+     */
+    public static int rootCount(double discriminant) {
+        if (isZero(discriminant)) {
+            return 1;
+        }
+        return isPositive(discriminant) ? 2 : 0;
+    }
+
+    /**
+     * Checks the coefficients the way the validator filters do.
+     *
+     * @return true if a is non-zero and all coefficients are finite
+     */
+    public static boolean isValid(double a, double b, double c) {
+        return a != 0 && Double.isFinite(a) && Double.isFinite(b) && Double.isFinite(c);
+    }
+
+    /**
+     * Solves an equation with valid coefficients into a reusable holder,
+     * with the same operations as the filter chain.
+     *
+     * @param a      coefficient of x^2
+     * @param b      coefficient of x
+     * @param c      constant term
+     * @param result receives the root count and the roots
+     */
+    public static void solve(double a, double b, double c, RootResult result) {
+        double discriminant = discriminant(a, b, c);
+
+        if (isZero(discriminant)) {
+            // Single root of multiplicity two: x = -b / (2a)
+            double root = -b / (2 * a);
+            result.set(1, root, root);
+        } else if (isPositive(discriminant)) {
+            // Two real roots using the quadratic formula
+            double sqrtDiscriminant = Math.sqrt(discriminant);
+            result.set(2, (-b + sqrtDiscriminant) / (2 * a), (-b - sqrtDiscriminant) / (2 * a));
+        } else {
+            result.set(0, Double.NaN, Double.NaN);
+        }
+    }
+
+    /**
+     * Returns the smallest root greater than {@code tMin} of an equation with valid coefficients,
+     * as needed for ray/quadric hits. The roots are the ones {@link #solve} computes, bit for bit,
+     * but the nearer root is computed first and the farther one only when the nearer is not above
+     * {@code tMin}.
+     *
+     * @param a    coefficient of x^2
+     * @param b    coefficient of x
+     * @param c    constant term
+     * @param tMin exclusive lower bound for the root
+     * @return the nearest root above {@code tMin}, or NaN when there is none
+     */
+    public static double nearestRoot(double a, double b, double c, double tMin) {
+        double discriminant = discriminant(a, b, c);
+
+        if (isZero(discriminant)) {
+            double root = -b / (2 * a);
+            return root > tMin ? root : Double.NaN;
+        }
+        if (!isPositive(discriminant)) {
+            return Double.NaN;
+        }
+
+        // (-b - s) / 2a is the smaller root when a > 0, (-b + s) / 2a when a < 0
+        double sqrtDiscriminant = Math.sqrt(discriminant);
+        double signedSqrt = a > 0 ? sqrtDiscriminant : -sqrtDiscriminant;
+        double near = (-b - signedSqrt) / (2 * a);
+        if (near > tMin) {
+            return near;
+        }
+        double far = (-b + signedSqrt) / (2 * a);
+        return far > tMin ? far : Double.NaN;
+    }
+
+    /**
+     * Solves an equation with any coefficients without throwing, like the filter chain in status mode.
+     * A row with a zero {@code a} is solved as the linear equation {@code bx + c = 0}; a row that
+     * cannot be solved gets 0 roots.
+     *
+     * @param a      coefficient of x^2
+     * @param b      coefficient of x
+     * @param c      constant term
+     * @param result receives the root count and the roots
+     * @return the row status, see {@link CoefficientStatus}
+     */
+    public static int solveChecked(double a, double b, double c, RootResult result) {
+        int status = CoefficientStatus.of(a, b, c);
+        if (status == 0) {
+            solve(a, b, c, result);
+        } else if (CoefficientStatus.isLinear(status)) {
+            double root = -c / b;
+            result.set(1, root, root);
+        } else {
+            result.set(0, Double.NaN, Double.NaN);
+        }
+        return status;
+    }
+
+    /**
+     * Solves an equation with valid coefficients, reporting a negative discriminant as a pair of
+     * complex conjugate roots instead of no roots.
+     *
+     * <p>Writes {@value #COMPLEX_STRIDE} doubles at {@code offset}: {@code re1, im1, re2, im2}.
+     * Real roots are written exactly as {@link #solve} computes them, with zero imaginary parts;
+     * a single root is repeated. A negative discriminant gives
+     * {@code (-b ± i sqrt(-Δ)) / 2a}, with the {@code +} root first like the real case.
+     * A discriminant that no filter classifies (NaN or exactly EPSILON) gives 0 roots and NaN parts.
+     *
+     * @param a      coefficient of x^2
+     * @param b      coefficient of x
+     * @param c      constant term
+     * @param roots  receives the packed roots
+     * @param offset index of {@code re1} in {@code roots}
+     * @return the number of distinct roots: 1 for a root of multiplicity two, otherwise 2, or 0
+     */
+    public static int solveComplex(double a, double b, double c, double[] roots, int offset) {
+        double discriminant = discriminant(a, b, c);
+
+        double re1;
+        double im1;
+        double re2;
+        double im2;
+        int count;
+        if (isZero(discriminant)) {
+            re1 = -b / (2 * a);
+            re2 = re1;
+            im1 = 0;
+            im2 = 0;
+            count = 1;
+        } else if (isPositive(discriminant)) {
+            double sqrtDiscriminant = Math.sqrt(discriminant);
+            re1 = (-b + sqrtDiscriminant) / (2 * a);
+            re2 = (-b - sqrtDiscriminant) / (2 * a);
+            im1 = 0;
+            im2 = 0;
+            count = 2;
+        } else if (isNegative(discriminant)) {
+            // Conjugate pair: the real part is the vertex of the parabola
+            re1 = -b / (2 * a);
+            re2 = re1;
+            im1 = Math.sqrt(-discriminant) / (2 * a);
+            im2 = -im1;
+            count = 2;
+        } else {
+            re1 = Double.NaN;
+            re2 = Double.NaN;
+            im1 = Double.NaN;
+            im2 = Double.NaN;
+            count = 0;
+        }
+        roots[offset] = re1;
+        roots[offset + 1] = im1;
+        roots[offset + 2] = re2;
+        roots[offset + 3] = im2;
+        return count;
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.solver.math;
+
+import org.example.solver.enums.DiscriminantClass;
+
+/**
+ * Questions about the real roots of {@code a x^2 + b x + c} that are answered without computing them.
+ *
+ * <p>The root count comes from the discriminant with the EPSILON semantics of DiscriminantChecker,
+ * so it always equals the count the filter chain returns. Interval queries use sign tests of
+ * {@code f(x) = a x^2 + b x + c} and of its slope {@code f'(x) = 2a x + b} at the interval ends:
+ * {@code sign(a) f(x)} is negative strictly between two roots, and {@code sign(a) f'(x)} is negative
+ * left of the vertex. No square root or division is taken; an end within rounding of a root may be
+ * counted on either side of it. Coefficients must be valid, as for {@link QuadraticMath#solve}.
+ */
+public final class QuadraticQueries {
+
+    private QuadraticQueries() {
+    }
+
+    /**
+     * @return the number of real roots the filter chain reports: 0, 1 or 2
+     */
+    public static int rootCount(double a, double b, double c) {
+        return QuadraticMath.rootCount(QuadraticMath.discriminant(a, b, c));
+    }
+
+    /**
+     * @return the class of the discriminant, see {@link DiscriminantClass}
+     */
+    public static DiscriminantClass classify(double a, double b, double c) {
+        return DiscriminantClass.of(QuadraticMath.discriminant(a, b, c));
+    }
+
+    /**
+     * Counts the distinct real roots in the closed interval {@code [lo, hi]}; the ends may be infinite.
+     *
+     * @param lo lower end of the interval
+     * @param hi upper end of the interval, not below {@code lo}
+     * @return 0, 1 or 2
+     */
+    public static int rootCountIn(double a, double b, double c, double lo, double hi) {
+        double discriminant = QuadraticMath.discriminant(a, b, c);
+
+        if (QuadraticMath.isZero(discriminant)) {
+            // The single root is the vertex: the slope is not positive at lo and not negative at hi
+            return slopeSign(a, b, lo) <= 0 && slopeSign(a, b, hi) >= 0 ? 1 : 0;
+        }
+        if (!QuadraticMath.isPositive(discriminant)) {
+            return 0;
+        }
+        return rootsAtOrBelow(a, b, c, hi) - rootsBelow(a, b, c, lo);
+    }
+
+    /**
+     * @return true if a real root lies in the closed interval {@code [lo, hi]}
+     * @see #rootCountIn(double, double, double, double, double)
+     */
+    public static boolean hasRootIn(double a, double b, double c, double lo, double hi) {
+        return rootCountIn(a, b, c, lo, hi) > 0;
+    }
+
+    /**
+     * Number of the two distinct roots that are {@code <= x}.
+     */
+    private static int rootsAtOrBelow(double a, double b, double c, double x) {
+        double side = valueSign(a, b, c, x);
+        if (side < 0) {
+            // Between the roots
+            return 1;
+        }
+        boolean leftOfVertex = slopeSign(a, b, x) < 0;
+        if (side > 0) {
+            return leftOfVertex ? 0 : 2;
+        }
+        // x is a root
+        return leftOfVertex ? 1 : 2;
+    }
+
+    /**
+     * Number of the two distinct roots that are {@code < x}.
+     */
+    private static int rootsBelow(double a, double b, double c, double x) {
+        double side = valueSign(a, b, c, x);
+        if (side < 0) {
+            return 1;
+        }
+        boolean leftOfVertex = slopeSign(a, b, x) < 0;
+        if (side > 0) {
+            return leftOfVertex ? 0 : 2;
+        }
+        return leftOfVertex ? 0 : 1;
+    }
+
+    /**
+     * @return the sign of {@code sign(a) f(x)}: negative strictly between the roots
+     */
+    private static double valueSign(double a, double b, double c, double x) {
+        double value = (a * x + b) * x + c;
+        return Math.signum(a) * Math.signum(value);
+    }
+
+    /**
+     * @return the sign of {@code sign(a) f'(x)}: negative left of the vertex
+     */
+    private static double slopeSign(double a, double b, double x) {
+        return Math.signum(a) * Math.signum(2 * a * x + b);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.solver.math;
+
+/**
+ * Closed-form roots of {@code a x^4 + b x^3 + c x^2 + d x + e} (Ferrari's method).
+ *
+ * <p>The quartic is depressed with {@code x = y + shift}, {@code shift = -b / 4a}, into
+ * {@code y^4 + p y^2 + q y + r}. A positive root m of the resolvent cubic
+ * {@code m^3 + p m^2 + (p^2/4 - r) m - q^2/8} splits it into two monic quadratics
+ * {@code y^2 ∓ sqrt(2m) y + p/2 + m ± q / (2 sqrt(2m))}. Without a usable m (q = 0) the
+ * quartic is biquadratic and is solved as a quadratic in {@code y^2}.
+ */
+public final class QuarticMath {
+
+    private QuarticMath() {
+    }
+
+    /**
+     * @return the shift {@code -b / 4a} of the depressing substitution
+     */
+    public static double shift(double a, double b) {
+        return -b / (4 * a);
+    }
+
+    /**
+     * @return the coefficient p of the depressed quartic {@code y^4 + p y^2 + q y + r}
+     */
+    public static double depressedP(double a, double b, double c) {
+        double bn = b / a;
+        return c / a - 3 * bn * bn / 8;
+    }
+
+    /**
+     * @return the coefficient q of the depressed quartic {@code y^4 + p y^2 + q y + r}
+     */
+    public static double depressedQ(double a, double b, double c, double d) {
+        double bn = b / a;
+        return d / a - bn * (c / a) / 2 + bn * bn * bn / 8;
+    }
+
+    /**
+     * @return the coefficient r of the depressed quartic {@code y^4 + p y^2 + q y + r}
+     */
+    public static double depressedR(double a, double b, double c, double d, double e) {
+        double bn = b / a;
+        double bn2 = bn * bn;
+        return e / a - bn * (d / a) / 4 + bn2 * (c / a) / 16 - 3 * bn2 * bn2 / 256;
+    }
+
+    /**
+     * Writes the four roots of {@code y^4 + p y^2 + q y + r}, shifted by {@code shift}, to
+     * {@code re[offset..offset+3]} and {@code im[offset..offset+3]}. The roots are not sorted.
+     */
+    public static void solveDepressed(double p, double q, double r, double shift,
+                                      double[] re, double[] im, int offset) {
+        double m = q == 0 ? 0 : CubicMath.largestRealRoot(p, p * p / 4 - r, -q * q / 8);
+
+        if (!(m > 0)) {
+            // Biquadratic: z^2 + p z + r = 0 with z = y^2
+            solveMonicQuadratic(p, r, re, im, offset);
+            double z2r = re[offset + 1];
+            double z2i = im[offset + 1];
+            squareRoots(re[offset], im[offset], shift, re, im, offset);
+            squareRoots(z2r, z2i, shift, re, im, offset + 2);
+            return;
+        }
+
+        double root = Math.sqrt(2 * m);
+        double base = p / 2 + m;
+        double correction = q / (2 * root);
+        solveMonicQuadratic(-root, base + correction, re, im, offset);
+        solveMonicQuadratic(root, base - correction, re, im, offset + 2);
+        for (int k = offset; k < offset + 4; k++) {
+            re[k] += shift;
+        }
+    }
+
+    /**
+     * Solves one quartic with valid coefficients {@code coefficients[from..from+4]}: closed form,
+     * Newton polish on the original coefficients, roots sorted by real then imaginary part.
+     */
+    public static void solve(double[] coefficients, int from, double[] re, double[] im, int offset) {
+        double a = coefficients[from];
+        double b = coefficients[from + 1];
+        double c = coefficients[from + 2];
+        double d = coefficients[from + 3];
+        double e = coefficients[from + 4];
+        solveDepressed(depressedP(a, b, c), depressedQ(a, b, c, d), depressedR(a, b, c, d, e), shift(a, b),
+                re, im, offset);
+        PolynomialMath.polishAndSort(coefficients, from, 4, re, im, offset);
+    }
+
+    /**
+     * Writes both complex roots of {@code y^2 + beta y + gamma} to {@code offset} and {@code offset + 1}.
+     */
+    static void solveMonicQuadratic(double beta, double gamma, double[] re, double[] im, int offset) {
+        double discriminant = beta * beta - 4 * gamma;
+        if (discriminant >= 0) {
+            // Cancellation-free: q = -(beta + sign(beta) sqrt(D)) / 2, roots q and gamma / q
+            double q = -0.5 * (beta + Math.copySign(Math.sqrt(discriminant), beta));
+            re[offset] = q;
+            re[offset + 1] = q == 0 ? 0 : gamma / q;
+            im[offset] = 0;
+            im[offset + 1] = 0;
+        } else {
+            double imaginary = Math.sqrt(-discriminant) / 2;
+            re[offset] = -beta / 2;
+            re[offset + 1] = -beta / 2;
+            im[offset] = imaginary;
+            im[offset + 1] = -imaginary;
+        }
+    }
+
+    /**
+     * Writes {@code ±sqrt(z) + shift} to {@code offset} and {@code offset + 1}, using the principal
+     * complex square root.
+     */
+    private static void squareRoots(double zr, double zi, double shift, double[] re, double[] im, int offset) {
+        double modulus = Math.hypot(zr, zi);
+        double sr = Math.sqrt(Math.max(0, (modulus + zr) / 2));
+        double si = Math.copySign(Math.sqrt(Math.max(0, (modulus - zr) / 2)), zi);
+        re[offset] = sr + shift;
+        im[offset] = si;
+        re[offset + 1] = -sr + shift;
+        im[offset + 1] = -si;
+    }
+}
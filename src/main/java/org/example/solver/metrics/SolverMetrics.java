@@ -0,0 +1,271 @@
+package org.example.solver.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.solver.enums.DiscriminantClass;
+import org.example.solver.math.CoefficientStatus;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Counters of the quadratic solver: calls, discriminant outcomes and validation failures per coefficient.
+ * Per-filter latencies are recorded by the filter pipelines into the same {@link MetricsRegistry}.
+ *
+ * <p>The discriminant class is read from the real root count the solver produced, so nothing is
+ * recomputed: two roots count as POSITIVE, one as ZERO, none as NEGATIVE, including the rare rows
+ * whose discriminant is NaN or exactly EPSILON. Rows with a {@link CoefficientStatus}, linear ones
+ * included, are counted as validation failures only.
+ *
+ * <p>All counters are striped {@link LongAdder}s held in fields, so recording from many threads
+ * neither locks nor contends on a shared cache line. Callers check {@link MetricsRegistry#isEnabled()}
+ * before recording. The process-wide instance is exposed over JMX by {@link #registerMBean()} and in
+ * the Prometheus text format by {@link #scrape()}.
+ */
+@Slf4j
+public final class SolverMetrics implements SolverMetricsMXBean {
+
+    public static final String OBJECT_NAME = "org.example.solver:type=SolverMetrics";
+
+    private static final String FILTER_LATENCY = "context_filter_duration_seconds";
+    private static final Pattern FILTER_LABELS = Pattern.compile("type=\"([^\"]*)\",filter=\"([^\"]*)\"");
+    private static final String[] COEFFICIENTS = {"a", "b", "c"};
+    private static final String[] REASONS = {"nan", "infinite", "zero"};
+    // Every bit a row status can carry; c may be zero
+    private static final int REPORTED_BITS = CoefficientStatus.INVALID | CoefficientStatus.A_ZERO | CoefficientStatus.B_ZERO;
+    // Indexed by real root count
+    private static final DiscriminantClass[] CLASS_BY_ROOT_COUNT = {
+            DiscriminantClass.NEGATIVE, DiscriminantClass.ZERO, DiscriminantClass.POSITIVE
+    };
+
+    private static final SolverMetrics GLOBAL = new SolverMetrics(MetricsRegistry.global());
+
+    private final MetricsRegistry registry;
+    private final LongAdder solveCalls;
+    private final LongAdder batchCalls;
+    private final LongAdder batchRows;
+    // Indexed by real root count
+    private final LongAdder[] discriminants;
+    // Indexed by CoefficientStatus bit; null for bits that are never reported
+    private final LongAdder[] validationFailures;
+
+    private SolverMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+        this.solveCalls = registry.counter("quadratic_solver_calls_total",
+                "Solver calls by entry point", MetricsRegistry.labels("entry", "single"));
+        this.batchCalls = registry.counter("quadratic_solver_calls_total",
+                "Solver calls by entry point", MetricsRegistry.labels("entry", "batch"));
+        this.batchRows = registry.counter("quadratic_solver_batch_rows_total",
+                "Rows solved by batch calls", "");
+
+        this.discriminants = new LongAdder[CLASS_BY_ROOT_COUNT.length];
+        for (int count = 0; count < CLASS_BY_ROOT_COUNT.length; count++) {
+            discriminants[count] = registry.counter("quadratic_solver_discriminant_total",
+                    "Solved equations by discriminant class",
+                    MetricsRegistry.labels("class", CLASS_BY_ROOT_COUNT[count].name().toLowerCase(Locale.ROOT)));
+        }
+
+        this.validationFailures = new LongAdder[COEFFICIENTS.length * REASONS.length];
+        for (int bit = 0; bit < validationFailures.length; bit++) {
+            if ((REPORTED_BITS & (1 << bit)) == 0) {
+                continue;
+            }
+            validationFailures[bit] = registry.counter("quadratic_solver_validation_failures_total",
+                    "Invalid coefficients by coefficient and reason",
+                    MetricsRegistry.labels("coefficient", COEFFICIENTS[bit / REASONS.length],
+                            "reason", REASONS[bit % REASONS.length]));
+        }
+    }
+
+    /**
+     * @return the metrics of the whole process
+     */
+    public static SolverMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers the process-wide metrics with the platform MBean server, once.
+     *
+     * @return the object name
+     */
+    public static ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                try {
+                    server.registerMBean(GLOBAL, name);
+                    log.info("Registered solver metrics as {}", name);
+                } catch (InstanceAlreadyExistsException e) {
+                    // Registered concurrently by another caller
+                }
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Records a solved single equation.
+     *
+     * @param realRoots the number of real roots the solver returned: 0, 1 or 2
+     */
+    public void recordSolve(int realRoots) {
+        solveCalls.increment();
+        discriminants[realRoots].increment();
+    }
+
+    /**
+     * Records a solved batch: the call, its rows and the class of every row.
+     *
+     * @param rootCount the root counts the batch wrote
+     */
+    public void recordBatch(int[] rootCount, int offset, int length) {
+        recordBatch(rootCount, null, null, offset, length);
+    }
+
+    /**
+     * Records a batch solved in status mode: rows with a status are counted as validation failures,
+     * the other rows by their root count.
+     *
+     * @param status the row statuses the batch wrote
+     */
+    public void recordBatch(int[] rootCount, int[] status, int offset, int length) {
+        recordBatch(rootCount, null, status, offset, length);
+    }
+
+    /**
+     * Records a batch solved in complex-roots mode: a conjugate pair has no real root.
+     *
+     * @param im the imaginary parts the batch wrote, zero for real roots
+     */
+    public void recordComplexBatch(int[] rootCount, double[] im, int offset, int length) {
+        recordBatch(rootCount, im, null, offset, length);
+    }
+
+    /**
+     * Records the invalid coefficients of one row, one count per status bit.
+     *
+     * @param status the CoefficientStatus bits of the row
+     */
+    public void recordValidation(int status) {
+        int remaining = status;
+        while (remaining != 0) {
+            int bit = Integer.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            if (bit < validationFailures.length && validationFailures[bit] != null) {
+                validationFailures[bit].increment();
+            }
+        }
+    }
+
+    /**
+     * Records the call and its rows, then tallies the rows by their real root count.
+     *
+     * @param im     imaginary parts of complex-roots rows, or null
+     * @param status row statuses, or null
+     */
+    private void recordBatch(int[] rootCount, double[] im, int[] status, int offset, int length) {
+        batchCalls.increment();
+        batchRows.add(length);
+
+        // Tallied locally first, so that each shared counter is touched once per batch
+        long[] counts = new long[discriminants.length];
+        for (int i = offset; i < offset + length; i++) {
+            if (status != null && status[i] != 0) {
+                recordValidation(status[i]);
+            } else if (im != null && im[i] != 0) {
+                counts[0]++;
+            } else {
+                counts[rootCount[i]]++;
+            }
+        }
+        for (int k = 0; k < counts.length; k++) {
+            discriminants[k].add(counts[k]);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return MetricsRegistry.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        MetricsRegistry.setEnabled(enabled);
+    }
+
+    @Override
+    public long getSolveCalls() {
+        return solveCalls.sum();
+    }
+
+    @Override
+    public long getBatchCalls() {
+        return batchCalls.sum();
+    }
+
+    @Override
+    public long getBatchRows() {
+        return batchRows.sum();
+    }
+
+    @Override
+    public Map<String, Long> getDiscriminantCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int count = 0; count < CLASS_BY_ROOT_COUNT.length; count++) {
+            counts.put(CLASS_BY_ROOT_COUNT[count].name(), discriminants[count].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getValidationFailures() {
+        Map<String, Long> failures = new TreeMap<>();
+        for (int bit = 0; bit < validationFailures.length; bit++) {
+            if (validationFailures[bit] != null) {
+                failures.put(COEFFICIENTS[bit / REASONS.length] + "." + REASONS[bit % REASONS.length],
+                        validationFailures[bit].sum());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public Map<String, Long> getFilterCalls() {
+        Map<String, Long> calls = new TreeMap<>();
+        registry.histograms(FILTER_LATENCY).forEach((labels, histogram) -> calls.put(filterKey(labels), histogram.count()));
+        return calls;
+    }
+
+    @Override
+    public Map<String, Double> getFilterMeanLatencyNanos() {
+        Map<String, Double> means = new TreeMap<>();
+        registry.histograms(FILTER_LATENCY).forEach((labels, histogram) -> means.put(filterKey(labels), histogram.meanNanos()));
+        return means;
+    }
+
+    @Override
+    public String scrape() {
+        return registry.scrape();
+    }
+
+    /**
+     * Turns {@code type="T",filter="F"} into {@code T.F}.
+     */
+    private static String filterKey(String labels) {
+        Matcher matcher = FILTER_LABELS.matcher(labels);
+        return matcher.matches() ? matcher.group(1) + "." + matcher.group(2) : labels;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.solver.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link SolverMetrics}, registered as {@value SolverMetrics#OBJECT_NAME}.
+ */
+public interface SolverMetricsMXBean {
+
+    /**
+     * @return true if the solver records metrics
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns recording on or off for the whole process.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return the number of single-equation solve calls
+     */
+    long getSolveCalls();
+
+    /**
+     * @return the number of batch solve calls
+     */
+    long getBatchCalls();
+
+    /**
+     * @return the number of rows solved by batch calls
+     */
+    long getBatchRows();
+
+    /**
+     * @return the number of solved equations by discriminant class: NEGATIVE, ZERO, POSITIVE
+     */
+    Map<String, Long> getDiscriminantCounts();
+
+    /**
+     * @return the number of validation failures by coefficient and reason, such as {@code a.zero} or {@code c.nan}
+     */
+    Map<String, Long> getValidationFailures();
+
+    /**
+     * @return the number of executions of each filter stage, keyed {@code TYPE.FilterName}
+     */
+    Map<String, Long> getFilterCalls();
+
+    /**
+     * @return the mean latency of each filter stage in nanoseconds, keyed {@code TYPE.FilterName}
+     */
+    Map<String, Double> getFilterMeanLatencyNanos();
+
+    /**
+     * @return every metric in the Prometheus text format
+     */
+    String scrape();
+}
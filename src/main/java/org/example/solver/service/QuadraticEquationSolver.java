@@ -1,5 +1,168 @@
 package org.example.solver.service;
 
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
 public interface QuadraticEquationSolver {
     double[] solve(double a, double b, double c);
+
+    /**
+     * Solves one equation into a caller-owned, reusable holder without allocating.
+     * The default implementation copies the array of {@link #solve}, so it allocates.
+     *
+     * @param result the holder to overwrite with the root count and the roots
+     * @return the same holder, for call chaining
+     * @throws IllegalArgumentException if a coefficient is invalid
+     */
+    default RootResult solveInto(double a, double b, double c, RootResult result) {
+        double[] roots = solve(a, b, c);
+        if (roots.length == 0) {
+            result.set(0, Double.NaN, Double.NaN);
+        } else {
+            result.set(roots.length, roots[0], roots[roots.length - 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Solves one equation asynchronously. The default implementation solves on the calling
+     * thread and returns a completed future; coalescing implementations queue the request and
+     * solve it together with others on the batch path.
+     *
+     * @return a future completed with the roots, or failed with an {@link IllegalArgumentException}
+     * for invalid coefficients
+     */
+    default CompletableFuture<double[]> solveAsync(double a, double b, double c) {
+        try {
+            return CompletableFuture.completedFuture(solve(a, b, c));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} of column-wise stored equations.
+     * Results are written to the same indices of the caller-supplied output arrays:
+     * the number of real roots to {@code rootCount}, the roots to {@code root1}/{@code root2}
+     * (both equal for a single root, NaN when there are none).
+     * The default implementation solves row by row with {@link #solveInto}.
+     *
+     * @throws IllegalArgumentException for the first row with invalid coefficients
+     */
+    default void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                            double[] root1, double[] root2, int[] rootCount) {
+        // One holder for the whole batch
+        RootResult result = new RootResult();
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            solveInto(a[i], b[i], c[i], result);
+            rootCount[i] = result.getCount();
+            root1[i] = result.getRoot1();
+            root2[i] = result.getRoot2();
+        }
+    }
+
+    /**
+     * Solves every row of column-wise stored equations.
+     *
+     * @see #solveBatch(double[], double[], double[], int, int, double[], double[], int[])
+     */
+    default void solveBatch(double[] a, double[] b, double[] c,
+                            double[] root1, double[] root2, int[] rootCount) {
+        solveBatch(a, b, c, 0, a.length, root1, root2, rootCount);
+    }
+
+    /**
+     * Solves one equation without throwing for invalid coefficients. A zero {@code a} is solved as
+     * the linear equation {@code bx + c = 0}; rows that cannot be solved get 0 roots.
+     * The default implementation solves regular quadratics with {@link #solveInto}, and the other rows
+     * like the filter chain in status mode.
+     *
+     * @param result the holder to overwrite with the root count and the roots
+     * @return the row status, 0 for a regular quadratic
+     * @see CoefficientStatus
+     */
+    default int solveWithStatus(double a, double b, double c, RootResult result) {
+        int status = CoefficientStatus.of(a, b, c);
+        if (status == 0) {
+            solveInto(a, b, c, result);
+        } else {
+            // Not a quadratic: nothing for solveInto to solve
+            QuadraticMath.solveChecked(a, b, c, result);
+        }
+        return status;
+    }
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} in status mode: nothing is thrown for invalid
+     * coefficients, each row's {@link CoefficientStatus} is written to {@code status} instead, and rows
+     * with a zero {@code a} are solved as linear equations.
+     * The default implementation solves row by row with {@link #solveWithStatus}.
+     *
+     * @see #solveWithStatus(double, double, double, RootResult)
+     */
+    default void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                            double[] root1, double[] root2, int[] rootCount, int[] status) {
+        // One holder for the whole batch
+        RootResult result = new RootResult();
+        for (int i = offset; i < offset + length; i++) {
+            status[i] = solveWithStatus(a[i], b[i], c[i], result);
+            rootCount[i] = result.getCount();
+            root1[i] = result.getRoot1();
+            root2[i] = result.getRoot2();
+        }
+    }
+
+    /**
+     * Solves one equation in complex-roots mode.
+     *
+     * @return the roots in the packed layout {@code re1, im1, re2, im2}, two doubles per root
+     * (so 2, 4, or 0 doubles when the discriminant is undefined)
+     * @throws IllegalArgumentException if a coefficient is invalid
+     * @see QuadraticMath#solveComplex(double, double, double, double[], int)
+     */
+    default double[] solveComplex(double a, double b, double c) {
+        double[] roots = new double[QuadraticMath.COMPLEX_STRIDE];
+        int count = solveComplexInto(a, b, c, roots, 0);
+        return count == 2 ? roots : Arrays.copyOf(roots, 2 * count);
+    }
+
+    /**
+     * Solves one equation in complex-roots mode into a caller-owned array without allocating.
+     * Always writes {@value QuadraticMath#COMPLEX_STRIDE} doubles, {@code re1, im1, re2, im2}:
+     * real roots have zero imaginary parts, a single root is repeated, and a negative
+     * discriminant gives a conjugate pair. Abstract because the pair cannot be derived from
+     * {@link #solve}, which reports no roots for it.
+     *
+     * @param roots  receives the packed roots
+     * @param offset index of {@code re1} in {@code roots}
+     * @return the number of roots
+     * @throws IllegalArgumentException if a coefficient is invalid
+     */
+    int solveComplexInto(double a, double b, double c, double[] roots, int offset);
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} in complex-roots mode into parallel arrays.
+     * Root 1 is {@code re1[i] + i*im[i]} and root 2 is {@code re2[i] - i*im[i]}; {@code im[i]} is zero
+     * for real roots. Nothing is allocated per row. The default implementation solves row by row with
+     * {@link #solveComplexInto}.
+     *
+     * @throws IllegalArgumentException for the first row with invalid coefficients
+     */
+    default void solveComplexBatch(double[] a, double[] b, double[] c, int offset, int length,
+                                   double[] re1, double[] re2, double[] im, int[] rootCount) {
+        // One packed row of scratch space, reused for every row
+        double[] roots = new double[QuadraticMath.COMPLEX_STRIDE];
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            rootCount[i] = solveComplexInto(a[i], b[i], c[i], roots, 0);
+            re1[i] = roots[0];
+            im[i] = roots[1];
+            re2[i] = roots[2];
+        }
+    }
 }
@@ -2,7 +2,18 @@ package org.example.solver.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.lib.event.FlightRecorderMonitor;
+import org.example.lib.metrics.MetricsRegistry;
 import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.entity.RootResult;
+import org.example.solver.enums.DiscriminantClass;
+import org.example.solver.event.QuadraticBatchEvent;
+import org.example.solver.event.QuadraticSolveEvent;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.metrics.SolverMetrics;
+import org.example.solver.service.batch.QuadraticBatchEngine;
+import org.example.solver.service.batch.QuadraticBatchEngines;
 import org.example.solver.service.handler.QuadraticEquationHandler;
 
 /**
@@ -16,6 +27,13 @@ public class QuadraticEquationSolverImpl implements QuadraticEquationSolver {
 
     private final QuadraticEquationHandler handler;
 
+    // One reusable context per thread for the allocation-free solveInto path
+    private final ThreadLocal<QuadraticEquationContext> reusableContext =
+            ThreadLocal.withInitial(QuadraticEquationContext::new);
+
+    // Engine used by the batch entry points (vectorized when available); it bypasses the per-equation context and logging
+    private final QuadraticBatchEngine batchEngine = QuadraticBatchEngines.best();
+
     /**
      * Solves a quadratic equation of the form ax^2 + bx + c = 0.
      *
@@ -26,7 +44,13 @@ public class QuadraticEquationSolverImpl implements QuadraticEquationSolver {
      */
     @Override
     public double[] solve(double a, double b, double c) {
-        log.info("Received coefficients: a={}, b={}, c={}", a, b, c);
+        // Guarded: the varargs array and the boxed coefficients would be allocated on every call
+        if (log.isDebugEnabled()) {
+            log.debug("Received coefficients: a={}, b={}, c={}", a, b, c);
+        }
+
+        // Only created while a flight recording is running
+        QuadraticSolveEvent event = beginSolveEvent();
 
         // Build the context object to encapsulate the coefficients
         QuadraticEquationContext context = QuadraticEquationContext.builder()
@@ -38,8 +62,227 @@ public class QuadraticEquationSolverImpl implements QuadraticEquationSolver {
 
         // Delegate the handling of the context to the handler
         double[] roots = handler.handleContext(context);
-        log.info("Computed roots: {}", (Object) roots); // Cast to Object to avoid varargs confusion in logging
+        log.debug("Computed roots: {}", (Object) roots); // Cast to Object to avoid varargs confusion in logging
 
+        if (event != null) {
+            commitSolveEvent(event, a, b, c, roots == null ? 0 : roots.length);
+        }
+        if (MetricsRegistry.isEnabled()) {
+            SolverMetrics.global().recordSolve(roots == null ? 0 : roots.length);
+        }
         return roots;
     }
+
+    /**
+     * Solves a quadratic equation into a reusable result holder.
+     * Runs the same filter chain as {@link #solve(double, double, double)}, but reuses a
+     * per-thread context and copies the roots into the holder, so nothing is allocated at steady state.
+     *
+     * @param a      coefficient of x^2
+     * @param b      coefficient of x
+     * @param c      constant term
+     * @param result the holder receiving the root count and the roots
+     * @return the given holder
+     */
+    @Override
+    public RootResult solveInto(double a, double b, double c, RootResult result) {
+        QuadraticSolveEvent event = beginSolveEvent();
+        QuadraticEquationContext context = reusableContext.get();
+        context.reset(a, b, c);
+
+        handler.handleContext(context, result);
+        if (event != null) {
+            commitSolveEvent(event, a, b, c, result.getCount());
+        }
+        if (MetricsRegistry.isEnabled()) {
+            SolverMetrics.global().recordSolve(result.getCount());
+        }
+        return result;
+    }
+
+    /**
+     * Solves a quadratic equation in status mode into a reusable result holder.
+     * Runs the filter chain on the per-thread context; the validators report invalid coefficients
+     * in the context status instead of throwing, and DegenerateEquationSolver ends the chain for them.
+     *
+     * @param a      coefficient of x^2
+     * @param b      coefficient of x
+     * @param c      constant term
+     * @param result the holder receiving the root count and the roots
+     * @return the row status, 0 for a regular quadratic
+     */
+    @Override
+    public int solveWithStatus(double a, double b, double c, RootResult result) {
+        QuadraticSolveEvent event = beginSolveEvent();
+        QuadraticEquationContext context = reusableContext.get();
+        context.reset(a, b, c);
+
+        int status = handler.handleCheckedContext(context, result);
+        if (event != null) {
+            commitSolveEvent(event, a, b, c, result.getCount());
+        }
+        if (MetricsRegistry.isEnabled()) {
+            recordChecked(status, result.getCount());
+        }
+        return status;
+    }
+
+    /**
+     * Solves a quadratic equation in complex-roots mode into a caller-owned array.
+     * Runs the filter chain on the per-thread context, with DiscriminantLessZeroChecker
+     * setting the conjugate pair for a negative discriminant.
+     *
+     * @param a      coefficient of x^2
+     * @param b      coefficient of x
+     * @param c      constant term
+     * @param roots  receives {@code re1, im1, re2, im2}
+     * @param offset index of {@code re1} in {@code roots}
+     * @return the number of roots
+     */
+    @Override
+    public int solveComplexInto(double a, double b, double c, double[] roots, int offset) {
+        QuadraticSolveEvent event = beginSolveEvent();
+        QuadraticEquationContext context = reusableContext.get();
+        context.reset(a, b, c);
+
+        int count = handler.handleComplexContext(context, roots, offset);
+        if (event != null) {
+            commitSolveEvent(event, a, b, c, count);
+        }
+        if (MetricsRegistry.isEnabled()) {
+            // A conjugate pair has no real root
+            SolverMetrics.global().recordSolve(roots[offset + 1] != 0 ? 0 : count);
+        }
+        return count;
+    }
+
+    /**
+     * Solves a batch of quadratic equations stored column-wise.
+     * Nothing is allocated per equation and nothing is logged per equation.
+     *
+     * @param a         coefficients of x^2
+     * @param b         coefficients of x
+     * @param c         constant terms
+     * @param offset    index of the first equation to solve
+     * @param length    number of equations to solve
+     * @param root1     output for the first root
+     * @param root2     output for the second root
+     * @param rootCount output for the number of real roots
+     */
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount) {
+        log.debug("Solving batch of {} equations starting at {}", length, offset);
+        if (!FlightRecorderMonitor.isRecording()) {
+            batchEngine.solve(a, b, c, offset, length, root1, root2, rootCount);
+        } else {
+            QuadraticBatchEvent event = new QuadraticBatchEvent();
+            event.begin();
+            batchEngine.solve(a, b, c, offset, length, root1, root2, rootCount);
+            event.end();
+            if (event.shouldCommit()) {
+                event.length = length;
+                event.engine = batchEngine.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+        if (MetricsRegistry.isEnabled()) {
+            SolverMetrics.global().recordBatch(rootCount, offset, length);
+        }
+    }
+
+    /**
+     * Solves a batch in status mode on the batch engine: regular rows keep the engine's fast path,
+     * rows with invalid coefficients are reported in {@code status} instead of thrown.
+     *
+     * @param status output for the row status
+     */
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount, int[] status) {
+        log.debug("Solving batch of {} equations starting at {} in status mode", length, offset);
+        if (!FlightRecorderMonitor.isRecording()) {
+            batchEngine.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+        } else {
+            QuadraticBatchEvent event = new QuadraticBatchEvent();
+            event.begin();
+            batchEngine.solve(a, b, c, offset, length, root1, root2, rootCount, status);
+            event.end();
+            if (event.shouldCommit()) {
+                event.length = length;
+                event.engine = batchEngine.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+        if (MetricsRegistry.isEnabled()) {
+            SolverMetrics.global().recordBatch(rootCount, status, offset, length);
+        }
+    }
+
+    /**
+     * Solves a batch in complex-roots mode. Like the batch engine, it bypasses the per-equation context
+     * and uses {@link QuadraticMath#solveComplex}, the arithmetic of DiscriminantLessZeroChecker.
+     *
+     * @param re1       output for the real part of the first root
+     * @param re2       output for the real part of the second root
+     * @param im        output for the imaginary part, + for the first root and - for the second
+     * @param rootCount output for the number of roots
+     */
+    @Override
+    public void solveComplexBatch(double[] a, double[] b, double[] c, int offset, int length,
+                                  double[] re1, double[] re2, double[] im, int[] rootCount) {
+        log.debug("Solving batch of {} equations starting at {} in complex-roots mode", length, offset);
+        // One packed row of scratch space, reused for every row
+        double[] roots = new double[QuadraticMath.COMPLEX_STRIDE];
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            rootCount[i] = QuadraticMath.solveComplex(a[i], b[i], c[i], roots, 0);
+            re1[i] = roots[0];
+            im[i] = roots[1];
+            re2[i] = roots[2];
+        }
+        if (MetricsRegistry.isEnabled()) {
+            SolverMetrics.global().recordComplexBatch(rootCount, im, offset, length);
+        }
+    }
+
+    /**
+     * Records a status-mode solve: a row with a status counts as a validation failure, not by its discriminant.
+     */
+    private static void recordChecked(int status, int rootCount) {
+        if (status != 0) {
+            SolverMetrics.global().recordValidation(status);
+        } else {
+            SolverMetrics.global().recordSolve(rootCount);
+        }
+    }
+
+    /**
+     * Starts timing a solve call if a flight recording is running.
+     *
+     * @return the started event, or null when nothing is recorded
+     */
+    private static QuadraticSolveEvent beginSolveEvent() {
+        if (!FlightRecorderMonitor.isRecording()) {
+            return null;
+        }
+        QuadraticSolveEvent event = new QuadraticSolveEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in and commits a solve event if it passes the configured threshold.
+     */
+    private static void commitSolveEvent(QuadraticSolveEvent event, double a, double b, double c, int rootCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.a = a;
+            event.b = b;
+            event.c = c;
+            event.rootCount = rootCount;
+            event.discriminantClass = DiscriminantClass.of(QuadraticMath.discriminant(a, b, c)).name();
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package org.example.solver.service;
+
+import org.example.lib.ContextFilter;
+import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.registry.QuadraticEquationFilterRegistry;
+import org.example.solver.service.handler.QuadraticEquationHandler;
+
+import java.util.List;
+
+/**
+ * Wires the standard solver with the full filter chain, for the entry points that are not
+ * assembled by a container.
+ */
+public final class QuadraticEquationSolvers {
+
+    private QuadraticEquationSolvers() {
+    }
+
+    /**
+     * Returns new instances of the standard filters, in pipeline order.
+     *
+     * @return the validator, discriminant and root filters
+     */
+    public static List<ContextFilter<QuadraticEquationContext>> defaultFilters() {
+        return QuadraticEquationFilterRegistry.INSTANCE.createFilters();
+    }
+
+    /**
+     * Creates a solver running the standard filter chain.
+     *
+     * @return a new solver
+     */
+    public static QuadraticEquationSolver create() {
+        return new QuadraticEquationSolverImpl(
+                new QuadraticEquationHandler(new QuadraticEquationContextHandler()));
+    }
+}
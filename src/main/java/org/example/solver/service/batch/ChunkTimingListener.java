@@ -0,0 +1,19 @@
+package org.example.solver.service.batch;
+
+/**
+ * Receives the solve time of every chunk processed by {@link ParallelQuadraticBatchSolver}.
+ * Called from the worker threads, so implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface ChunkTimingListener {
+
+    /**
+     * Reports one solved chunk.
+     *
+     * @param chunkIndex index of the chunk, counted from the start of the solved slice
+     * @param offset     index of the first row of the chunk
+     * @param length     number of rows in the chunk
+     * @param nanos      time spent solving the chunk
+     */
+    void onChunk(int chunkIndex, int offset, int length, long nanos);
+}
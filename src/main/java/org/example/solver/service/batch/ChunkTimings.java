@@ -0,0 +1,83 @@
+package org.example.solver.service.batch;
+
+/**
+ * Collects per-chunk timings of one parallel batch run.
+ * Every chunk writes its own slot, so recording needs no synchronization.
+ *
+ * <p>{@link #parallelism(long)} divides the summed chunk time by the wall-clock time of the run;
+ * with linear scaling it is close to the number of worker threads.
+ */
+public class ChunkTimings implements ChunkTimingListener {
+
+    private final long[] chunkNanos;
+    private final int[] chunkLengths;
+
+    /**
+     * Creates a recorder for a run with the given number of chunks.
+     *
+     * @param chunkCount number of chunks, see {@link ParallelQuadraticBatchSolver#chunkCount(int)}
+     */
+    public ChunkTimings(int chunkCount) {
+        this.chunkNanos = new long[chunkCount];
+        this.chunkLengths = new int[chunkCount];
+    }
+
+    @Override
+    public void onChunk(int chunkIndex, int offset, int length, long nanos) {
+        chunkNanos[chunkIndex] = nanos;
+        chunkLengths[chunkIndex] = length;
+    }
+
+    public int chunkCount() {
+        return chunkNanos.length;
+    }
+
+    public long chunkNanos(int chunkIndex) {
+        return chunkNanos[chunkIndex];
+    }
+
+    public long totalNanos() {
+        long total = 0;
+        for (long nanos : chunkNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    public long maxNanos() {
+        long max = 0;
+        for (long nanos : chunkNanos) {
+            max = Math.max(max, nanos);
+        }
+        return max;
+    }
+
+    /**
+     * Average solve time per equation over all chunks.
+     *
+     * @return nanoseconds per equation
+     */
+    public double nanosPerEquation() {
+        long rows = 0;
+        for (int length : chunkLengths) {
+            rows += length;
+        }
+        return rows == 0 ? 0 : (double) totalNanos() / rows;
+    }
+
+    /**
+     * Effective number of cores kept busy during the run.
+     *
+     * @param wallNanos wall-clock duration of the whole parallel solve
+     * @return summed chunk time divided by wall time
+     */
+    public double parallelism(long wallNanos) {
+        return wallNanos == 0 ? 0 : (double) totalNanos() / wallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChunkTimings{chunks=%d, total=%d ns, max=%d ns, %.3f ns/equation}",
+                chunkCount(), totalNanos(), maxNanos(), nanosPerEquation());
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.solver.service.batch;
+
+import lombok.Value;
+
+/**
+ * Snapshot of the counters of a {@link CoalescingQuadraticEquationSolver}.
+ */
+@Value
+public class CoalescerStats {
+    long submitted;
+    long dispatched;
+    long batches;
+    long fullBatches;
+    long queueDepth;
+    int maxBatchSize;
+
+    /**
+     * Average number of equations per solved batch.
+     *
+     * @return the mean batch size, 0 when no batch was solved
+     */
+    public double averageBatchSize() {
+        return batches == 0 ? 0 : (double) dispatched / batches;
+    }
+
+    /**
+     * Average fraction of the maximum batch size that was used.
+     *
+     * @return the batch fill between 0 and 1
+     */
+    public double batchFill() {
+        return averageBatchSize() / maxBatchSize;
+    }
+}
@@ -0,0 +1,305 @@
+package org.example.solver.service.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.service.QuadraticEquationSolver;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Coalesces concurrent {@link #solveAsync} calls into batches for the delegate's batch path.
+ *
+ * <p>Callers validate their coefficients and append a request to a lock-free queue. A single
+ * dispatcher thread drains the queue: it starts a batch with the first waiting request and keeps
+ * adding requests until the batch holds {@code maxBatchSize} equations or {@code maxWait} has passed
+ * since it started, then solves the batch with one
+ * {@link QuadraticEquationSolver#solveBatch solveBatch} call and completes the futures.
+ * An idle dispatcher parks and is woken by the next request.
+ *
+ * <p>Futures are completed on the dispatcher thread, so dependent stages that do real work
+ * should be attached with an {@code ...Async} method. Synchronous calls, in every mode, go straight
+ * to the delegate.
+ */
+@Slf4j
+public class CoalescingQuadraticEquationSolver implements QuadraticEquationSolver, AutoCloseable {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofNanos(50_000);
+
+    // Upper bound of an idle park; producers unpark the dispatcher earlier
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * One queued equation and the future waiting for its roots.
+     */
+    private static final class Request {
+        final double a;
+        final double b;
+        final double c;
+        final CompletableFuture<double[]> future = new CompletableFuture<>();
+
+        Request(double a, double b, double c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+    }
+
+    private final QuadraticEquationSolver delegate;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+
+    private final ConcurrentLinkedQueue<Request> queue = new ConcurrentLinkedQueue<>();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+    private volatile boolean idle;
+
+    // Queue depth is submitted - dispatched; batch fill is dispatched / batches / maxBatchSize
+    private final LongAdder submitted = new LongAdder();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong fullBatches = new AtomicLong();
+
+    // Dispatcher-owned batch buffers
+    private final Request[] batch;
+    private final double[] a;
+    private final double[] b;
+    private final double[] c;
+    private final double[] root1;
+    private final double[] root2;
+    private final int[] rootCount;
+
+    /**
+     * Coalesces up to {@value #DEFAULT_MAX_BATCH_SIZE} equations or 50 µs.
+     *
+     * @param delegate the solver whose batch path solves the coalesced requests
+     */
+    public CoalescingQuadraticEquationSolver(QuadraticEquationSolver delegate) {
+        this(delegate, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * @param delegate     the solver whose batch path solves the coalesced requests
+     * @param maxBatchSize largest number of equations per batch
+     * @param maxWait      longest time a batch waits for more requests after its first one
+     */
+    public CoalescingQuadraticEquationSolver(QuadraticEquationSolver delegate, int maxBatchSize, Duration maxWait) {
+        if (maxBatchSize <= 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxBatchSize must be positive and maxWait not negative");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+
+        this.batch = new Request[maxBatchSize];
+        this.a = new double[maxBatchSize];
+        this.b = new double[maxBatchSize];
+        this.c = new double[maxBatchSize];
+        this.root1 = new double[maxBatchSize];
+        this.root2 = new double[maxBatchSize];
+        this.rootCount = new int[maxBatchSize];
+
+        this.dispatcher = new Thread(this::dispatch, "quadratic-coalescer");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public double[] solve(double a, double b, double c) {
+        return delegate.solve(a, b, c);
+    }
+
+    @Override
+    public RootResult solveInto(double a, double b, double c, RootResult result) {
+        return delegate.solveInto(a, b, c, result);
+    }
+
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount) {
+        delegate.solveBatch(a, b, c, offset, length, root1, root2, rootCount);
+    }
+
+    @Override
+    public int solveWithStatus(double a, double b, double c, RootResult result) {
+        return delegate.solveWithStatus(a, b, c, result);
+    }
+
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount, int[] status) {
+        delegate.solveBatch(a, b, c, offset, length, root1, root2, rootCount, status);
+    }
+
+    @Override
+    public int solveComplexInto(double a, double b, double c, double[] roots, int offset) {
+        return delegate.solveComplexInto(a, b, c, roots, offset);
+    }
+
+    @Override
+    public void solveComplexBatch(double[] a, double[] b, double[] c, int offset, int length,
+                                  double[] re1, double[] re2, double[] im, int[] rootCount) {
+        delegate.solveComplexBatch(a, b, c, offset, length, re1, re2, im, rootCount);
+    }
+
+    /**
+     * Queues an equation for the next batch.
+     *
+     * @return a future completed with the roots once the batch is solved; already failed
+     * with an {@link IllegalArgumentException} for invalid coefficients, or with a
+     * {@link RejectedExecutionException} after {@link #close()}
+     */
+    @Override
+    public CompletableFuture<double[]> solveAsync(double a, double b, double c) {
+        // Validate on the caller, so that one bad equation cannot fail a whole batch
+        try {
+            CoefficientStatus.validate(a, b, c);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!running) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("solver is closed"));
+        }
+
+        Request request = new Request(a, b, c);
+        queue.offer(request);
+        submitted.increment();
+        if (idle) {
+            LockSupport.unpark(dispatcher);
+        }
+        if (!running && queue.remove(request)) {
+            // Closed while offering, and the dispatcher may already have exited
+            submitted.decrement();
+            request.future.completeExceptionally(new RejectedExecutionException("solver is closed"));
+        }
+        return request.future;
+    }
+
+    /**
+     * Returns the number of requests waiting for a batch.
+     *
+     * @return the current queue depth
+     */
+    public long getQueueDepth() {
+        return Math.max(0, submitted.sum() - dispatched.get());
+    }
+
+    /**
+     * Returns a snapshot of the queue and batch counters.
+     *
+     * @return the current statistics
+     */
+    public CoalescerStats stats() {
+        return new CoalescerStats(submitted.sum(), dispatched.get(), batches.get(), fullBatches.get(),
+                getQueueDepth(), maxBatchSize);
+    }
+
+    /**
+     * Stops accepting requests, solves those already queued and stops the dispatcher.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Dispatcher loop: collects batches until closed and the queue is drained.
+     */
+    private void dispatch() {
+        while (true) {
+            Request first = queue.poll();
+            if (first == null) {
+                if (!running) {
+                    // A request offered just before close() is still picked up by this last poll
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                // Announce the park before re-checking, so a producer either sees idle or we see its request
+                idle = true;
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+
+            // Fill the batch until it is full or the wait window of its first request has passed
+            batch[0] = first;
+            int size = 1;
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (size < maxBatchSize) {
+                Request next = queue.poll();
+                if (next != null) {
+                    batch[size++] = next;
+                } else if (System.nanoTime() - deadline >= 0 || !running) {
+                    break;
+                } else {
+                    // Let producers on the same core enqueue
+                    Thread.yield();
+                }
+            }
+            solveBatch(size);
+        }
+    }
+
+    /**
+     * Solves the collected requests and completes their futures.
+     */
+    private void solveBatch(int size) {
+        dispatched.addAndGet(size);
+        batches.incrementAndGet();
+        if (size == maxBatchSize) {
+            fullBatches.incrementAndGet();
+        }
+
+        for (int i = 0; i < size; i++) {
+            a[i] = batch[i].a;
+            b[i] = batch[i].b;
+            c[i] = batch[i].c;
+        }
+        try {
+            delegate.solveBatch(a, b, c, 0, size, root1, root2, rootCount);
+        } catch (RuntimeException e) {
+            log.error("Coalesced batch of {} equations failed", size, e);
+            for (int i = 0; i < size; i++) {
+                batch[i].future.completeExceptionally(e);
+                batch[i] = null;
+            }
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            // Same shape as solve(): one array element per real root
+            double[] roots;
+            switch (rootCount[i]) {
+                case 1:
+                    roots = new double[]{root1[i]};
+                    break;
+                case 2:
+                    roots = new double[]{root1[i], root2[i]};
+                    break;
+                default:
+                    roots = new double[0];
+            }
+            Request request = batch[i];
+            batch[i] = null;
+            request.future.complete(roots);
+        }
+    }
+}
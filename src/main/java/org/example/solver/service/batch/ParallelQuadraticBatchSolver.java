@@ -0,0 +1,181 @@
+package org.example.solver.service.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Solves large batches on a {@link ForkJoinPool} by splitting the rows into fixed-size chunks.
+ *
+ * <p>Chunk boundaries depend only on the offset, length and chunk size, and every chunk
+ * writes a disjoint range of the output arrays. The output is therefore identical to a
+ * sequential run, whatever the number of threads or the scheduling order.
+ * Invalid coefficients are reported the same way: every chunk runs to its end or to its first invalid
+ * row, and the exception of the lowest invalid row is rethrown once all chunks are done.
+ * The default chunk keeps the six arrays of one chunk (three inputs, three outputs) within
+ * a typical L2 cache.
+ */
+@Slf4j
+public class ParallelQuadraticBatchSolver {
+
+    // 8192 rows * (5 doubles + 1 int) ≈ 360 KB per chunk
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final ChunkTimingListener NO_TIMING = (chunkIndex, offset, length, nanos) -> {
+    };
+
+    private final QuadraticBatchEngine engine;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a solver using the best available engine on the common pool.
+     */
+    public ParallelQuadraticBatchSolver() {
+        this(QuadraticBatchEngines.best(), ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a solver on a caller-supplied pool.
+     *
+     * @param engine    the engine solving each chunk
+     * @param pool      the pool running the chunks
+     * @param chunkSize number of rows per chunk
+     */
+    public ParallelQuadraticBatchSolver(QuadraticBatchEngine engine, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.engine = engine;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} in parallel, writing results in place.
+     *
+     * @throws IllegalArgumentException for the lowest row with invalid coefficients, as a sequential run
+     *                                  would; chunks without an invalid row are still solved, the rows after
+     *                                  the first invalid row of a chunk are left unwritten
+     * @see QuadraticBatchEngine#solve
+     */
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount) {
+        solve(a, b, c, offset, length, root1, root2, rootCount, NO_TIMING);
+    }
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} in parallel and reports the time of every chunk.
+     *
+     * @param listener receives one call per solved chunk, from the worker thread that solved it
+     * @throws IllegalArgumentException for the lowest row with invalid coefficients, see
+     *                                  {@link #solve(double[], double[], double[], int, int, double[], double[], int[])}
+     * @see QuadraticBatchEngine#solve
+     */
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount, ChunkTimingListener listener) {
+        ScalarQuadraticBatchEngine.checkBounds(a, b, c, offset, length, root1, root2, rootCount);
+
+        int chunks = chunkCount(length);
+        log.debug("Solving {} equations in {} chunks of {}", length, chunks, chunkSize);
+        if (chunks == 0) {
+            return;
+        }
+
+        // Chunks record their failure instead of throwing, so that no sibling is cancelled
+        AtomicReferenceArray<IllegalArgumentException> failures = new AtomicReferenceArray<>(chunks);
+        ChunkTask task = new ChunkTask(a, b, c, offset, length, root1, root2, rootCount, listener, failures, 0, chunks);
+        if (chunks == 1) {
+            // Not worth a hand-off to the pool
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+
+        // The engine reports the first invalid row of its chunk, so the lowest failed chunk has the lowest row
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            IllegalArgumentException failure = failures.get(chunk);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Returns how many chunks a slice of the given length is split into.
+     *
+     * @param length number of rows
+     * @return number of chunks
+     */
+    public int chunkCount(int length) {
+        return (int) (((long) length + chunkSize - 1) / chunkSize);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Recursively halves a range of chunks until a single chunk is left, then solves it.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final int offset;
+        private final int length;
+        private final double[] root1;
+        private final double[] root2;
+        private final int[] rootCount;
+        private final ChunkTimingListener listener;
+        private final AtomicReferenceArray<IllegalArgumentException> failures;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkTask(double[] a, double[] b, double[] c, int offset, int length,
+                  double[] root1, double[] root2, int[] rootCount,
+                  ChunkTimingListener listener, AtomicReferenceArray<IllegalArgumentException> failures,
+                  int fromChunk, int toChunk) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.offset = offset;
+            this.length = length;
+            this.root1 = root1;
+            this.root2 = root2;
+            this.rootCount = rootCount;
+            this.listener = listener;
+            this.failures = failures;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(split(fromChunk, middle), split(middle, toChunk));
+                return;
+            }
+
+            // A single chunk: solve it and report the elapsed time
+            int start = offset + fromChunk * chunkSize;
+            int rows = Math.min(chunkSize, offset + length - start);
+            long begin = System.nanoTime();
+            try {
+                engine.solve(a, b, c, start, rows, root1, root2, rootCount);
+            } catch (IllegalArgumentException e) {
+                failures.set(fromChunk, e);
+                return;
+            }
+            listener.onChunk(fromChunk, start, rows, System.nanoTime() - begin);
+        }
+
+        private ChunkTask split(int from, int to) {
+            return new ChunkTask(a, b, c, offset, length, root1, root2, rootCount, listener, failures, from, to);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.solver.service.batch;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Solves many quadratic equations stored column-wise in primitive arrays.
+ *
+ * <p>For every row {@code i} in {@code [offset, offset + length)} the engine reads
+ * {@code a[i], b[i], c[i]} and writes {@code rootCount[i]}, {@code root1[i]} and {@code root2[i]}:
+ * <ul>
+ *     <li>2 roots: {@code root1} and {@code root2} hold the same values the filter chain returns;</li>
+ *     <li>1 root: both {@code root1} and {@code root2} hold the root of multiplicity two;</li>
+ *     <li>0 roots: both hold {@link Double#NaN}.</li>
+ * </ul>
+ * Coefficients are validated like the filter chain does: the first invalid row
+ * raises an {@link IllegalArgumentException}. Rows before it are already written.
+ * Implementations must not allocate per row. The status overload of {@code solve} reports invalid
+ * rows in a status array instead.
+ */
+public interface QuadraticBatchEngine {
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} of the coefficient arrays.
+     *
+     * @param a         coefficients of x^2
+     * @param b         coefficients of x
+     * @param c         constant terms
+     * @param offset    index of the first row to solve
+     * @param length    number of rows to solve
+     * @param root1     output for the first root, indexed like the inputs
+     * @param root2     output for the second root, indexed like the inputs
+     * @param rootCount output for the number of real roots, indexed like the inputs
+     */
+    void solve(double[] a, double[] b, double[] c, int offset, int length,
+               double[] root1, double[] root2, int[] rootCount);
+
+    /**
+     * Solves the rows {@code [offset, offset + length)} without throwing for invalid coefficients:
+     * the {@link CoefficientStatus} of every row is written to {@code status}, rows with a zero
+     * {@code a} are solved as linear equations and rows that cannot be solved get 0 roots.
+     *
+     * <p>Runs of regular rows go through {@link #solve(double[], double[], double[], int, int, double[], double[], int[])},
+     * so clean data keeps its fast path; only the reported rows are solved one at a time.
+     *
+     * @param status output for the row status, indexed like the inputs
+     */
+    default void solve(double[] a, double[] b, double[] c, int offset, int length,
+                       double[] root1, double[] root2, int[] rootCount, int[] status) {
+        RootResult result = null;
+        int runStart = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (QuadraticMath.isValid(a[i], b[i], c[i])) {
+                status[i] = 0;
+                continue;
+            }
+
+            // Flush the regular rows before this one, then solve it on its own
+            if (i > runStart) {
+                solve(a, b, c, runStart, i - runStart, root1, root2, rootCount);
+            }
+            if (result == null) {
+                result = new RootResult();
+            }
+            status[i] = QuadraticMath.solveChecked(a[i], b[i], c[i], result);
+            rootCount[i] = result.getCount();
+            root1[i] = result.getRoot1();
+            root2[i] = result.getRoot2();
+            runStart = i + 1;
+        }
+        if (end > runStart) {
+            solve(a, b, c, runStart, end - runStart, root1, root2, rootCount);
+        }
+    }
+
+    /**
+     * Solves rows stored column-wise in byte buffers, reading and writing the buffers directly.
+     *
+     * <p>Each buffer holds {@code rows} rows per column, in the buffer's byte order, starting at its base:
+     * {@code coefficients} holds the doubles of a, then of b, then of c; {@code roots} holds the doubles of
+     * root1, then of root2, then the ints of the root counts. Only rows {@code [offset, offset + length)}
+     * are solved. Positions and limits of the buffers are ignored and left unchanged.
+     *
+     * @param coefficients the a, b and c columns
+     * @param inBase       byte index of the a column
+     * @param roots        receives the root1, root2 and count columns
+     * @param outBase      byte index of the root1 column
+     * @param rows         rows per column
+     * @param offset       index of the first row to solve
+     * @param length       number of rows to solve
+     */
+    void solveColumns(ByteBuffer coefficients, int inBase, ByteBuffer roots, int outBase,
+                      int rows, int offset, int length);
+}
@@ -0,0 +1,110 @@
+package org.example.solver.service.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Chooses the fastest batch engine the running JVM supports.
+ *
+ * <p>The vector engine is used when the {@code jdk.incubator.vector} module is resolved
+ * (JVM started with {@code --add-modules jdk.incubator.vector}); otherwise the scalar engine is used.
+ * Setting the system property {@code solver.batch.engine=scalar} forces the scalar engine.
+ * The choice is made and logged once per JVM, on the first call to {@link #best()}. The vector engine
+ * is only chosen after solving a probe batch through both of its entry points, so that a Vector API
+ * method missing from this JDK fails at selection rather than in the caller's first batch.
+ */
+@Slf4j
+public final class QuadraticBatchEngines {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_ENGINE = "org.example.solver.service.batch.VectorQuadraticBatchEngine";
+    // Two full vectors of the widest species (512 bits)
+    private static final int PROBE_ROWS = 16;
+
+    private QuadraticBatchEngines() {
+    }
+
+    /**
+     * Creates the best available batch engine.
+     *
+     * @return the vector engine when available, otherwise the scalar engine
+     */
+    public static QuadraticBatchEngine best() {
+        if (Choice.VECTOR) {
+            QuadraticBatchEngine engine = newVectorEngine();
+            if (engine != null) {
+                return engine;
+            }
+        }
+        return new ScalarQuadraticBatchEngine();
+    }
+
+    /**
+     * Loads the vector engine reflectively, so that this class links even without the incubator module.
+     *
+     * @return the engine, or null if it cannot be loaded
+     */
+    private static QuadraticBatchEngine newVectorEngine() {
+        try {
+            return (QuadraticBatchEngine) Class.forName(VECTOR_ENGINE)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Vector API present but the vector engine could not be loaded, falling back to scalar", e);
+            return null;
+        }
+    }
+
+    /**
+     * Solves x^2 - 1 = 0 on the array and on the byte-buffer path, so that every Vector API method the
+     * engine calls is resolved.
+     *
+     * @return true if both paths ran
+     */
+    private static boolean probe(QuadraticBatchEngine engine) {
+        double[] a = new double[PROBE_ROWS];
+        double[] b = new double[PROBE_ROWS];
+        double[] c = new double[PROBE_ROWS];
+        ByteBuffer coefficients = ByteBuffer.allocate(3 * PROBE_ROWS * Double.BYTES);
+        for (int i = 0; i < PROBE_ROWS; i++) {
+            a[i] = 1;
+            c[i] = -1;
+            coefficients.putDouble(i * Double.BYTES, 1);
+            coefficients.putDouble((2 * PROBE_ROWS + i) * Double.BYTES, -1);
+        }
+        try {
+            engine.solve(a, b, c, 0, PROBE_ROWS, new double[PROBE_ROWS], new double[PROBE_ROWS], new int[PROBE_ROWS]);
+            engine.solveColumns(coefficients, 0, ByteBuffer.allocate(PROBE_ROWS * (2 * Double.BYTES + Integer.BYTES)),
+                    0, PROBE_ROWS, 0, PROBE_ROWS);
+            return true;
+        } catch (LinkageError | RuntimeException e) {
+            log.warn("Vector engine failed its probe batch, falling back to scalar", e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the Vector API module is part of the boot layer.
+     *
+     * @return true if {@code jdk.incubator.vector} can be used
+     */
+    public static boolean isVectorApiAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * The engine choice, made and logged once when the first solver is built.
+     */
+    private static final class Choice {
+        static final boolean VECTOR = choose();
+
+        private static boolean choose() {
+            QuadraticBatchEngine engine = !"scalar".equalsIgnoreCase(System.getProperty("solver.batch.engine"))
+                    && isVectorApiAvailable() ? newVectorEngine() : null;
+            boolean vector = engine != null && probe(engine);
+            log.info(vector ? "Using vectorized quadratic batch engine" : "Using scalar quadratic batch engine");
+            return vector;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.solver.service.batch;
+
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.metrics.SolverMetrics;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Straightforward row-by-row batch engine.
+ * Every row goes through {@link QuadraticMath#solve}, the same floating-point operations as the
+ * filter chain, so its roots are bit-for-bit identical to {@code QuadraticEquationSolver.solve}.
+ */
+public class ScalarQuadraticBatchEngine implements QuadraticBatchEngine {
+
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount) {
+        checkBounds(a, b, c, offset, length, root1, root2, rootCount);
+
+        // One holder per batch, not per row
+        RootResult row = new RootResult();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            double ai = a[i];
+            double bi = b[i];
+            double ci = c[i];
+
+            // Same checks as AValueValidator, BValueValidator and CValueValidator
+            if (ai == 0 || !Double.isFinite(ai) || !Double.isFinite(bi) || !Double.isFinite(ci)) {
+                rejectRow(ai, bi, ci, i);
+            }
+
+            QuadraticMath.solve(ai, bi, ci, row);
+            root1[i] = row.getRoot1();
+            root2[i] = row.getRoot2();
+            rootCount[i] = row.getCount();
+        }
+    }
+
+    @Override
+    public void solveColumns(ByteBuffer coefficients, int inBase, ByteBuffer roots, int outBase,
+                             int rows, int offset, int length) {
+        checkColumnBounds(coefficients, inBase, roots, outBase, rows, offset, length);
+
+        // Column offsets within each buffer
+        int column = rows * Double.BYTES;
+        RootResult row = new RootResult();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int position = i * Double.BYTES;
+            double ai = coefficients.getDouble(inBase + position);
+            double bi = coefficients.getDouble(inBase + column + position);
+            double ci = coefficients.getDouble(inBase + 2 * column + position);
+            if (ai == 0 || !Double.isFinite(ai) || !Double.isFinite(bi) || !Double.isFinite(ci)) {
+                rejectRow(ai, bi, ci, i);
+            }
+
+            QuadraticMath.solve(ai, bi, ci, row);
+            roots.putDouble(outBase + position, row.getRoot1());
+            roots.putDouble(outBase + column + position, row.getRoot2());
+            roots.putInt(outBase + 2 * column + i * Integer.BYTES, row.getCount());
+        }
+    }
+
+    /**
+     * Raises the same exception as the filter chain for an invalid row, with the row index added to the message.
+     */
+    void rejectRow(double a, double b, double c, int index) {
+        int status = CoefficientStatus.of(a, b, c);
+        if (MetricsRegistry.isEnabled()) {
+            SolverMetrics.global().recordValidation(status);
+        }
+        throw CoefficientStatus.rowException(status, index);
+    }
+
+    /**
+     * Checks that the columns fit into the buffers and the requested rows into the columns.
+     */
+    static void checkColumnBounds(ByteBuffer coefficients, int inBase, ByteBuffer roots, int outBase,
+                                  int rows, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, rows);
+        Objects.checkFromIndexSize(inBase, 3L * rows * Double.BYTES, coefficients.capacity());
+        Objects.checkFromIndexSize(outBase, (long) rows * (2 * Double.BYTES + Integer.BYTES), roots.capacity());
+    }
+
+    /**
+     * Checks that the requested slice fits into every input and output array.
+     */
+    static void checkBounds(double[] a, double[] b, double[] c, int offset, int length,
+                            double[] root1, double[] root2, int[] rootCount) {
+        Objects.checkFromIndexSize(offset, length, a.length);
+        Objects.checkFromIndexSize(offset, length, b.length);
+        Objects.checkFromIndexSize(offset, length, c.length);
+        Objects.checkFromIndexSize(offset, length, root1.length);
+        Objects.checkFromIndexSize(offset, length, root2.length);
+        Objects.checkFromIndexSize(offset, length, rootCount.length);
+    }
+}
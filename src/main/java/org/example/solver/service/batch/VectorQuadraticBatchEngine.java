@@ -0,0 +1,166 @@
+package org.example.solver.service.batch;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.example.solver.math.QuadraticMath;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * SIMD batch engine built on the incubating Vector API ({@code jdk.incubator.vector}).
+ *
+ * <p>Each iteration solves {@code SPECIES.length()} equations at once. The three
+ * discriminant cases are evaluated for every lane and merged with masks, so there is
+ * no data-dependent branch in the loop. Every lane performs the same IEEE operations
+ * as the scalar engine, which keeps the results bit-for-bit identical, EPSILON band included.
+ *
+ * <p>Needs {@code --add-modules jdk.incubator.vector} at runtime; use
+ * {@link QuadraticBatchEngines#best()} to fall back to the scalar engine when the module is absent.
+ */
+public class VectorQuadraticBatchEngine implements QuadraticBatchEngine {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // fromByteBuffer and intoByteBuffer were removed from the incubator API in JDK 19
+    private static final boolean BYTE_BUFFER_LANES = Runtime.version().feature() < 19;
+
+    // Handles invalid blocks and the tail that does not fill a whole vector
+    private final ScalarQuadraticBatchEngine scalarEngine = new ScalarQuadraticBatchEngine();
+
+    @Override
+    public void solve(double[] a, double[] b, double[] c, int offset, int length,
+                      double[] root1, double[] root2, int[] rootCount) {
+        ScalarQuadraticBatchEngine.checkBounds(a, b, c, offset, length, root1, root2, rootCount);
+
+        int lanes = SPECIES.length();
+        // One small buffer per call: lane-wise double to int conversion is not intrinsified on every JDK
+        double[] countScratch = new double[lanes];
+        DoubleVector epsilon = DoubleVector.broadcast(SPECIES, QuadraticMath.EPSILON);
+        DoubleVector minusEpsilon = DoubleVector.broadcast(SPECIES, -QuadraticMath.EPSILON);
+        int upperBound = offset + SPECIES.loopBound(length);
+        int i = offset;
+
+        for (; i < upperBound; i += lanes) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            DoubleVector vc = DoubleVector.fromArray(SPECIES, c, i);
+
+            // Same checks as the validators: x * 0 is 0 for finite x and NaN for NaN or infinity,
+            // so the sum is 0 only when all coefficients are numeric
+            DoubleVector finite = va.mul(0).add(vb.mul(0)).add(vc.mul(0));
+            VectorMask<Double> valid = finite.eq(0).andNot(va.eq(0));
+            if (!valid.allTrue()) {
+                // The scalar engine reports the exact row
+                scalarEngine.solve(a, b, c, i, lanes, root1, root2, rootCount);
+                continue;
+            }
+
+            // Δ = b^2 - 4ac, evaluated as b*b - (4*a)*c like the scalar code
+            DoubleVector discriminant = vb.mul(vb).sub(va.mul(4).mul(vc));
+            DoubleVector twoA = va.mul(2);
+            DoubleVector minusB = vb.neg();
+
+            // |Δ| < EPSILON and Δ > EPSILON, written as plain less-than comparisons
+            VectorMask<Double> zero = discriminant.lt(epsilon).and(minusEpsilon.lt(discriminant));
+            VectorMask<Double> positive = epsilon.lt(discriminant);
+
+            // Numerators for both cases are computed for every lane and selected by mask:
+            // -b for a single root, -b ± sqrt(Δ) for two roots (sqrt of a negative lane is NaN and masked out)
+            DoubleVector sqrtDiscriminant = discriminant.sqrt();
+            DoubleVector numerator1 = minusB.add(sqrtDiscriminant).blend(minusB, zero);
+            DoubleVector numerator2 = minusB.sub(sqrtDiscriminant).blend(minusB, zero);
+
+            // Lanes without real roots get NaN
+            VectorMask<Double> noRoots = zero.or(positive).not();
+            numerator1.div(twoA).blend(Double.NaN, noRoots).intoArray(root1, i);
+            numerator2.div(twoA).blend(Double.NaN, noRoots).intoArray(root2, i);
+
+            // Root count per lane: 1 for the zero mask, 2 for the positive mask
+            DoubleVector counts = DoubleVector.zero(SPECIES)
+                    .blend(1.0, zero)
+                    .blend(2.0, positive);
+            counts.intoArray(countScratch, 0);
+            for (int lane = 0; lane < lanes; lane++) {
+                rootCount[i + lane] = (int) countScratch[lane];
+            }
+        }
+
+        // Remaining rows that do not fill a whole vector
+        if (i < offset + length) {
+            scalarEngine.solve(a, b, c, i, offset + length - i, root1, root2, rootCount);
+        }
+    }
+
+    /**
+     * Vectorized form of {@link #solve} for columns held in byte buffers: lanes are loaded with
+     * {@code fromByteBuffer} and stored with {@code intoByteBuffer}, in the coefficient buffer's byte order.
+     * These methods only exist up to JDK 18; later JDKs solve the columns with the scalar engine.
+     */
+    @Override
+    public void solveColumns(ByteBuffer coefficients, int inBase, ByteBuffer roots, int outBase,
+                             int rows, int offset, int length) {
+        if (!BYTE_BUFFER_LANES) {
+            scalarEngine.solveColumns(coefficients, inBase, roots, outBase, rows, offset, length);
+            return;
+        }
+        ScalarQuadraticBatchEngine.checkColumnBounds(coefficients, inBase, roots, outBase, rows, offset, length);
+
+        int lanes = SPECIES.length();
+        ByteOrder inOrder = coefficients.order();
+        ByteOrder outOrder = roots.order();
+        int column = rows * Double.BYTES;
+        int bBase = inBase + column;
+        int cBase = inBase + 2 * column;
+        int root2Base = outBase + column;
+        int countBase = outBase + 2 * column;
+
+        double[] countScratch = new double[lanes];
+        DoubleVector epsilon = DoubleVector.broadcast(SPECIES, QuadraticMath.EPSILON);
+        DoubleVector minusEpsilon = DoubleVector.broadcast(SPECIES, -QuadraticMath.EPSILON);
+        int upperBound = offset + SPECIES.loopBound(length);
+        int i = offset;
+
+        for (; i < upperBound; i += lanes) {
+            int position = i * Double.BYTES;
+            DoubleVector va = DoubleVector.fromByteBuffer(SPECIES, coefficients, inBase + position, inOrder);
+            DoubleVector vb = DoubleVector.fromByteBuffer(SPECIES, coefficients, bBase + position, inOrder);
+            DoubleVector vc = DoubleVector.fromByteBuffer(SPECIES, coefficients, cBase + position, inOrder);
+
+            // Same steps as solve(double[]...), see the comments there
+            DoubleVector finite = va.mul(0).add(vb.mul(0)).add(vc.mul(0));
+            VectorMask<Double> valid = finite.eq(0).andNot(va.eq(0));
+            if (!valid.allTrue()) {
+                scalarEngine.solveColumns(coefficients, inBase, roots, outBase, rows, i, lanes);
+                continue;
+            }
+
+            DoubleVector discriminant = vb.mul(vb).sub(va.mul(4).mul(vc));
+            DoubleVector twoA = va.mul(2);
+            DoubleVector minusB = vb.neg();
+            VectorMask<Double> zero = discriminant.lt(epsilon).and(minusEpsilon.lt(discriminant));
+            VectorMask<Double> positive = epsilon.lt(discriminant);
+
+            DoubleVector sqrtDiscriminant = discriminant.sqrt();
+            DoubleVector numerator1 = minusB.add(sqrtDiscriminant).blend(minusB, zero);
+            DoubleVector numerator2 = minusB.sub(sqrtDiscriminant).blend(minusB, zero);
+            VectorMask<Double> noRoots = zero.or(positive).not();
+            numerator1.div(twoA).blend(Double.NaN, noRoots).intoByteBuffer(roots, outBase + position, outOrder);
+            numerator2.div(twoA).blend(Double.NaN, noRoots).intoByteBuffer(roots, root2Base + position, outOrder);
+
+            DoubleVector counts = DoubleVector.zero(SPECIES)
+                    .blend(1.0, zero)
+                    .blend(2.0, positive);
+            counts.intoArray(countScratch, 0);
+            for (int lane = 0; lane < lanes; lane++) {
+                roots.putInt(countBase + (i + lane) * Integer.BYTES, (int) countScratch[lane]);
+            }
+        }
+
+        if (i < offset + length) {
+            scalarEngine.solveColumns(coefficients, inBase, roots, outBase, rows, i, offset + length - i);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.solver.service.cache;
+
+import lombok.Value;
+
+/**
+ * Snapshot of the counters of a {@link NormalizedRootCache}.
+ */
+@Value
+public class CacheStats {
+    long hitCount;
+    long missCount;
+    long evictionCount;
+
+    /**
+     * Fraction of lookups answered from the cache.
+     *
+     * @return the hit rate, 0 when there was no lookup
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.solver.service.cache;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.QuadraticEquationSolver;
+
+/**
+ * Optional memoizing layer in front of a {@link QuadraticEquationSolver}.
+ *
+ * <p>Equations are keyed by their monic form: ax^2 + bx + c = 0 and x^2 + (b/a)x + (c/a) = 0 have
+ * the same roots, so (2, 4, 2) and (1, 2, 1) share one cache entry. On a miss the delegate solves
+ * the equation as given, so a miss returns exactly what the delegate returns. Because the EPSILON
+ * test of the filter chain depends on the scale of Δ = b^2 - 4ac, the class of Δ computed like
+ * DiscriminantChecker is part of the key: an entry is only reused for an equation whose Δ falls
+ * into the same class. Entries keep the root order of a positive {@code a} and are reversed for a
+ * negative one; a single root is recomputed as -b / 2a. Two roots reused at another scale may
+ * differ from the delegate's in the last bits.
+ * The delegate is expected to classify Δ like the filter chain.
+ *
+ * <p>Invalid coefficients, and equations whose normalized coefficients overflow, bypass the
+ * cache and go straight to the delegate. Batch calls and the status and complex-roots modes are not
+ * cached; they are forwarded to the delegate.
+ */
+public class CachingQuadraticEquationSolver implements QuadraticEquationSolver {
+
+    private final QuadraticEquationSolver delegate;
+    private final NormalizedRootCache cache;
+
+    /**
+     * Wraps a solver with a cache of the given size.
+     *
+     * @param delegate    the solver computing the roots on a miss
+     * @param maximumSize maximum number of cached equations
+     */
+    public CachingQuadraticEquationSolver(QuadraticEquationSolver delegate, int maximumSize) {
+        this.delegate = delegate;
+        this.cache = new NormalizedRootCache(maximumSize);
+    }
+
+    /**
+     * Solves a quadratic equation, answering from the cache when possible.
+     *
+     * @param a coefficient of x^2
+     * @param b coefficient of x
+     * @param c constant term
+     * @return an array containing the roots of the equation
+     */
+    @Override
+    public double[] solve(double a, double b, double c) {
+        return solveInto(a, b, c, new RootResult()).toArray();
+    }
+
+    /**
+     * Solves a quadratic equation into the holder, answering from the cache when possible.
+     * A hit allocates nothing.
+     */
+    @Override
+    public RootResult solveInto(double a, double b, double c, RootResult result) {
+        if (!QuadraticMath.isValid(a, b, c)) {
+            // Let the delegate raise its validation error
+            return delegate.solveInto(a, b, c, result);
+        }
+
+        // Adding 0.0 turns -0.0 into 0.0, so both signs of zero share an entry
+        double p = b / a + 0.0;
+        double q = c / a + 0.0;
+        if (!Double.isFinite(p) || !Double.isFinite(q)) {
+            return delegate.solveInto(a, b, c, result);
+        }
+
+        // The EPSILON test is not scale-invariant, so its outcome at this scale is part of the key
+        int discriminantClass = QuadraticMath.rootCount(QuadraticMath.discriminant(a, b, c));
+        if (cache.get(p, q, discriminantClass, result)) {
+            if (result.getCount() == 1) {
+                // As cheap as the lookup, and exact at any scale, down to the sign of a zero root
+                double root = -b / (2 * a);
+                result.set(1, root, root);
+            } else if (a < 0) {
+                result.set(result.getCount(), result.getRoot2(), result.getRoot1());
+            }
+            return result;
+        }
+
+        delegate.solveInto(a, b, c, result);
+        if (a > 0) {
+            cache.put(p, q, discriminantClass, result.getCount(), result.getRoot1(), result.getRoot2());
+        } else {
+            cache.put(p, q, discriminantClass, result.getCount(), result.getRoot2(), result.getRoot1());
+        }
+        return result;
+    }
+
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount) {
+        delegate.solveBatch(a, b, c, offset, length, root1, root2, rootCount);
+    }
+
+    @Override
+    public int solveWithStatus(double a, double b, double c, RootResult result) {
+        return delegate.solveWithStatus(a, b, c, result);
+    }
+
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount, int[] status) {
+        delegate.solveBatch(a, b, c, offset, length, root1, root2, rootCount, status);
+    }
+
+    @Override
+    public int solveComplexInto(double a, double b, double c, double[] roots, int offset) {
+        return delegate.solveComplexInto(a, b, c, roots, offset);
+    }
+
+    @Override
+    public void solveComplexBatch(double[] a, double[] b, double[] c, int offset, int length,
+                                  double[] re1, double[] re2, double[] im, int[] rootCount) {
+        delegate.solveComplexBatch(a, b, c, offset, length, re1, re2, im, rootCount);
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of the cache.
+     *
+     * @return a snapshot of the statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.solver.service.cache;
+
+/**
+ * Approximate access frequency of cache keys: a count-min sketch of 4-bit counters,
+ * as used by TinyLFU admission.
+ *
+ * <p>Each key hash selects one counter in each of four rows; the estimate is the minimum.
+ * Once the number of recorded accesses reaches ten times the cache size, every counter
+ * is halved, so the sketch follows changes in the traffic.
+ *
+ * <p>Not thread-safe: {@link NormalizedRootCache} buffers the accesses and applies them, like
+ * every frequency lookup, under its sketch lock.
+ */
+final class FrequencySketch {
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    // Each long holds sixteen 4-bit counters
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for a cache of the given capacity.
+     *
+     * @param capacity maximum number of cached entries
+     */
+    FrequencySketch(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = 10 * Math.max(capacity, 16);
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the key, from 0 to 15.
+     *
+     * @param hash the spread hash of the key
+     * @return the estimated frequency
+     */
+    int frequency(long hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long slotHash = rehash(hash, row);
+            int index = (int) slotHash & tableMask;
+            int shift = counterShift(slotHash);
+            frequency = Math.min(frequency, (int) (table[index] >>> shift) & 0xf);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one access of the key, saturating every counter at 15.
+     *
+     * @param hash the spread hash of the key
+     */
+    void increment(long hash) {
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long slotHash = rehash(hash, row);
+            int index = (int) slotHash & tableMask;
+            int shift = counterShift(slotHash);
+            long value = table[index];
+            if (((value >>> shift) & 0xf) != 0xf) {
+                table[index] = value + (1L << shift);
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halves every counter (aging).
+     */
+    private void reset() {
+        additions = 0;
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+    }
+
+    private static long rehash(long hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return h ^ (h >>> 32);
+    }
+
+    private static int counterShift(long slotHash) {
+        // Bits 40..43 pick one of the sixteen counters of the slot
+        return (int) (slotHash >>> 40 & 0xf) << 2;
+    }
+}
@@ -0,0 +1,285 @@
+package org.example.solver.service.cache;
+
+import org.example.solver.entity.RootResult;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Bounded cache of the roots of monic equations x^2 + px + q = 0, keyed by the raw
+ * {@code long} bits of p and q and by the class of the discriminant at the scale the
+ * equation was solved at. Roots are kept in the order of a positive leading coefficient.
+ * Keys and values live in primitive arrays, so lookups neither box nor allocate.
+ *
+ * <p>The table is 8-way set associative. In every set, way 0 is a small admission window
+ * that receives each new entry; the entry it displaces competes with the least frequently
+ * used of the seven main ways, and only the one with the higher {@link FrequencySketch}
+ * estimate stays (W-TinyLFU applied per set).
+ *
+ * <p>Sets are guarded by striped {@link StampedLock}s. Readers use optimistic reads and only
+ * take the read lock when a writer interfered, so concurrent readers do not block each other.
+ *
+ * <p>The sketch is not thread-safe and is only touched under one sketch lock. A lookup records its
+ * key hash in a small lossy buffer of its lock stripe instead; a buffer is drained into the sketch
+ * when it fills up, if the sketch lock is free, and before every admission decision of its stripe.
+ * Accesses recorded while a buffer is full or being drained may be dropped, which only lowers the
+ * estimates slightly.
+ */
+public class NormalizedRootCache {
+
+    private static final int WAYS = 8;
+    private static final int WINDOW_WAY = 0;
+    // Stored in the meta array: 0 marks an empty way, otherwise root count + 1,
+    // with the discriminant class above CLASS_SHIFT
+    private static final int EMPTY = 0;
+    private static final int COUNT_MASK = 0x3;
+    private static final int CLASS_SHIFT = 2;
+    // Recorded accesses per lock stripe between two drains
+    private static final int ACCESS_BUFFER_SIZE = 16;
+    // Spacing of the per-stripe write counters, one 64-byte cache line each
+    private static final int COUNTER_STRIDE = 16;
+    // Marks a drained slot of an access buffer
+    private static final long NO_ACCESS = 0;
+
+    private final long[] keyP;
+    private final long[] keyQ;
+    private final long[] root1;
+    private final long[] root2;
+    private final int[] meta;
+    private final int setMask;
+    private final StampedLock[] locks;
+    private final int lockMask;
+    private final FrequencySketch sketch;
+    private final ReentrantLock sketchLock = new ReentrantLock();
+    private final AtomicLongArray accessBuffer;
+    private final AtomicIntegerArray accessWrites;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most {@code maximumSize} entries, rounded up to a power of two.
+     *
+     * @param maximumSize the capacity, at least 8
+     */
+    public NormalizedRootCache(int maximumSize) {
+        if (maximumSize < WAYS) {
+            throw new IllegalArgumentException("maximumSize must be at least " + WAYS);
+        }
+        int sets = Integer.highestOneBit(maximumSize - 1) << 1 >>> 3;
+        int capacity = sets * WAYS;
+        this.keyP = new long[capacity];
+        this.keyQ = new long[capacity];
+        this.root1 = new long[capacity];
+        this.root2 = new long[capacity];
+        this.meta = new int[capacity];
+        this.setMask = sets - 1;
+
+        int stripes = Math.min(sets, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 16 - 1) << 1);
+        this.locks = new StampedLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new StampedLock();
+        }
+        this.lockMask = stripes - 1;
+        this.sketch = new FrequencySketch(capacity);
+        this.accessBuffer = new AtomicLongArray(stripes * ACCESS_BUFFER_SIZE);
+        this.accessWrites = new AtomicIntegerArray(stripes * COUNTER_STRIDE);
+    }
+
+    /**
+     * Looks up the roots of x^2 + px + q = 0.
+     *
+     * @param p                  the normalized linear coefficient b/a
+     * @param q                  the normalized constant term c/a
+     * @param discriminantClass  the {@code QuadraticMath.rootCount} of b^2 - 4ac at the caller's scale
+     * @param result             receives the root count and the roots, larger root first, on a hit
+     * @return true on a hit
+     */
+    public boolean get(double p, double q, int discriminantClass, RootResult result) {
+        long pBits = Double.doubleToRawLongBits(p);
+        long qBits = Double.doubleToRawLongBits(q);
+        long hash = hash(pBits, qBits);
+        int set = (int) hash & setMask;
+        int stripe = set & lockMask;
+        StampedLock lock = locks[stripe];
+        recordAccess(stripe, hash);
+
+        long stamp = lock.tryOptimisticRead();
+        int way = find(set, pBits, qBits, discriminantClass);
+        int count = way < 0 ? EMPTY : meta[way];
+        long r1 = way < 0 ? 0 : root1[way];
+        long r2 = way < 0 ? 0 : root2[way];
+
+        if (!lock.validate(stamp)) {
+            // A writer changed the set meanwhile: read again under the lock
+            stamp = lock.readLock();
+            try {
+                way = find(set, pBits, qBits, discriminantClass);
+                count = way < 0 ? EMPTY : meta[way];
+                r1 = way < 0 ? 0 : root1[way];
+                r2 = way < 0 ? 0 : root2[way];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (count == EMPTY) {
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+        result.set((count & COUNT_MASK) - 1, Double.longBitsToDouble(r1), Double.longBitsToDouble(r2));
+        return true;
+    }
+
+    /**
+     * Stores the roots of x^2 + px + q = 0.
+     *
+     * @param p                 the normalized linear coefficient b/a
+     * @param q                 the normalized constant term c/a
+     * @param discriminantClass the {@code QuadraticMath.rootCount} of b^2 - 4ac at the scale the roots were computed at
+     * @param count             the number of roots
+     * @param root1             the larger root, as solved with a positive leading coefficient
+     * @param root2             the smaller root
+     */
+    public void put(double p, double q, int discriminantClass, int count, double root1, double root2) {
+        long pBits = Double.doubleToRawLongBits(p);
+        long qBits = Double.doubleToRawLongBits(q);
+        long hash = hash(pBits, qBits);
+        int set = (int) hash & setMask;
+        StampedLock lock = locks[set & lockMask];
+
+        long stamp = lock.writeLock();
+        try {
+            int way = find(set, pBits, qBits, discriminantClass);
+            int entry = (count + 1) | discriminantClass << CLASS_SHIFT;
+            if (way >= 0) {
+                // Another thread stored it first
+                write(way, pBits, qBits, entry, root1, root2);
+                return;
+            }
+
+            int base = set * WAYS;
+            int window = base + WINDOW_WAY;
+            if (meta[window] != EMPTY) {
+                sketchLock.lock();
+                try {
+                    drainAccesses(set & lockMask);
+                    admitFromWindow(base, window);
+                } finally {
+                    sketchLock.unlock();
+                }
+            }
+            write(window, pBits, qBits, entry, root1, root2);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     *
+     * @return the current statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Records one lookup in the access buffer of its stripe. A thread that finds the buffer
+     * full drains it, unless another thread holds the sketch.
+     */
+    private void recordAccess(int stripe, long hash) {
+        int slot = accessWrites.getAndIncrement(stripe * COUNTER_STRIDE);
+        if (slot < ACCESS_BUFFER_SIZE) {
+            accessBuffer.lazySet(stripe * ACCESS_BUFFER_SIZE + slot, hash);
+        }
+        if (slot >= ACCESS_BUFFER_SIZE - 1 && sketchLock.tryLock()) {
+            try {
+                drainAccesses(stripe);
+            } finally {
+                sketchLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies the recorded accesses of a stripe to the sketch and empties its buffer.
+     * Called under the sketch lock.
+     */
+    private void drainAccesses(int stripe) {
+        int base = stripe * ACCESS_BUFFER_SIZE;
+        for (int slot = base; slot < base + ACCESS_BUFFER_SIZE; slot++) {
+            long hash = accessBuffer.getAndSet(slot, NO_ACCESS);
+            if (hash != NO_ACCESS) {
+                sketch.increment(hash);
+            }
+        }
+        accessWrites.set(stripe * COUNTER_STRIDE, 0);
+    }
+
+    /**
+     * Moves the current window entry to the main ways, or drops it if it is used
+     * less often than the main victim. Called under the write lock and the sketch lock.
+     */
+    private void admitFromWindow(int base, int window) {
+        int victim = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int way = base + 1; way < base + WAYS; way++) {
+            if (meta[way] == EMPTY) {
+                copy(window, way);
+                return;
+            }
+            int frequency = sketch.frequency(hash(keyP[way], keyQ[way]));
+            if (frequency < victimFrequency) {
+                victim = way;
+                victimFrequency = frequency;
+            }
+        }
+
+        evictions.increment();
+        if (sketch.frequency(hash(keyP[window], keyQ[window])) > victimFrequency) {
+            copy(window, victim);
+        }
+    }
+
+    private int find(int set, long pBits, long qBits, int discriminantClass) {
+        for (int way = set * WAYS, end = way + WAYS; way < end; way++) {
+            if (meta[way] != EMPTY && meta[way] >>> CLASS_SHIFT == discriminantClass
+                    && keyP[way] == pBits && keyQ[way] == qBits) {
+                return way;
+            }
+        }
+        return -1;
+    }
+
+    private void write(int way, long pBits, long qBits, int entry, double r1, double r2) {
+        keyP[way] = pBits;
+        keyQ[way] = qBits;
+        root1[way] = Double.doubleToRawLongBits(r1);
+        root2[way] = Double.doubleToRawLongBits(r2);
+        meta[way] = entry;
+    }
+
+    private void copy(int from, int to) {
+        keyP[to] = keyP[from];
+        keyQ[to] = keyQ[from];
+        root1[to] = root1[from];
+        root2[to] = root2[from];
+        meta[to] = meta[from];
+    }
+
+    private static long hash(long pBits, long qBits) {
+        // murmur3 finalizer over both keys
+        long h = pBits * 0x9e3779b97f4a7c15L + qBits;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.solver.service.handler;
+
+import org.example.lib.ContextFilter;
+import org.example.lib.ContextHandler;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.registry.CubicEquationFilterRegistry;
+import org.example.solver.registry.QuarticEquationFilterRegistry;
+
+import java.util.List;
+
+/**
+ * Handler running the cubic and quartic filter chains on a PolynomialEquationContext.
+ * The pipeline is chosen by the filter type passed to {@link #handle}.
+ */
+public class PolynomialEquationContextHandler extends ContextHandler<PolynomialEquationContext> {
+
+    /**
+     * Constructor that runs the standard cubic and quartic filters, in the order generated at build time.
+     */
+    public PolynomialEquationContextHandler() {
+        super(null, CubicEquationFilterRegistry.INSTANCE, QuarticEquationFilterRegistry.INSTANCE);
+    }
+
+    /**
+     * Constructor that accepts a list of filters for processing the context.
+     *
+     * @param contextFilters the list of filters to apply to the context
+     */
+    public PolynomialEquationContextHandler(List<ContextFilter<PolynomialEquationContext>> contextFilters) {
+        super(contextFilters);
+    }
+}
@@ -3,8 +3,12 @@ package org.example.solver.service.handler;
 import org.example.lib.ContextFilter;
 import org.example.lib.ContextHandler;
 import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.enums.DiscriminantClass;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.registry.QuadraticEquationFilterRegistry;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Handler for processing and applying filters to QuadraticEquationContext.
@@ -13,13 +17,35 @@ import java.util.List;
  */
 public class QuadraticEquationContextHandler extends ContextHandler<QuadraticEquationContext> {
 
+    // The fields read from the context once the filters have run
+    private static final Set<String> RESULT_FIELDS = Set.of("roots", "status");
+
+    /**
+     * Constructor that runs the standard filters, in the order generated at build time.
+     */
+    public QuadraticEquationContextHandler() {
+        super(RESULT_FIELDS, QuadraticEquationFilterRegistry.INSTANCE);
+    }
+
     /**
      * Constructor that accepts a list of filters for processing the context.
      *
      * @param contextFilters the list of filters to apply to the context
      */
     public QuadraticEquationContextHandler(List<ContextFilter<QuadraticEquationContext>> contextFilters) {
-        // Pass the filters to the superclass ContextHandler
-        super(contextFilters);
+        // Pass the filters to the superclass ContextHandler, dropping stages that do not contribute to the roots
+        super(contextFilters, RESULT_FIELDS);
+    }
+
+    /**
+     * Describes the equation by the class of its discriminant, computed from the coefficients
+     * so that it is also correct for the stages that run before DiscriminantCalculator.
+     *
+     * @param context the context being handled
+     * @return NEGATIVE, ZERO, POSITIVE or UNDEFINED
+     */
+    @Override
+    protected String classify(QuadraticEquationContext context) {
+        return DiscriminantClass.of(QuadraticMath.discriminant(context.getA(), context.getB(), context.getC())).name();
     }
 }
@@ -3,6 +3,7 @@ package org.example.solver.service.handler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.entity.RootResult;
 import org.example.solver.enums.ContextFilterType;
 
 /**
@@ -23,14 +24,59 @@ public class QuadraticEquationHandler {
      * @return an array of computed roots of the quadratic equation
      */
     public double[] handleContext(QuadraticEquationContext context) {
-        log.info("Handling quadratic equation context: {}", context);
+        log.debug("Handling quadratic equation context: {}", context);
 
         // Delegate to the context handler to process the filters and validations
         contextHandler.handle(context, ContextFilterType.QUADRATIC_EQUATION);
 
         // Retrieve and return the computed roots
         double[] roots = context.getRoots();
-        log.info("Computed roots for context: {}", (Object) roots); // Cast to Object to handle arrays in logging
+        log.debug("Computed roots for context: {}", (Object) roots); // Cast to Object to handle arrays in logging
         return roots;
     }
+
+    /**
+     * Handles the given context and copies the roots into a caller-owned holder.
+     * Unlike {@link #handleContext(QuadraticEquationContext)} this allocates nothing,
+     * so the context can be reused across calls.
+     *
+     * @param context the quadratic equation context containing coefficients
+     * @param result  the holder receiving the root count and the roots
+     */
+    public void handleContext(QuadraticEquationContext context, RootResult result) {
+        // Delegate to the context handler to process the filters and validations
+        contextHandler.handle(context, ContextFilterType.QUADRATIC_EQUATION);
+
+        // A context whose roots were never set is reported as having none
+        result.set(Math.max(context.getRootCount(), 0), context.getRoot1(), context.getRoot2());
+    }
+
+    /**
+     * Handles the given context in status mode: invalid coefficients are reported in the returned
+     * status instead of thrown, and a zero 'a' is solved as a linear equation. Allocates nothing.
+     *
+     * @param context the quadratic equation context containing coefficients
+     * @param result  the holder receiving the root count and the roots
+     * @return the status reported by the validators, see CoefficientStatus
+     */
+    public int handleCheckedContext(QuadraticEquationContext context, RootResult result) {
+        context.setStatusMode(true);
+        handleContext(context, result);
+        return context.getStatus();
+    }
+
+    /**
+     * Handles the given context in complex-roots mode and copies the roots in the packed layout
+     * {@code re1, im1, re2, im2}. Allocates nothing.
+     *
+     * @param context the quadratic equation context containing coefficients
+     * @param roots   receives the packed roots
+     * @param offset  index of {@code re1} in {@code roots}
+     * @return the number of roots
+     */
+    public int handleComplexContext(QuadraticEquationContext context, double[] roots, int offset) {
+        context.setComplexMode(true);
+        contextHandler.handle(context, ContextFilterType.QUADRATIC_EQUATION);
+        return context.copyComplexRoots(roots, offset);
+    }
 }
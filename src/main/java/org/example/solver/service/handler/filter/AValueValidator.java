@@ -1,17 +1,23 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.enums.ContextFilterType;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.lib.ValueValidator;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.metrics.SolverMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * A value validator filter for validating coefficient 'a' in a quadratic equation.
  * This filter checks if the value of 'a' is not zero and is numeric.
+ * In status mode the failed checks are added to the context status instead of thrown.
  */
 @FilterOrder(1) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = "a", writes = "status")
 @Slf4j
 public class AValueValidator implements ContextFilter<QuadraticEquationContext> {
 
@@ -38,7 +44,20 @@ public class AValueValidator implements ContextFilter<QuadraticEquationContext>
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action for debugging purposes
-        log.info("Applying AValueValidator to validate coefficient 'a'");
+        log.debug("Applying AValueValidator to validate coefficient 'a'");
+
+        // In status mode, report instead of throwing
+        if (context.isStatusMode()) {
+            int flags = valueValidator.checkNotZero(context.getA()) | valueValidator.checkNumeric(context.getA());
+            context.addStatus(flags << CoefficientStatus.A_SHIFT);
+            return;
+        }
+
+        // Count the failed checks before the validation below throws
+        if (MetricsRegistry.isEnabled()) {
+            int flags = valueValidator.checkNotZero(context.getA()) | valueValidator.checkNumeric(context.getA());
+            SolverMetrics.global().recordValidation(flags << CoefficientStatus.A_SHIFT);
+        }
 
         // Validate 'a' - it should not be zero
         valueValidator.validateNotZero(context.getA(), "a");
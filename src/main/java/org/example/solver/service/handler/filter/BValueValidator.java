@@ -1,17 +1,23 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.enums.ContextFilterType;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.lib.ValueValidator;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.metrics.SolverMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * B value validator filter for validating coefficient 'b' in a quadratic equation.
  * This filter checks if the value of 'b' is numeric.
+ * In status mode a failed check is added to the context status instead of thrown.
  */
 @FilterOrder(2) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = "b", writes = "status")
 @Slf4j
 public class BValueValidator implements ContextFilter<QuadraticEquationContext> {
 
@@ -38,7 +44,19 @@ public class BValueValidator implements ContextFilter<QuadraticEquationContext>
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action for debugging purposes
-        log.info("Applying BValueValidator to validate coefficient 'b'");
+        log.debug("Applying BValueValidator to validate coefficient 'b'");
+
+        // In status mode, report instead of throwing
+        if (context.isStatusMode()) {
+            context.addStatus(valueValidator.checkNumeric(context.getB()) << CoefficientStatus.B_SHIFT);
+            return;
+        }
+
+        // Count the failed checks before the validation below throws
+        if (MetricsRegistry.isEnabled()) {
+            int flags = valueValidator.checkNumeric(context.getB());
+            SolverMetrics.global().recordValidation(flags << CoefficientStatus.B_SHIFT);
+        }
 
         // Validate 'b' - it should be a numeric value
         valueValidator.validateNumeric(context.getB(), "b");
@@ -1,17 +1,23 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.enums.ContextFilterType;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.lib.ValueValidator;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.metrics.SolverMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * C value validator filter for validating coefficient 'c' in a quadratic equation.
  * This filter checks if the value of 'c' is numeric.
+ * In status mode a failed check is added to the context status instead of thrown.
  */
 @FilterOrder(3) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = "c", writes = "status")
 @Slf4j
 public class CValueValidator implements ContextFilter<QuadraticEquationContext> {
 
@@ -38,7 +44,19 @@ public class CValueValidator implements ContextFilter<QuadraticEquationContext>
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action for debugging purposes
-        log.info("Applying CValueValidator to validate coefficient 'c'");
+        log.debug("Applying CValueValidator to validate coefficient 'c'");
+
+        // In status mode, report instead of throwing
+        if (context.isStatusMode()) {
+            context.addStatus(valueValidator.checkNumeric(context.getC()) << CoefficientStatus.C_SHIFT);
+            return;
+        }
+
+        // Count the failed checks before the validation below throws
+        if (MetricsRegistry.isEnabled()) {
+            int flags = valueValidator.checkNumeric(context.getC());
+            SolverMetrics.global().recordValidation(flags << CoefficientStatus.C_SHIFT);
+        }
 
         // Validate 'c' - it should be a numeric value
         valueValidator.validateNumeric(context.getC(), "c");
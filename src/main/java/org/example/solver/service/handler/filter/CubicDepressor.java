@@ -0,0 +1,57 @@
+package org.example.solver.service.handler.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.CubicMath;
+
+/**
+ * Depresses a cubic equation.
+ * Substitutes x = t - b/3a, which turns a x^3 + b x^2 + c x + d into t^3 + p t + q.
+ */
+@FilterOrder(value = 2, type = ContextFilterType.CUBIC_EQUATION)
+@FilterDataFlow(reads = "coefficients", writes = {"shift", "p", "q"})
+@Slf4j
+public class CubicDepressor implements ContextFilter<PolynomialEquationContext> {
+
+    /**
+     * Checks if the filter is authorized to act on the given entity.
+     *
+     * @param entity The context (PolynomialEquationContext) to check.
+     * @return always true.
+     */
+    @Override
+    public boolean isAuthorized(PolynomialEquationContext entity) {
+        return true;
+    }
+
+    /**
+     * Computes the shift and the coefficients p and q of the depressed cubic.
+     *
+     * @param context The context (PolynomialEquationContext) to update.
+     */
+    @Override
+    public void apply(PolynomialEquationContext context) {
+        double[] k = context.getCoefficients();
+        context.setShift(CubicMath.shift(k[0], k[1]));
+        context.setP(CubicMath.depressedP(k[0], k[1], k[2]));
+        context.setQ(CubicMath.depressedQ(k[0], k[1], k[2], k[3]));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Depressed cubic: t^3 + {} t + {}, x = t + {}", context.getP(), context.getQ(), context.getShift());
+        }
+    }
+
+    /**
+     * Returns the type of the filter.
+     *
+     * @return The ContextFilterType associated with this filter.
+     */
+    @Override
+    public ContextFilterType getFilterType() {
+        return ContextFilterType.CUBIC_EQUATION;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.solver.service.handler.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.CubicMath;
+import org.example.solver.math.PolynomialMath;
+
+/**
+ * Roots calculator for a cubic equation.
+ * Solves the depressed cubic in closed form (Cardano's formula or the trigonometric method),
+ * polishes the roots with Newton steps on the original coefficients and sorts them.
+ */
+@FilterOrder(value = 3, type = ContextFilterType.CUBIC_EQUATION)
+@FilterDataFlow(reads = {"coefficients", "shift", "p", "q"}, writes = "roots", terminal = true)
+@Slf4j
+public class CubicRootsCalculator implements ContextFilter<PolynomialEquationContext> {
+
+    /**
+     * Checks if the filter is authorized to act on the given entity.
+     *
+     * @param entity The context (PolynomialEquationContext) to check.
+     * @return always true, a cubic always has three complex roots.
+     */
+    @Override
+    public boolean isAuthorized(PolynomialEquationContext entity) {
+        return true;
+    }
+
+    /**
+     * Calculates the three roots and sets them in the context.
+     *
+     * @param context The context (PolynomialEquationContext) to update with the roots.
+     */
+    @Override
+    public void apply(PolynomialEquationContext context) {
+        double[] re = context.getRe();
+        double[] im = context.getIm();
+        CubicMath.solveDepressed(context.getP(), context.getQ(), context.getShift(), re, im, 0);
+        PolynomialMath.polishAndSort(context.getCoefficients(), 0, 3, re, im, 0);
+        context.setRootCount(3);
+
+        log.debug("Computed cubic roots: {}", (Object) context.getPackedRoots());
+    }
+
+    /**
+     * Returns the type of the filter.
+     *
+     * @return The ContextFilterType associated with this filter.
+     */
+    @Override
+    public ContextFilterType getFilterType() {
+        return ContextFilterType.CUBIC_EQUATION;
+    }
+}
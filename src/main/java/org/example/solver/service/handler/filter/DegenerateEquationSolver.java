@@ -0,0 +1,74 @@
+package org.example.solver.service.handler.filter;
+
+import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.CoefficientStatus;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Degenerate equation solver for the status mode of the quadratic chain.
+ * This filter ends the chain for equations the validators reported: a zero 'a' is solved
+ * as the linear equation bx + c = 0, every other reported equation gets no roots.
+ * Outside status mode the validators throw instead, so this filter never applies.
+ */
+@FilterOrder(4) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = {"b", "c", "status"}, writes = "roots", terminal = true)
+@Slf4j
+public class DegenerateEquationSolver implements ContextFilter<QuadraticEquationContext> {
+
+    /**
+     * Checks if a validator has reported the coefficients.
+     *
+     * @param entity The context (QuadraticEquationContext) to check.
+     * @return true if the status is not 0, otherwise false.
+     */
+    @Override
+    public boolean isAuthorized(QuadraticEquationContext entity) {
+        return entity.getStatus() != 0;
+    }
+
+    /**
+     * Applies the filter to the given context, with the same operations as QuadraticMath.solveChecked.
+     *
+     * @param context The context (QuadraticEquationContext) to update with the roots.
+     */
+    @Override
+    public void apply(QuadraticEquationContext context) {
+        if (!CoefficientStatus.isLinear(context.getStatus())) {
+            // Invalid coefficients have no roots
+            if (log.isDebugEnabled()) {
+                log.debug("Coefficients reported with status {}, setting no roots.", context.getStatus());
+            }
+            context.setNoRoots();
+            return;
+        }
+
+        if (context.getB() == 0) {
+            // Neither x^2 nor x is left: nothing to solve for
+            context.addStatus(CoefficientStatus.B_ZERO);
+            log.debug("Coefficients a and b are zero, setting no roots.");
+            context.setNoRoots();
+            return;
+        }
+
+        // Linear equation bx + c = 0
+        double root = -context.getC() / context.getB();
+        if (log.isDebugEnabled()) {
+            log.debug("Coefficient a is zero, linear root: {}", root);
+        }
+        context.setSingleRoot(root);
+    }
+
+    /**
+     * Returns the type of the filter.
+     *
+     * @return The ContextFilterType associated with this filter.
+     */
+    @Override
+    public ContextFilterType getFilterType() {
+        return ContextFilterType.QUADRATIC_EQUATION;
+    }
+}
@@ -1,9 +1,11 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.enums.ContextFilterType;
 import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.math.QuadraticMath;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -11,7 +13,8 @@ import lombok.extern.slf4j.Slf4j;
  * This filter calculates the discriminant (Δ) of the quadratic equation.
  * The discriminant is used to determine the number and type of the equation's roots.
  */
-@FilterOrder(4) // Specifies the order in which this filter should be applied
+@FilterOrder(5) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = {"a", "b", "c"}, writes = "discriminant")
 @Slf4j
 public class DiscriminantCalculator implements ContextFilter<QuadraticEquationContext> {
 
@@ -38,16 +41,18 @@ public class DiscriminantCalculator implements ContextFilter<QuadraticEquationCo
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action for debugging purposes
-        log.info("Calculating discriminant for the quadratic equation: Δ = b^2 - 4ac");
+        log.debug("Calculating discriminant for the quadratic equation: Δ = b^2 - 4ac");
 
         // Calculate the discriminant (Δ)
-        double discriminant = context.getB() * context.getB() - 4 * context.getA() * context.getC();
+        double discriminant = QuadraticMath.discriminant(context.getA(), context.getB(), context.getC());
 
         // Set the calculated discriminant in the context
         context.setDiscriminant(discriminant);
 
-        // Log the calculated discriminant
-        log.info("Discriminant calculated: Δ = {}", discriminant);
+        // Log the calculated discriminant (guarded to avoid boxing when DEBUG is off)
+        if (log.isDebugEnabled()) {
+            log.debug("Discriminant calculated: Δ = {}", discriminant);
+        }
     }
 
     /**
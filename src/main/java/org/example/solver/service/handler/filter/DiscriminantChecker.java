@@ -1,9 +1,11 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.QuadraticMath;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -11,13 +13,11 @@ import lombok.extern.slf4j.Slf4j;
  * This filter checks if the discriminant is zero and, if so, calculates the root.
  * In such cases, the equation has exactly one real root.
  */
-@FilterOrder(6) // Specifies the order in which this filter should be applied
+@FilterOrder(7) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = {"a", "b", "discriminant"}, writes = "roots", terminal = true)
 @Slf4j
 public class DiscriminantChecker implements ContextFilter<QuadraticEquationContext> {
 
-    // Small epsilon value for floating-point comparison
-    private static final double EPSILON = 1e-8;
-
     /**
      * Checks if the discriminant is approximately zero.
      *
@@ -27,8 +27,8 @@ public class DiscriminantChecker implements ContextFilter<QuadraticEquationConte
     @Override
     public boolean isAuthorized(QuadraticEquationContext entity) {
         // Check if the discriminant is approximately zero (within EPSILON tolerance)
-        boolean isDiscriminantZero = Math.abs(entity.getDiscriminant()) < EPSILON;
-        log.info("Checking discriminant for zero: {}", isDiscriminantZero);
+        boolean isDiscriminantZero = QuadraticMath.isZero(entity.getDiscriminant());
+        log.debug("Checking discriminant for zero: {}", isDiscriminantZero);
         return isDiscriminantZero;
     }
 
@@ -41,16 +41,18 @@ public class DiscriminantChecker implements ContextFilter<QuadraticEquationConte
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action before calculating the root
-        log.info("Discriminant is zero, calculating the root for the quadratic equation.");
+        log.debug("Discriminant is zero, calculating the root for the quadratic equation.");
 
         // Calculate the single root of the equation: x = -b / (2a)
         double root = -context.getB() / (2 * context.getA());
 
         // Set the calculated root in the context
-        context.setRoots(new double[]{root});
+        context.setSingleRoot(root);
 
-        // Log the calculated root
-        log.info("Root calculated: {}", root);
+        // Log the calculated root (guarded to avoid boxing when DEBUG is off)
+        if (log.isDebugEnabled()) {
+            log.debug("Root calculated: {}", root);
+        }
     }
 
     /**
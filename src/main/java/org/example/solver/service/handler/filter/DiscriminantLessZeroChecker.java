@@ -1,49 +1,66 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.QuadraticMath;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Discriminant less than zero checker for a quadratic equation.
  * This filter checks if the discriminant is negative and, if so, sets no real roots.
- * If the discriminant is less than zero, the equation has no real solutions.
+ * If the discriminant is less than zero, the equation has no real solutions;
+ * in complex-roots mode it sets the complex conjugate pair instead.
  */
-@FilterOrder(5) // Specifies the order in which this filter should be applied
+@FilterOrder(6) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = {"a", "b", "discriminant"}, writes = "roots", terminal = true)
 @Slf4j
 public class DiscriminantLessZeroChecker implements ContextFilter<QuadraticEquationContext> {
 
     /**
      * Checks if the discriminant is less than zero.
+     * Discriminants within EPSILON of zero are left to DiscriminantChecker,
+     * which lets this filter end the chain.
      *
      * @param entity The context (QuadraticEquationContext) to check.
      * @return true if the discriminant is less than zero, otherwise false.
      */
     @Override
     public boolean isAuthorized(QuadraticEquationContext entity) {
-        boolean isDiscriminantNegative = entity.getDiscriminant() < 0;
-        log.info("Checking if discriminant is less than zero: {}", isDiscriminantNegative);
+        boolean isDiscriminantNegative = QuadraticMath.isNegative(entity.getDiscriminant());
+        log.debug("Checking if discriminant is less than zero: {}", isDiscriminantNegative);
         return isDiscriminantNegative;
     }
 
     /**
      * Applies the filter to the given context. If the discriminant is negative,
-     * it sets no real roots (an empty array) in the context.
+     * it sets no real roots in the context, or the complex roots in complex-roots mode.
      *
      * @param context The context (QuadraticEquationContext) to update with no roots.
      */
     @Override
     public void apply(QuadraticEquationContext context) {
+        if (context.isComplexMode()) {
+            // (-b ± i*sqrt(-D)) / 2a, with the same operations as QuadraticMath.solveComplex
+            double real = -context.getB() / (2 * context.getA());
+            double imaginary = Math.sqrt(-context.getDiscriminant()) / (2 * context.getA());
+            context.setComplexRoots(real, imaginary);
+            if (log.isDebugEnabled()) {
+                log.debug("Discriminant is negative, complex roots: {} ± {}i", real, imaginary);
+            }
+            return;
+        }
+
         // Log the action before applying the filter
-        log.info("Discriminant is negative, setting no real roots.");
+        log.debug("Discriminant is negative, setting no real roots.");
 
-        // Set the roots to an empty array, indicating no real roots
-        context.setRoots(new double[0]);
+        // Mark the context as having no real roots
+        context.setNoRoots();
 
         // Log that no real roots were found
-        log.info("No real roots available.");
+        log.debug("No real roots available.");
     }
 
     /**
@@ -0,0 +1,53 @@
+package org.example.solver.service.handler.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ContextFilter;
+import org.example.lib.ValueValidator;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.math.PolynomialMath;
+
+/**
+ * Base of the coefficient validators of the polynomial chains.
+ * Checks the number of coefficients, that the leading coefficient is not zero and that every
+ * coefficient is numeric, with the messages of the quadratic validators (a, b, c, ...).
+ */
+@Slf4j
+public abstract class PolynomialCoefficientValidator implements ContextFilter<PolynomialEquationContext> {
+
+    private final ValueValidator valueValidator = new ValueValidator();
+    private final int degree;
+
+    /**
+     * @param degree the degree handled by the chain
+     */
+    protected PolynomialCoefficientValidator(int degree) {
+        this.degree = degree;
+    }
+
+    /**
+     * Checks if the filter is authorized to act on the given entity.
+     *
+     * @param entity The context (PolynomialEquationContext) to check.
+     * @return always true, every polynomial is validated.
+     */
+    @Override
+    public boolean isAuthorized(PolynomialEquationContext entity) {
+        return true;
+    }
+
+    /**
+     * Validates the coefficients of the context.
+     *
+     * @param context The context (PolynomialEquationContext) to validate.
+     * @throws IllegalArgumentException if the coefficients are invalid
+     */
+    @Override
+    public void apply(PolynomialEquationContext context) {
+        log.debug("Validating {} coefficients of a degree {} polynomial", degree + 1, degree);
+        double[] coefficients = context.getCoefficients();
+        if (coefficients.length != degree + 1) {
+            throw new IllegalArgumentException("expected " + (degree + 1) + " coefficients, got " + coefficients.length);
+        }
+        PolynomialMath.validate(coefficients, 0, degree, valueValidator);
+    }
+}
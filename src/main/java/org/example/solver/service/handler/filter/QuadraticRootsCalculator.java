@@ -1,21 +1,22 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.QuadraticMath;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * This filter calculates the roots of the quadratic equation if the discriminant is positive.
  * If the discriminant is positive, it computes two real roots based on the quadratic formula.
  */
-@FilterOrder(8) // Specifies the order in which this filter should be applied
+@FilterOrder(9) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = {"a", "b", "discriminant"}, writes = "roots", terminal = true)
 @Slf4j
 public class QuadraticRootsCalculator implements ContextFilter<QuadraticEquationContext> {
 
-    private static final double EPSILON = 1e-8;
-
     /**
      * Checks if the filter can be applied.
      * The filter is applied when the discriminant is positive and significantly greater than zero.
@@ -25,8 +26,8 @@ public class QuadraticRootsCalculator implements ContextFilter<QuadraticEquation
      */
     @Override
     public boolean isAuthorized(QuadraticEquationContext entity) {
-        boolean isDiscriminantPositive = entity.getDiscriminant() > 0 && Math.abs(entity.getDiscriminant()) > EPSILON;
-        log.info("Checking if the discriminant is positive: {}", isDiscriminantPositive);
+        boolean isDiscriminantPositive = QuadraticMath.isPositive(entity.getDiscriminant());
+        log.debug("Checking if the discriminant is positive: {}", isDiscriminantPositive);
         return isDiscriminantPositive;
     }
 
@@ -39,7 +40,7 @@ public class QuadraticRootsCalculator implements ContextFilter<QuadraticEquation
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action before calculating roots
-        log.info("Discriminant is positive, calculating two real roots.");
+        log.debug("Discriminant is positive, calculating two real roots.");
 
         // Calculate the square root of the discriminant
         double sqrtDiscriminant = Math.sqrt(context.getDiscriminant());
@@ -49,10 +50,12 @@ public class QuadraticRootsCalculator implements ContextFilter<QuadraticEquation
         double root2 = (-context.getB() - sqrtDiscriminant) / (2 * context.getA());
 
         // Set the roots in the context
-        context.setRoots(new double[]{root1, root2});
+        context.setTwoRoots(root1, root2);
 
-        // Log the calculated roots
-        log.info("Calculated roots: root1 = {}, root2 = {}", root1, root2);
+        // Log the calculated roots (guarded to avoid boxing when DEBUG is off)
+        if (log.isDebugEnabled()) {
+            log.debug("Calculated roots: root1 = {}, root2 = {}", root1, root2);
+        }
     }
 
     /**
@@ -0,0 +1,27 @@
+package org.example.solver.service.handler.filter;
+
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.enums.ContextFilterType;
+
+/**
+ * Validates the coefficients of a quartic equation.
+ */
+@FilterOrder(value = 1, type = ContextFilterType.QUARTIC_EQUATION)
+@FilterDataFlow(reads = "coefficients")
+public class QuarticCoefficientValidator extends PolynomialCoefficientValidator {
+
+    public QuarticCoefficientValidator() {
+        super(4);
+    }
+
+    /**
+     * Returns the type of the filter.
+     *
+     * @return The ContextFilterType associated with this filter.
+     */
+    @Override
+    public ContextFilterType getFilterType() {
+        return ContextFilterType.QUARTIC_EQUATION;
+    }
+}
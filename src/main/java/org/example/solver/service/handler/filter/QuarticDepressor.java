@@ -0,0 +1,59 @@
+package org.example.solver.service.handler.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.QuarticMath;
+
+/**
+ * Depresses a quartic equation.
+ * Substitutes x = y - b/4a, which turns a x^4 + b x^3 + c x^2 + d x + e into y^4 + p y^2 + q y + r.
+ */
+@FilterOrder(value = 2, type = ContextFilterType.QUARTIC_EQUATION)
+@FilterDataFlow(reads = "coefficients", writes = {"shift", "p", "q", "r"})
+@Slf4j
+public class QuarticDepressor implements ContextFilter<PolynomialEquationContext> {
+
+    /**
+     * Checks if the filter is authorized to act on the given entity.
+     *
+     * @param entity The context (PolynomialEquationContext) to check.
+     * @return always true.
+     */
+    @Override
+    public boolean isAuthorized(PolynomialEquationContext entity) {
+        return true;
+    }
+
+    /**
+     * Computes the shift and the coefficients p, q and r of the depressed quartic.
+     *
+     * @param context The context (PolynomialEquationContext) to update.
+     */
+    @Override
+    public void apply(PolynomialEquationContext context) {
+        double[] k = context.getCoefficients();
+        context.setShift(QuarticMath.shift(k[0], k[1]));
+        context.setP(QuarticMath.depressedP(k[0], k[1], k[2]));
+        context.setQ(QuarticMath.depressedQ(k[0], k[1], k[2], k[3]));
+        context.setR(QuarticMath.depressedR(k[0], k[1], k[2], k[3], k[4]));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Depressed quartic: y^4 + {} y^2 + {} y + {}, x = y + {}",
+                    context.getP(), context.getQ(), context.getR(), context.getShift());
+        }
+    }
+
+    /**
+     * Returns the type of the filter.
+     *
+     * @return The ContextFilterType associated with this filter.
+     */
+    @Override
+    public ContextFilterType getFilterType() {
+        return ContextFilterType.QUARTIC_EQUATION;
+    }
+}
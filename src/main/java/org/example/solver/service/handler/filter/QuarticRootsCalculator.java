@@ -0,0 +1,58 @@
+package org.example.solver.service.handler.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.QuarticMath;
+import org.example.solver.math.PolynomialMath;
+
+/**
+ * Roots calculator for a quartic equation.
+ * Solves the depressed quartic in closed form (Ferrari's method through the resolvent cubic),
+ * polishes the roots with Newton steps on the original coefficients and sorts them.
+ */
+@FilterOrder(value = 3, type = ContextFilterType.QUARTIC_EQUATION)
+@FilterDataFlow(reads = {"coefficients", "shift", "p", "q", "r"}, writes = "roots", terminal = true)
+@Slf4j
+public class QuarticRootsCalculator implements ContextFilter<PolynomialEquationContext> {
+
+    /**
+     * Checks if the filter is authorized to act on the given entity.
+     *
+     * @param entity The context (PolynomialEquationContext) to check.
+     * @return always true, a quartic always has four complex roots.
+     */
+    @Override
+    public boolean isAuthorized(PolynomialEquationContext entity) {
+        return true;
+    }
+
+    /**
+     * Calculates the four roots and sets them in the context.
+     *
+     * @param context The context (PolynomialEquationContext) to update with the roots.
+     */
+    @Override
+    public void apply(PolynomialEquationContext context) {
+        double[] re = context.getRe();
+        double[] im = context.getIm();
+        QuarticMath.solveDepressed(context.getP(), context.getQ(), context.getR(), context.getShift(), re, im, 0);
+        PolynomialMath.polishAndSort(context.getCoefficients(), 0, 4, re, im, 0);
+        context.setRootCount(4);
+
+        log.debug("Computed quartic roots: {}", (Object) context.getPackedRoots());
+    }
+
+    /**
+     * Returns the type of the filter.
+     *
+     * @return The ContextFilterType associated with this filter.
+     */
+    @Override
+    public ContextFilterType getFilterType() {
+        return ContextFilterType.QUARTIC_EQUATION;
+    }
+}
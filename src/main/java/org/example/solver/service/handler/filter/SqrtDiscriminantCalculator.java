@@ -1,6 +1,7 @@
 package org.example.solver.service.handler.filter;
 
 import org.example.lib.ContextFilter;
+import org.example.solver.annotation.FilterDataFlow;
 import org.example.solver.annotation.FilterOrder;
 import org.example.solver.entity.QuadraticEquationContext;
 import org.example.solver.enums.ContextFilterType;
@@ -10,7 +11,8 @@ import lombok.extern.slf4j.Slf4j;
  * This filter calculates the square root of the discriminant of a quadratic equation.
  * The square root is stored in the context if the discriminant is positive.
  */
-@FilterOrder(7) // Specifies the order in which this filter should be applied
+@FilterOrder(8) // Specifies the order in which this filter should be applied
+@FilterDataFlow(reads = "discriminant", writes = "sqrtDiscriminant")
 @Slf4j
 public class SqrtDiscriminantCalculator implements ContextFilter<QuadraticEquationContext> {
 
@@ -24,7 +26,7 @@ public class SqrtDiscriminantCalculator implements ContextFilter<QuadraticEquati
     @Override
     public boolean isAuthorized(QuadraticEquationContext entity) {
         boolean isDiscriminantPositive = entity.getDiscriminant() > 0;
-        log.info("Checking if the discriminant is positive: {}", isDiscriminantPositive);
+        log.debug("Checking if the discriminant is positive: {}", isDiscriminantPositive);
         return isDiscriminantPositive;
     }
 
@@ -37,7 +39,7 @@ public class SqrtDiscriminantCalculator implements ContextFilter<QuadraticEquati
     @Override
     public void apply(QuadraticEquationContext context) {
         // Log the action before calculating the square root
-        log.info("Discriminant is positive, calculating square root.");
+        log.debug("Discriminant is positive, calculating square root.");
 
         // Calculate the square root of the discriminant
         double sqrtDiscriminant = Math.sqrt(context.getDiscriminant());
@@ -45,8 +47,10 @@ public class SqrtDiscriminantCalculator implements ContextFilter<QuadraticEquati
         // Store the square root of the discriminant in the context
         context.setSqrtDiscriminant(sqrtDiscriminant);
 
-        // Log the calculated square root
-        log.info("Calculated square root of discriminant: {}", sqrtDiscriminant);
+        // Log the calculated square root (guarded to avoid boxing when DEBUG is off)
+        if (log.isDebugEnabled()) {
+            log.debug("Calculated square root of discriminant: {}", sqrtDiscriminant);
+        }
     }
 
     /**
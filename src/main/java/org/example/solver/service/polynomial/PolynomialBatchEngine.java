@@ -0,0 +1,367 @@
+package org.example.solver.service.polynomial;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ValueValidator;
+import org.example.solver.math.CubicMath;
+import org.example.solver.math.PolynomialMath;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.math.QuarticMath;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds all complex roots of batches of real polynomials of one degree.
+ *
+ * <p>A batch is row-major: polynomial {@code i} occupies {@code coefficients[i * (degree + 1)]} to
+ * {@code coefficients[i * (degree + 1) + degree]}, highest degree first, and its roots are written to
+ * {@code re}/{@code im} at {@code i * degree} to {@code i * degree + degree - 1}, sorted by real part
+ * and then by imaginary part. Roots are counted with multiplicity, so every row has {@code degree} roots.
+ *
+ * <p>Degrees 1 to 4 are solved in closed form. Higher degrees use the Aberth–Ehrlich iteration:
+ * all roots are refined simultaneously with
+ * {@code z_k -= w_k / (1 - w_k * sum_{j != k} 1 / (z_k - z_j))}, {@code w_k = p(z_k) / p'(z_k)},
+ * which converges cubically for simple roots. Each thread keeps one {@link Workspace} per engine,
+ * so solving allocates nothing per row.
+ *
+ * <p>Rows are split into fixed-size chunks run on a {@link ForkJoinPool}; every chunk writes a
+ * disjoint range of the outputs, so the result does not depend on the number of threads.
+ */
+@Slf4j
+public class PolynomialBatchEngine {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    // A root is converged when its correction is below this fraction of its magnitude
+    private static final double RELATIVE_TOLERANCE = 0x1p-50;
+    // ... or when |p(z)| is within the rounding error of Horner's rule, 8u * sum |c_k| |z|^(n-k)
+    private static final double HORNER_ERROR_FACTOR = 0x1p-50;
+    // Rotates the initial circle off the real axis, so that no guess is real or symmetric
+    private static final double INITIAL_ANGLE = 0.7;
+
+    /**
+     * Per-thread scratch space of the Aberth–Ehrlich iteration, grown to the largest degree seen.
+     */
+    static final class Workspace {
+        double[] monic = new double[0];
+        double[] zr = new double[0];
+        double[] zi = new double[0];
+        boolean[] converged = new boolean[0];
+        // re1, im1, re2, im2 of a quadratic
+        final double[] quadratic = new double[QuadraticMath.COMPLEX_STRIDE];
+
+        void ensureDegree(int degree) {
+            if (zr.length < degree) {
+                monic = new double[degree + 1];
+                zr = new double[degree];
+                zi = new double[degree];
+                converged = new boolean[degree];
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxIterations;
+    private final ValueValidator valueValidator = new ValueValidator();
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    /**
+     * Creates an engine on the common pool.
+     */
+    public PolynomialBatchEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * @param pool          the pool running the chunks
+     * @param chunkSize     number of polynomials per chunk
+     * @param maxIterations Aberth–Ehrlich iterations before a row is given up as not converged
+     */
+    public PolynomialBatchEngine(ForkJoinPool pool, int chunkSize, int maxIterations) {
+        if (chunkSize <= 0 || maxIterations <= 0) {
+            throw new IllegalArgumentException("chunkSize and maxIterations must be positive");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Solves the polynomials {@code [offset, offset + length)} of a row-major batch in parallel.
+     * All rows are validated before any is solved.
+     *
+     * @param coefficients the polynomials, {@code degree + 1} coefficients per row
+     * @param degree       the common degree, at least 1
+     * @param offset       index of the first polynomial to solve
+     * @param length       number of polynomials to solve
+     * @param re           receives the real parts, {@code degree} per row
+     * @param im           receives the imaginary parts, {@code degree} per row
+     * @return the number of rows whose iteration did not converge; their roots are the last estimates
+     * @throws IllegalArgumentException for the first row with invalid coefficients
+     */
+    public int solve(double[] coefficients, int degree, int offset, int length, double[] re, double[] im) {
+        checkBounds(coefficients, degree, offset, length, re, im);
+        int stride = degree + 1;
+        for (int i = offset; i < offset + length; i++) {
+            if (!PolynomialMath.isValid(coefficients, i * stride, degree)) {
+                try {
+                    PolynomialMath.validate(coefficients, i * stride, degree, valueValidator);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(e.getMessage() + " (row " + i + ")", e);
+                }
+            }
+        }
+
+        int chunks = (int) (((long) length + chunkSize - 1) / chunkSize);
+        if (log.isDebugEnabled()) {
+            log.debug("Solving {} polynomials of degree {} in {} chunks", length, degree, chunks);
+        }
+        if (chunks == 0) {
+            return 0;
+        }
+        ChunkTask task = new ChunkTask(coefficients, degree, offset, length, re, im, 0, chunks);
+        int unconverged = chunks == 1 ? task.compute() : pool.invoke(task);
+        if (unconverged > 0) {
+            log.warn("{} of {} polynomials did not converge in {} iterations", unconverged, length, maxIterations);
+        }
+        return unconverged;
+    }
+
+    /**
+     * Solves one valid polynomial {@code coefficients[from..from+degree]} on the calling thread.
+     *
+     * @return true if the roots converged
+     */
+    public boolean solveRow(double[] coefficients, int from, int degree, double[] re, double[] im, int offset) {
+        switch (degree) {
+            case 1:
+                re[offset] = -coefficients[from + 1] / coefficients[from];
+                im[offset] = 0;
+                return true;
+            case 2:
+                solveQuadratic(coefficients, from, re, im, offset, workspaces.get());
+                return true;
+            case 3:
+                CubicMath.solve(coefficients, from, re, im, offset);
+                return true;
+            case 4:
+                QuarticMath.solve(coefficients, from, re, im, offset);
+                return true;
+            default:
+                return solveAberth(coefficients, from, degree, re, im, offset, workspaces.get());
+        }
+    }
+
+    /**
+     * Both roots of a quadratic from {@link QuadraticMath#solveComplex}, the filter chain's arithmetic
+     * and EPSILON band, as a sorted pair. A discriminant the chain does not classify gives NaN roots.
+     */
+    private static void solveQuadratic(double[] coefficients, int from, double[] re, double[] im, int offset,
+                                       Workspace workspace) {
+        double[] packed = workspace.quadratic;
+        QuadraticMath.solveComplex(coefficients[from], coefficients[from + 1], coefficients[from + 2], packed, 0);
+        re[offset] = packed[0];
+        im[offset] = packed[1];
+        re[offset + 1] = packed[2];
+        im[offset + 1] = packed[3];
+        PolynomialMath.sortRoots(re, im, offset, 2);
+    }
+
+    /**
+     * Aberth–Ehrlich iteration with in-place (Gauss–Seidel) updates.
+     */
+    private boolean solveAberth(double[] coefficients, int from, int degree,
+                                double[] re, double[] im, int offset, Workspace workspace) {
+        workspace.ensureDegree(degree);
+        double[] monic = workspace.monic;
+        double[] zr = workspace.zr;
+        double[] zi = workspace.zi;
+        boolean[] converged = workspace.converged;
+
+        // Monic coefficients and the initial radius max |c_k|^(1/k), a bound on the root moduli up to a factor 2
+        double lead = coefficients[from];
+        double radius = 0;
+        for (int k = 0; k <= degree; k++) {
+            monic[k] = coefficients[from + k] / lead;
+            if (k > 0 && monic[k] != 0) {
+                radius = Math.max(radius, Math.pow(Math.abs(monic[k]), 1.0 / k));
+            }
+        }
+        if (radius == 0) {
+            // x^n: every root is zero
+            for (int k = 0; k < degree; k++) {
+                re[offset + k] = 0;
+                im[offset + k] = 0;
+            }
+            return true;
+        }
+
+        // Initial guesses on a circle around the centroid of the roots
+        double center = -monic[1] / degree;
+        for (int k = 0; k < degree; k++) {
+            double angle = 2 * Math.PI * k / degree + INITIAL_ANGLE;
+            zr[k] = center + radius * Math.cos(angle);
+            zi[k] = radius * Math.sin(angle);
+            converged[k] = false;
+        }
+
+        boolean done = false;
+        for (int iteration = 0; iteration < maxIterations && !done; iteration++) {
+            done = true;
+            for (int k = 0; k < degree; k++) {
+                if (converged[k]) {
+                    continue;
+                }
+                double x = zr[k];
+                double y = zi[k];
+
+                // Horner for p and p' at z_k, and for the rounding error bound of p
+                double modulus = Math.hypot(x, y);
+                double pr = 1;
+                double pi = 0;
+                double dr = 0;
+                double di = 0;
+                double errorBound = 1;
+                for (int j = 1; j <= degree; j++) {
+                    double ndr = dr * x - di * y + pr;
+                    di = dr * y + di * x + pi;
+                    dr = ndr;
+                    double npr = pr * x - pi * y + monic[j];
+                    pi = pr * y + pi * x;
+                    pr = npr;
+                    errorBound = errorBound * modulus + Math.abs(monic[j]);
+                }
+                if (Math.hypot(pr, pi) <= HORNER_ERROR_FACTOR * errorBound) {
+                    // p(z_k) is zero to working precision; another step would only follow rounding noise
+                    converged[k] = true;
+                    continue;
+                }
+
+                // w = p / p'; a vanishing derivative falls back to a step of size |p|
+                double wr;
+                double wi;
+                double derivative = dr * dr + di * di;
+                if (derivative == 0) {
+                    wr = pr;
+                    wi = pi;
+                } else {
+                    wr = (pr * dr + pi * di) / derivative;
+                    wi = (pi * dr - pr * di) / derivative;
+                }
+
+                // s = sum over j != k of 1 / (z_k - z_j)
+                double sr = 0;
+                double si = 0;
+                for (int j = 0; j < degree; j++) {
+                    if (j != k) {
+                        double ur = x - zr[j];
+                        double ui = y - zi[j];
+                        double norm = ur * ur + ui * ui;
+                        if (norm != 0) {
+                            sr += ur / norm;
+                            si -= ui / norm;
+                        }
+                    }
+                }
+
+                // correction = w / (1 - w s)
+                double denominatorR = 1 - (wr * sr - wi * si);
+                double denominatorI = -(wr * si + wi * sr);
+                double denominator = denominatorR * denominatorR + denominatorI * denominatorI;
+                double cr;
+                double ci;
+                if (denominator == 0) {
+                    cr = wr;
+                    ci = wi;
+                } else {
+                    cr = (wr * denominatorR + wi * denominatorI) / denominator;
+                    ci = (wi * denominatorR - wr * denominatorI) / denominator;
+                }
+                zr[k] = x - cr;
+                zi[k] = y - ci;
+
+                if (Math.hypot(cr, ci) <= RELATIVE_TOLERANCE * Math.hypot(zr[k], zi[k])) {
+                    converged[k] = true;
+                } else {
+                    done = false;
+                }
+            }
+        }
+
+        for (int k = 0; k < degree; k++) {
+            re[offset + k] = zr[k];
+            im[offset + k] = zi[k];
+        }
+        PolynomialMath.sortRoots(re, im, offset, degree);
+        return done;
+    }
+
+    private static void checkBounds(double[] coefficients, int degree, int offset, int length,
+                                    double[] re, double[] im) {
+        if (degree < 1) {
+            throw new IllegalArgumentException("degree must be at least 1");
+        }
+        long end = (long) offset + length;
+        if (offset < 0 || length < 0
+                || end * (degree + 1) > coefficients.length
+                || end * degree > re.length || end * degree > im.length) {
+            throw new IndexOutOfBoundsException("rows [" + offset + ", " + end + ") of degree " + degree
+                    + " do not fit the arrays");
+        }
+    }
+
+    /**
+     * Recursively halves a range of chunks until a single chunk is left, then solves it.
+     * Returns the number of rows that did not converge.
+     */
+    private final class ChunkTask extends RecursiveTask<Integer> {
+
+        private final double[] coefficients;
+        private final int degree;
+        private final int offset;
+        private final int length;
+        private final double[] re;
+        private final double[] im;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkTask(double[] coefficients, int degree, int offset, int length,
+                  double[] re, double[] im, int fromChunk, int toChunk) {
+            this.coefficients = coefficients;
+            this.degree = degree;
+            this.offset = offset;
+            this.length = length;
+            this.re = re;
+            this.im = im;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                ChunkTask right = split(middle, toChunk);
+                right.fork();
+                int left = split(fromChunk, middle).compute();
+                return left + right.join();
+            }
+
+            int start = offset + fromChunk * chunkSize;
+            int end = Math.min(start + chunkSize, offset + length);
+            int unconverged = 0;
+            for (int i = start; i < end; i++) {
+                if (!solveRow(coefficients, i * (degree + 1), degree, re, im, i * degree)) {
+                    unconverged++;
+                }
+            }
+            return unconverged;
+        }
+
+        private ChunkTask split(int from, int to) {
+            return new ChunkTask(coefficients, degree, offset, length, re, im, from, to);
+        }
+    }
+}
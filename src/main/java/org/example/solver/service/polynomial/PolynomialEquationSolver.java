@@ -0,0 +1,106 @@
+package org.example.solver.service.polynomial;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ValueValidator;
+import org.example.solver.entity.PolynomialEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.math.PolynomialMath;
+import org.example.solver.service.handler.PolynomialEquationContextHandler;
+
+/**
+ * Solves real polynomials of any degree for all their complex roots.
+ *
+ * <p>Single equations of degree 3 and 4 run the {@link ContextFilterType#CUBIC_EQUATION} and
+ * {@link ContextFilterType#QUARTIC_EQUATION} filter chains; other degrees and every batch go to the
+ * {@link PolynomialBatchEngine}. Roots are counted with multiplicity and sorted by real part, then by
+ * imaginary part.
+ */
+@Slf4j
+public class PolynomialEquationSolver {
+
+    private final PolynomialEquationContextHandler contextHandler;
+    private final PolynomialBatchEngine engine;
+    private final ValueValidator valueValidator = new ValueValidator();
+
+    // One reusable context per thread for the allocation-free solveInto path
+    private final ThreadLocal<PolynomialEquationContext> reusableContext =
+            ThreadLocal.withInitial(PolynomialEquationContext::new);
+
+    /**
+     * Creates a solver with the generated cubic and quartic chains and a batch engine on the common pool.
+     */
+    public PolynomialEquationSolver() {
+        this(new PolynomialEquationContextHandler(), new PolynomialBatchEngine());
+    }
+
+    /**
+     * @param contextHandler runs the cubic and quartic chains
+     * @param engine         solves the other degrees and the batches
+     */
+    public PolynomialEquationSolver(PolynomialEquationContextHandler contextHandler, PolynomialBatchEngine engine) {
+        this.contextHandler = contextHandler;
+        this.engine = engine;
+    }
+
+    /**
+     * Solves one polynomial.
+     *
+     * @param coefficients the coefficients, highest degree first; at least two
+     * @return the roots in the packed layout {@code re1, im1, re2, im2, ...}, one pair per root
+     * @throws IllegalArgumentException if a coefficient is invalid
+     */
+    public double[] solve(double... coefficients) {
+        int degree = coefficients.length - 1;
+        double[] re = new double[Math.max(degree, 0)];
+        double[] im = new double[re.length];
+        solveInto(coefficients, re, im);
+
+        double[] packed = new double[2 * degree];
+        for (int k = 0; k < degree; k++) {
+            packed[2 * k] = re[k];
+            packed[2 * k + 1] = im[k];
+        }
+        return packed;
+    }
+
+    /**
+     * Solves one polynomial into caller-owned arrays without allocating.
+     *
+     * @param coefficients the coefficients, highest degree first; at least two
+     * @param re           receives the real parts, at least {@code degree} long
+     * @param im           receives the imaginary parts, at least {@code degree} long
+     * @return the degree, which is the number of roots written
+     * @throws IllegalArgumentException if a coefficient is invalid
+     */
+    public int solveInto(double[] coefficients, double[] re, double[] im) {
+        int degree = coefficients.length - 1;
+        if (degree < 1) {
+            throw new IllegalArgumentException("a polynomial needs at least two coefficients");
+        }
+
+        if (degree == 3 || degree == 4) {
+            PolynomialEquationContext context = reusableContext.get();
+            context.reset(coefficients);
+            contextHandler.handle(context, degree == 3 ? ContextFilterType.CUBIC_EQUATION : ContextFilterType.QUARTIC_EQUATION);
+            System.arraycopy(context.getRe(), 0, re, 0, degree);
+            System.arraycopy(context.getIm(), 0, im, 0, degree);
+            return degree;
+        }
+
+        PolynomialMath.validate(coefficients, 0, degree, valueValidator);
+        if (!engine.solveRow(coefficients, 0, degree, re, im, 0)) {
+            log.warn("Roots of the degree {} polynomial did not converge", degree);
+        }
+        return degree;
+    }
+
+    /**
+     * Solves the polynomials {@code [offset, offset + length)} of a row-major batch in parallel.
+     *
+     * @return the number of rows whose iteration did not converge
+     * @see PolynomialBatchEngine#solve(double[], int, int, int, double[], double[])
+     */
+    public int solveBatch(double[] coefficients, int degree, int offset, int length, double[] re, double[] im) {
+        return engine.solve(coefficients, degree, offset, length, re, im);
+    }
+}
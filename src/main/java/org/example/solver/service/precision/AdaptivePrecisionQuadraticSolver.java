@@ -0,0 +1,287 @@
+package org.example.solver.service.precision;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.solver.entity.RootResult;
+import org.example.solver.enums.PrecisionLevel;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.QuadraticEquationSolver;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Solver whose root count is decided by the exact discriminant, with arithmetic escalated only
+ * when a cheaper level cannot prove its answer.
+ *
+ * <ol>
+ *   <li>{@link PrecisionLevel#DOUBLE}: {@code b*b - 4ac} in double, with the a-priori bound
+ *   {@code |error| <= 3u (b^2 + |4ac|)}. Accepted when the bound does not reach ±EPSILON and,
+ *   for two roots, is below 2^-40 of the discriminant.</li>
+ *   <li>{@link PrecisionLevel#DOUBLE_DOUBLE}: both products are split with {@link Math#fma} into a
+ *   rounded value and its exact rounding error (Kahan's algorithm), giving the discriminant within
+ *   2 ulp. Accepted under the same conditions.</li>
+ *   <li>{@link PrecisionLevel#BIG_DECIMAL}: the exact discriminant; roots are computed with
+ *   34 significant digits and rounded once. Only reached on overflow or when the discriminant
+ *   lies within rounding distance of ±EPSILON.</li>
+ * </ol>
+ *
+ * <p>The classification is the one of the filter chain (|Δ| &lt; EPSILON is one root,
+ * Δ &gt; EPSILON two roots, anything else none), applied to the exact Δ instead of the
+ * rounded one. Two roots use the cancellation-free form {@code q = -(b + sign(b) sqrt(Δ)) / 2},
+ * {@code x = q / a} and {@code x = c / q}, in the root order of the filter chain.
+ */
+@Slf4j
+public class AdaptivePrecisionQuadraticSolver implements QuadraticEquationSolver {
+
+    // Unit roundoff 2^-53
+    private static final double U = 0x1p-53;
+    // Covers the rounding of both products and of the subtraction
+    private static final double DOUBLE_ERROR_FACTOR = 3 * U;
+    // Error of Kahan's discriminant is at most 2 ulp; doubled for margin
+    private static final double DOUBLE_DOUBLE_ERROR_FACTOR = 8 * U;
+    // Absolute slack for products whose FMA error terms are subnormal
+    private static final double UNDERFLOW_SLACK = 0x1p-960;
+    // Largest relative discriminant error accepted for two roots: roots within ~2^-41 relative
+    private static final double MAX_RELATIVE_ERROR = 0x1p-40;
+
+    private static final MathContext ROOT_CONTEXT = MathContext.DECIMAL128;
+    private static final BigDecimal EPSILON = new BigDecimal(QuadraticMath.EPSILON);
+    private static final BigDecimal FOUR = BigDecimal.valueOf(4);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    // Only escalations are counted, so that the fast path stays free of shared writes
+    private final LongAdder doubleDoubleCount = new LongAdder();
+    private final LongAdder bigDecimalCount = new LongAdder();
+
+    @Override
+    public double[] solve(double a, double b, double c) {
+        return solveInto(a, b, c, new RootResult()).toArray();
+    }
+
+    @Override
+    public RootResult solveInto(double a, double b, double c, RootResult result) {
+        CoefficientStatus.validate(a, b, c);
+        solveCertified(a, b, c, result);
+        return result;
+    }
+
+    /**
+     * Solves one valid equation and reports the arithmetic that certified it.
+     *
+     * @param a      coefficient of x^2, non-zero and finite
+     * @param b      coefficient of x, finite
+     * @param c      constant term, finite
+     * @param result receives the root count and the roots
+     * @return the precision level that was needed
+     */
+    public PrecisionLevel solveCertified(double a, double b, double c, RootResult result) {
+        // Level 1: plain double with an a-priori error bound
+        double p = b * b;
+        double q = 4 * a * c;
+        double discriminant = p - q;
+        double bound = DOUBLE_ERROR_FACTOR * (p + Math.abs(q)) + UNDERFLOW_SLACK;
+        if (certify(discriminant, bound)) {
+            finish(a, b, c, discriminant, result);
+            return PrecisionLevel.DOUBLE;
+        }
+
+        // Level 2: error-free products, d = (p - q) + (dp - dq)
+        double dp = Math.fma(b, b, -p);
+        double dq = Math.fma(4 * a, c, -q);
+        discriminant = (p - q) + (dp - dq);
+        bound = DOUBLE_DOUBLE_ERROR_FACTOR * Math.abs(discriminant) + UNDERFLOW_SLACK;
+        if (certify(discriminant, bound)) {
+            doubleDoubleCount.increment();
+            finish(a, b, c, discriminant, result);
+            return PrecisionLevel.DOUBLE_DOUBLE;
+        }
+
+        // Level 3: exact
+        bigDecimalCount.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Escalating to BigDecimal: a={}, b={}, c={}", a, b, c);
+        }
+        solveExact(a, b, c, result);
+        return PrecisionLevel.BIG_DECIMAL;
+    }
+
+    /**
+     * Solves a batch row by row; each row is certified independently.
+     *
+     * @throws IllegalArgumentException for the first row with invalid coefficients
+     */
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount) {
+        RootResult result = new RootResult();
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            solveCertified(a[i], b[i], c[i], result);
+            root1[i] = result.getRoot1();
+            root2[i] = result.getRoot2();
+            rootCount[i] = result.getCount();
+        }
+    }
+
+    /**
+     * Certifies a regular quadratic; a row with a status is solved like the filter chain in status mode.
+     */
+    @Override
+    public int solveWithStatus(double a, double b, double c, RootResult result) {
+        int status = CoefficientStatus.of(a, b, c);
+        if (status == 0) {
+            solveCertified(a, b, c, result);
+        } else {
+            QuadraticMath.solveChecked(a, b, c, result);
+        }
+        return status;
+    }
+
+    @Override
+    public void solveBatch(double[] a, double[] b, double[] c, int offset, int length,
+                           double[] root1, double[] root2, int[] rootCount, int[] status) {
+        RootResult result = new RootResult();
+        for (int i = offset; i < offset + length; i++) {
+            status[i] = solveWithStatus(a[i], b[i], c[i], result);
+            root1[i] = result.getRoot1();
+            root2[i] = result.getRoot2();
+            rootCount[i] = result.getCount();
+        }
+    }
+
+    /**
+     * Real roots are certified as in {@link #solveInto}; the conjugate pair of an equation without
+     * real roots is computed from the error-free discriminant of level 2.
+     */
+    @Override
+    public int solveComplexInto(double a, double b, double c, double[] roots, int offset) {
+        CoefficientStatus.validate(a, b, c);
+        return solveComplexCertified(a, b, c, roots, offset, new RootResult());
+    }
+
+    @Override
+    public void solveComplexBatch(double[] a, double[] b, double[] c, int offset, int length,
+                                  double[] re1, double[] re2, double[] im, int[] rootCount) {
+        RootResult real = new RootResult();
+        double[] roots = new double[QuadraticMath.COMPLEX_STRIDE];
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            rootCount[i] = solveComplexCertified(a[i], b[i], c[i], roots, 0, real);
+            re1[i] = roots[0];
+            im[i] = roots[1];
+            re2[i] = roots[2];
+        }
+    }
+
+    /**
+     * Returns how many equations needed each escalated precision level.
+     *
+     * @return a snapshot of the escalation counters
+     */
+    public PrecisionStats stats() {
+        return new PrecisionStats(doubleDoubleCount.sum(), bigDecimalCount.sum());
+    }
+
+    /**
+     * Writes {@code re1, im1, re2, im2} for one valid equation, in the layout of {@link QuadraticMath#solveComplex}.
+     *
+     * @param real scratch holder for the certified real roots
+     * @return the number of roots
+     */
+    private int solveComplexCertified(double a, double b, double c, double[] roots, int offset, RootResult real) {
+        solveCertified(a, b, c, real);
+        if (real.getCount() > 0) {
+            roots[offset] = real.getRoot1();
+            roots[offset + 1] = 0;
+            roots[offset + 2] = real.getRoot2();
+            roots[offset + 3] = 0;
+            return real.getCount();
+        }
+
+        double p = b * b;
+        double q = 4 * a * c;
+        double discriminant = (p - q) + (Math.fma(b, b, -p) - Math.fma(4 * a, c, -q));
+        if (!QuadraticMath.isNegative(discriminant)) {
+            // Δ is exactly EPSILON or overflows: no roots, as in the filter chain
+            Arrays.fill(roots, offset, offset + QuadraticMath.COMPLEX_STRIDE, Double.NaN);
+            return 0;
+        }
+        roots[offset] = -b / (2 * a);
+        roots[offset + 1] = Math.sqrt(-discriminant) / (2 * a);
+        roots[offset + 2] = roots[offset];
+        roots[offset + 3] = -roots[offset + 1];
+        return 2;
+    }
+
+    /**
+     * Checks that the interval {@code discriminant ± bound} decides the classification and,
+     * for two roots, is tight enough for accurate roots.
+     */
+    private static boolean certify(double discriminant, double bound) {
+        if (!Double.isFinite(discriminant) || !Double.isFinite(bound)) {
+            return false;
+        }
+        double low = discriminant - bound;
+        double high = discriminant + bound;
+        double epsilon = QuadraticMath.EPSILON;
+        if ((low <= epsilon && epsilon <= high) || (low <= -epsilon && -epsilon <= high)) {
+            // The exact value may be on either side of a threshold
+            return false;
+        }
+        return !QuadraticMath.isPositive(discriminant) || bound <= MAX_RELATIVE_ERROR * discriminant;
+    }
+
+    /**
+     * Computes the roots from a certified double discriminant.
+     */
+    private static void finish(double a, double b, double c, double discriminant, RootResult result) {
+        if (QuadraticMath.isZero(discriminant)) {
+            double root = -b / (2 * a);
+            result.set(1, root, root);
+        } else if (QuadraticMath.isPositive(discriminant)) {
+            double q = -0.5 * (b + Math.copySign(Math.sqrt(discriminant), b));
+            storeStableRoots(q / a, c / q, b, result);
+        } else {
+            result.set(0, Double.NaN, Double.NaN);
+        }
+    }
+
+    /**
+     * Exact discriminant; the roots are computed in 34 digits and rounded to double once.
+     */
+    private static void solveExact(double a, double b, double c, RootResult result) {
+        BigDecimal exactA = new BigDecimal(a);
+        BigDecimal exactB = new BigDecimal(b);
+        BigDecimal exactC = new BigDecimal(c);
+        BigDecimal discriminant = exactB.multiply(exactB).subtract(FOUR.multiply(exactA).multiply(exactC));
+
+        if (discriminant.abs().compareTo(EPSILON) < 0) {
+            double root = exactB.negate().divide(TWO.multiply(exactA), ROOT_CONTEXT).doubleValue();
+            result.set(1, root, root);
+        } else if (discriminant.compareTo(EPSILON) > 0) {
+            BigDecimal sqrt = discriminant.sqrt(ROOT_CONTEXT);
+            BigDecimal q = (Math.copySign(1, b) < 0 ? exactB.subtract(sqrt) : exactB.add(sqrt))
+                    .divide(TWO.negate(), ROOT_CONTEXT);
+            storeStableRoots(q.divide(exactA, ROOT_CONTEXT).doubleValue(),
+                    exactC.divide(q, ROOT_CONTEXT).doubleValue(), b, result);
+        } else {
+            result.set(0, Double.NaN, Double.NaN);
+        }
+    }
+
+    /**
+     * Stores the roots {@code q / a} and {@code c / q} in the order of the filter chain:
+     * root1 = (-b + sqrt(Δ)) / 2a, root2 = (-b - sqrt(Δ)) / 2a.
+     */
+    private static void storeStableRoots(double qOverA, double cOverQ, double b, RootResult result) {
+        // q / a is the root with the same sign of sqrt(Δ) as -sign(b)
+        if (Math.copySign(1, b) < 0) {
+            result.set(2, qOverA, cOverQ);
+        } else {
+            result.set(2, cOverQ, qOverA);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.solver.service.precision;
+
+import lombok.Value;
+
+/**
+ * Number of equations that escalated to each {@link org.example.solver.enums.PrecisionLevel}
+ * above plain double.
+ */
+@Value
+public class PrecisionStats {
+    long doubleDoubleCount;
+    long bigDecimalCount;
+
+    /**
+     * @return the number of equations that needed more than plain double arithmetic
+     */
+    public long escalations() {
+        return doubleDoubleCount + bigDecimalCount;
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.solver.service.query;
+
+import org.example.solver.enums.DiscriminantClass;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.math.QuadraticQueries;
+
+/**
+ * Answers questions about the real roots of quadratic equations without running the filter chain:
+ * the nearest root above a bound, the root count, the discriminant class and the roots in an interval.
+ *
+ * <p>Every query uses the discriminant and the EPSILON semantics of the filter chain, through
+ * {@link QuadraticMath} and {@link QuadraticQueries}, so its answers agree with
+ * {@code QuadraticEquationSolver.solve}. Invalid coefficients raise the validator filters' exception,
+ * with the row index added in batch queries. Nothing is allocated per row.
+ */
+public class QuadraticQuerySolver {
+
+    /**
+     * Nearest-root query: returns only the smallest root greater than {@code tMin}, without building
+     * the roots array. The second root is computed only when the first is not above {@code tMin}.
+     *
+     * @param tMin exclusive lower bound for the root
+     * @return the nearest root above {@code tMin}, or NaN for no hit
+     * @throws IllegalArgumentException if a coefficient is invalid
+     * @see QuadraticMath#nearestRoot(double, double, double, double)
+     */
+    public double solveNearest(double a, double b, double c, double tMin) {
+        CoefficientStatus.validate(a, b, c);
+        return QuadraticMath.nearestRoot(a, b, c, tMin);
+    }
+
+    /**
+     * Runs the nearest-root query over the rows {@code [offset, offset + length)}, writing the root
+     * or NaN to the same indices of {@code nearest}.
+     *
+     * @param tMin    exclusive lower bound for the roots
+     * @param nearest output for the nearest root above {@code tMin}, NaN for no hit
+     * @return the number of rows with a hit
+     * @throws IllegalArgumentException for the first row with invalid coefficients
+     */
+    public int solveNearestBatch(double[] a, double[] b, double[] c, double tMin, int offset, int length,
+                                 double[] nearest) {
+        int hits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            double root = QuadraticMath.nearestRoot(a[i], b[i], c[i], tMin);
+            nearest[i] = root;
+            if (!Double.isNaN(root)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Counts the real roots from the discriminant alone, without computing them.
+     *
+     * @return the root count the filter chain would return: 0, 1 or 2
+     * @throws IllegalArgumentException if a coefficient is invalid
+     * @see QuadraticQueries#rootCount(double, double, double)
+     */
+    public int countRoots(double a, double b, double c) {
+        CoefficientStatus.validate(a, b, c);
+        return QuadraticQueries.rootCount(a, b, c);
+    }
+
+    /**
+     * Classifies the discriminant with the EPSILON semantics of the filter chain.
+     *
+     * @throws IllegalArgumentException if a coefficient is invalid
+     */
+    public DiscriminantClass classify(double a, double b, double c) {
+        CoefficientStatus.validate(a, b, c);
+        return QuadraticQueries.classify(a, b, c);
+    }
+
+    /**
+     * Counts the distinct real roots in {@code [lo, hi]} from sign tests, without a square root.
+     *
+     * @return 0, 1 or 2
+     * @throws IllegalArgumentException if a coefficient or the interval is invalid
+     * @see QuadraticQueries#rootCountIn(double, double, double, double, double)
+     */
+    public int countRootsIn(double a, double b, double c, double lo, double hi) {
+        CoefficientStatus.validate(a, b, c);
+        validateInterval(lo, hi);
+        return QuadraticQueries.rootCountIn(a, b, c, lo, hi);
+    }
+
+    /**
+     * @return true if a real root lies in {@code [lo, hi]}
+     * @throws IllegalArgumentException if a coefficient or the interval is invalid
+     * @see #countRootsIn(double, double, double, double, double)
+     */
+    public boolean hasRootIn(double a, double b, double c, double lo, double hi) {
+        return countRootsIn(a, b, c, lo, hi) > 0;
+    }
+
+    /**
+     * Counts the real roots of the rows {@code [offset, offset + length)} without computing them.
+     *
+     * @param rootCount output for the root counts, indexed like the inputs
+     * @throws IllegalArgumentException for the first row with invalid coefficients
+     */
+    public void countRootsBatch(double[] a, double[] b, double[] c, int offset, int length, int[] rootCount) {
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            rootCount[i] = QuadraticQueries.rootCount(a[i], b[i], c[i]);
+        }
+    }
+
+    /**
+     * Counts the distinct real roots in {@code [lo, hi]} of the rows {@code [offset, offset + length)}.
+     *
+     * @param rootCount output for the counts in the interval, indexed like the inputs
+     * @return the number of rows with a root in the interval
+     * @throws IllegalArgumentException if the interval is invalid, or for the first row with invalid coefficients
+     */
+    public int countRootsInBatch(double[] a, double[] b, double[] c, double lo, double hi,
+                                 int offset, int length, int[] rootCount) {
+        validateInterval(lo, hi);
+        int rowsWithRoots = 0;
+        for (int i = offset; i < offset + length; i++) {
+            CoefficientStatus.validateRow(a[i], b[i], c[i], i);
+            int count = QuadraticQueries.rootCountIn(a[i], b[i], c[i], lo, hi);
+            rootCount[i] = count;
+            if (count > 0) {
+                rowsWithRoots++;
+            }
+        }
+        return rowsWithRoots;
+    }
+
+    /**
+     * Rejects an interval with a NaN end or with its ends swapped.
+     */
+    private static void validateInterval(double lo, double hi) {
+        if (!(lo <= hi)) {
+            throw new IllegalArgumentException("interval [" + lo + ", " + hi + "] is empty or not numeric");
+        }
+    }
+}
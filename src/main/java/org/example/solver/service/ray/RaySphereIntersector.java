@@ -0,0 +1,110 @@
+package org.example.solver.service.ray;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ValueValidator;
+import org.example.solver.math.QuadraticMath;
+
+/**
+ * Intersects batches of rays with one sphere, keeping only the nearest hit of each ray.
+ *
+ * <p>A ray {@code o + t d} meets the sphere {@code |x - center| = radius} where
+ * {@code (d·d) t^2 + 2 d·(o - center) t + |o - center|^2 - radius^2 = 0}. Each ray's quadratic is
+ * solved with {@link QuadraticMath#nearestRoot}, so the discriminant and the roots are those of the
+ * solver, the far root is skipped whenever the near one is above {@code tMin}, and no root array
+ * is built. Rays are stored column-wise; nothing is allocated per ray.
+ *
+ * <p>A ray whose quadratic has invalid coefficients (a zero direction, or a non-finite component)
+ * reports no hit instead of raising, so one bad ray does not abort a frame.
+ */
+@Slf4j
+@Getter
+public class RaySphereIntersector {
+
+    private final double centerX;
+    private final double centerY;
+    private final double centerZ;
+    private final double radius;
+    // Invariant of every ray's constant term
+    private final double radiusSquared;
+
+    /**
+     * @param centerX x of the sphere center
+     * @param centerY y of the sphere center
+     * @param centerZ z of the sphere center
+     * @param radius  the sphere radius
+     * @throws IllegalArgumentException if a value is not numeric or the radius is negative
+     */
+    public RaySphereIntersector(double centerX, double centerY, double centerZ, double radius) {
+        ValueValidator valueValidator = new ValueValidator();
+        valueValidator.validateNumeric(centerX, "centerX");
+        valueValidator.validateNumeric(centerY, "centerY");
+        valueValidator.validateNumeric(centerZ, "centerZ");
+        valueValidator.validateNumeric(radius, "radius");
+        if (radius < 0) {
+            throw new IllegalArgumentException("radius cannot be negative");
+        }
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.radiusSquared = radius * radius;
+    }
+
+    /**
+     * Returns the nearest hit of one ray.
+     *
+     * @return the ray parameter of the nearest hit above {@code tMin}, or NaN for no hit
+     */
+    public double intersect(double originX, double originY, double originZ,
+                            double directionX, double directionY, double directionZ, double tMin) {
+        // Origin relative to the center
+        double ox = originX - centerX;
+        double oy = originY - centerY;
+        double oz = originZ - centerZ;
+
+        double a = directionX * directionX + directionY * directionY + directionZ * directionZ;
+        double b = 2 * (directionX * ox + directionY * oy + directionZ * oz);
+        double c = ox * ox + oy * oy + oz * oz - radiusSquared;
+        if (!QuadraticMath.isValid(a, b, c)) {
+            return Double.NaN;
+        }
+        return QuadraticMath.nearestRoot(a, b, c, tMin);
+    }
+
+    /**
+     * Intersects the rays {@code [offset, offset + length)} with the sphere. The ray parameter of each
+     * nearest hit above {@code tMin}, or NaN for no hit, goes to the same index of {@code t}.
+     *
+     * @param originX    x of the ray origins
+     * @param originY    y of the ray origins
+     * @param originZ    z of the ray origins
+     * @param directionX x of the ray directions, not necessarily normalized
+     * @param directionY y of the ray directions
+     * @param directionZ z of the ray directions
+     * @param tMin       exclusive lower bound for the hits, such as a small epsilon against self-hits
+     * @param offset     index of the first ray
+     * @param length     number of rays
+     * @param t          output for the nearest hits
+     * @return the number of rays that hit the sphere
+     */
+    public int intersect(double[] originX, double[] originY, double[] originZ,
+                         double[] directionX, double[] directionY, double[] directionZ,
+                         double tMin, int offset, int length, double[] t) {
+        // Guarded: the varargs array and the boxed values would be allocated on every batch
+        if (log.isDebugEnabled()) {
+            log.debug("Intersecting {} rays with the sphere at ({}, {}, {}), radius {}",
+                    length, centerX, centerY, centerZ, radius);
+        }
+        int hits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            double hit = intersect(originX[i], originY[i], originZ[i],
+                    directionX[i], directionY[i], directionZ[i], tMin);
+            t[i] = hit;
+            if (!Double.isNaN(hit)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.solver.service.sweep;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lib.ValueValidator;
+import org.example.solver.math.QuadraticMath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solves families of quadratic equations in which one coefficient is swept and the others are fixed,
+ * such as a bifurcation scan over {@code c}.
+ *
+ * <p>The terms that do not depend on the swept coefficient are computed once per sweep:
+ * {@code b^2}, {@code 4a}, {@code 4ac}, {@code 1/(2a)} and, over {@code c}, the vertex {@code -b/(2a)}.
+ * Each row then costs one discriminant update, one classification and at most one square root.
+ * The discriminant is evaluated exactly like the filter chain, so root counts agree with it;
+ * roots use the precomputed reciprocal instead of a division and may differ from the chain in the last bit.
+ *
+ * <p>Results follow the batch conventions: a single root is repeated, missing roots are NaN.
+ * The coefficient values at which the root count changes are found analytically by the
+ * {@code crossingsOver} methods, not by scanning the samples.
+ */
+@Slf4j
+public class QuadraticSweepSolver {
+
+    private final ValueValidator valueValidator = new ValueValidator();
+
+    /**
+     * Solves {@code a x^2 + b x + c[i]} for the rows {@code [offset, offset + length)}.
+     * Results go to the same indices of the output arrays.
+     *
+     * @throws IllegalArgumentException if a or b is invalid, or for the first row with a non-numeric c
+     */
+    public void sweepC(double a, double b, double[] c, int offset, int length,
+                       double[] root1, double[] root2, int[] rootCount) {
+        validateFixed(a, b, "b");
+        if (log.isDebugEnabled()) {
+            log.debug("Sweeping c over {} values with a={}, b={}", length, a, b);
+        }
+
+        // Invariants of the sweep
+        double bb = b * b;
+        double fourA = 4 * a;
+        double vertex = -b / (2 * a);
+        double inverseTwoA = 1 / (2 * a);
+
+        for (int i = offset; i < offset + length; i++) {
+            if (!Double.isFinite(c[i])) {
+                rejectRow(c[i], "c", i);
+            }
+            store(bb - fourA * c[i], vertex, inverseTwoA, i, root1, root2, rootCount);
+        }
+    }
+
+    /**
+     * Solves {@code a x^2 + b x + c} for {@code c = cStart + i * cStep}, {@code i} in {@code [0, count)},
+     * into the first {@code count} entries of the output arrays. Each c is computed from i rather than
+     * accumulated, so long sweeps do not drift.
+     *
+     * @return the crossings that lie within the swept range, in increasing order of c
+     * @throws IllegalArgumentException if a coefficient, the start or the step is invalid
+     */
+    public List<SweepCrossing> sweepCRange(double a, double b, double cStart, double cStep, int count,
+                                           double[] root1, double[] root2, int[] rootCount) {
+        validateFixed(a, b, "b");
+        double cEnd = validateRange(cStart, cStep, count, "c");
+        if (log.isDebugEnabled()) {
+            log.debug("Sweeping c from {} in {} steps of {} with a={}, b={}", cStart, count, cStep, a, b);
+        }
+
+        double bb = b * b;
+        double fourA = 4 * a;
+        double vertex = -b / (2 * a);
+        double inverseTwoA = 1 / (2 * a);
+
+        for (int i = 0; i < count; i++) {
+            store(bb - fourA * (cStart + i * cStep), vertex, inverseTwoA, i, root1, root2, rootCount);
+        }
+        return within(crossingsOverC(a, b), cStart, cEnd);
+    }
+
+    /**
+     * Solves {@code a x^2 + b[i] x + c} for the rows {@code [offset, offset + length)}.
+     * Results go to the same indices of the output arrays.
+     *
+     * @throws IllegalArgumentException if a or c is invalid, or for the first row with a non-numeric b
+     */
+    public void sweepB(double a, double[] b, double c, int offset, int length,
+                       double[] root1, double[] root2, int[] rootCount) {
+        validateFixed(a, c, "c");
+        if (log.isDebugEnabled()) {
+            log.debug("Sweeping b over {} values with a={}, c={}", length, a, c);
+        }
+
+        double fourAC = 4 * a * c;
+        double inverseTwoA = 1 / (2 * a);
+
+        for (int i = offset; i < offset + length; i++) {
+            double bi = b[i];
+            if (!Double.isFinite(bi)) {
+                rejectRow(bi, "b", i);
+            }
+            store(bi * bi - fourAC, -bi * inverseTwoA, inverseTwoA, i, root1, root2, rootCount);
+        }
+    }
+
+    /**
+     * Solves {@code a x^2 + b x + c} for {@code b = bStart + i * bStep}, {@code i} in {@code [0, count)},
+     * into the first {@code count} entries of the output arrays.
+     *
+     * @return the crossings that lie within the swept range, in increasing order of b
+     * @throws IllegalArgumentException if a coefficient, the start or the step is invalid
+     */
+    public List<SweepCrossing> sweepBRange(double a, double bStart, double bStep, int count, double c,
+                                           double[] root1, double[] root2, int[] rootCount) {
+        validateFixed(a, c, "c");
+        double bEnd = validateRange(bStart, bStep, count, "b");
+        if (log.isDebugEnabled()) {
+            log.debug("Sweeping b from {} in {} steps of {} with a={}, c={}", bStart, count, bStep, a, c);
+        }
+
+        double fourAC = 4 * a * c;
+        double inverseTwoA = 1 / (2 * a);
+
+        for (int i = 0; i < count; i++) {
+            double bi = bStart + i * bStep;
+            store(bi * bi - fourAC, -bi * inverseTwoA, inverseTwoA, i, root1, root2, rootCount);
+        }
+        return within(crossingsOverB(a, c), bStart, bEnd);
+    }
+
+    /**
+     * Returns where the root count of {@code a x^2 + b x + c} changes as c varies.
+     * The discriminant {@code b^2 - 4ac} is linear in c, so it is within EPSILON of zero between
+     * {@code (b^2 - EPSILON) / 4a} and {@code (b^2 + EPSILON) / 4a}: two roots on one side,
+     * one root in between, none on the other side.
+     *
+     * @return the two crossings in increasing order of c
+     */
+    public static List<SweepCrossing> crossingsOverC(double a, double b) {
+        double bb = b * b;
+        double lower = (bb - QuadraticMath.EPSILON) / (4 * a);
+        double upper = (bb + QuadraticMath.EPSILON) / (4 * a);
+        if (a > 0) {
+            // The discriminant falls as c grows
+            return List.of(new SweepCrossing(lower, 2, 1), new SweepCrossing(upper, 1, 0));
+        }
+        return List.of(new SweepCrossing(upper, 0, 1), new SweepCrossing(lower, 1, 2));
+    }
+
+    /**
+     * Returns where the root count of {@code a x^2 + b x + c} changes as b varies.
+     * The discriminant {@code b^2 - 4ac} depends on b^2 only, so the crossings are symmetric around 0,
+     * at {@code ±sqrt(4ac + EPSILON)} and {@code ±sqrt(4ac - EPSILON)} where these exist.
+     *
+     * @return zero, two or four crossings in increasing order of b
+     */
+    public static List<SweepCrossing> crossingsOverB(double a, double c) {
+        double fourAC = 4 * a * c;
+        double outer = fourAC + QuadraticMath.EPSILON;
+        double inner = fourAC - QuadraticMath.EPSILON;
+        if (outer <= 0) {
+            // The discriminant is at least -4ac >= EPSILON for every b
+            return List.of();
+        }
+
+        double outerB = Math.sqrt(outer);
+        if (inner <= 0) {
+            // b = 0 lies in the single-root band
+            return List.of(new SweepCrossing(-outerB, 2, 1), new SweepCrossing(outerB, 1, 2));
+        }
+        double innerB = Math.sqrt(inner);
+        return List.of(
+                new SweepCrossing(-outerB, 2, 1),
+                new SweepCrossing(-innerB, 1, 0),
+                new SweepCrossing(innerB, 0, 1),
+                new SweepCrossing(outerB, 1, 2));
+    }
+
+    /**
+     * Writes one row from its discriminant with the classification of the filter chain.
+     */
+    private static void store(double discriminant, double vertex, double inverseTwoA, int i,
+                              double[] root1, double[] root2, int[] rootCount) {
+        if (QuadraticMath.isZero(discriminant)) {
+            root1[i] = vertex;
+            root2[i] = vertex;
+            rootCount[i] = 1;
+        } else if (QuadraticMath.isPositive(discriminant)) {
+            double halfWidth = Math.sqrt(discriminant) * inverseTwoA;
+            root1[i] = vertex + halfWidth;
+            root2[i] = vertex - halfWidth;
+            rootCount[i] = 2;
+        } else {
+            root1[i] = Double.NaN;
+            root2[i] = Double.NaN;
+            rootCount[i] = 0;
+        }
+    }
+
+    /**
+     * Validates a and the other fixed coefficient with the validator filters' messages.
+     */
+    private void validateFixed(double a, double other, String otherName) {
+        valueValidator.validateNotZero(a, "a");
+        valueValidator.validateNumeric(a, "a");
+        valueValidator.validateNumeric(other, otherName);
+    }
+
+    /**
+     * Validates a range and returns its last value.
+     */
+    private double validateRange(double start, double step, int count, String name) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        valueValidator.validateNumeric(start, name);
+        valueValidator.validateNumeric(step, name + "Step");
+        double end = start + Math.max(count - 1, 0) * step;
+        valueValidator.validateNumeric(end, name);
+        return end;
+    }
+
+    /**
+     * Keeps the crossings between the two ends of a sweep, which may run downwards.
+     */
+    private static List<SweepCrossing> within(List<SweepCrossing> crossings, double start, double end) {
+        double low = Math.min(start, end);
+        double high = Math.max(start, end);
+        List<SweepCrossing> inRange = new ArrayList<>(crossings.size());
+        for (SweepCrossing crossing : crossings) {
+            if (crossing.getValue() >= low && crossing.getValue() <= high) {
+                inRange.add(crossing);
+            }
+        }
+        return inRange;
+    }
+
+    /**
+     * Raises the validator error for a non-numeric swept value, with the row index added.
+     */
+    private void rejectRow(double value, String name, int row) {
+        try {
+            valueValidator.validateNumeric(value, name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + " (row " + row + ")", e);
+        }
+    }
+}
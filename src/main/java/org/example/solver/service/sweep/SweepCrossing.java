@@ -0,0 +1,17 @@
+package org.example.solver.service.sweep;
+
+import lombok.Value;
+
+/**
+ * A coefficient value at which the root count of a sweep changes, where the discriminant
+ * enters or leaves the EPSILON band around zero.
+ */
+@Value
+public class SweepCrossing {
+    // The swept coefficient at the boundary
+    double value;
+    // Root count just below the boundary
+    int countBelow;
+    // Root count just above the boundary
+    int countAbove;
+}
@@ -0,0 +1,156 @@
+package org.example.lib;
+
+import org.example.solver.annotation.FilterOrder;
+import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.enums.ContextFilterType;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.service.handler.filter.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextHandlerTest {
+
+    @Test
+    void testDeadStageIsEliminated() {
+        // Arrange: the full quadratic chain.
+        QuadraticEquationContextHandler handler = new QuadraticEquationContextHandler(quadraticFilters());
+
+        // Act: look at the compiled pipeline.
+        List<Class<?>> stages = stageClasses(handler.getPipeline(ContextFilterType.QUADRATIC_EQUATION));
+
+        // Assert: the square root stage is dropped because nothing reads sqrtDiscriminant.
+        assertEquals(List.of(
+                AValueValidator.class,
+                BValueValidator.class,
+                CValueValidator.class,
+                DegenerateEquationSolver.class,
+                DiscriminantCalculator.class,
+                DiscriminantLessZeroChecker.class,
+                DiscriminantChecker.class,
+                QuadraticRootsCalculator.class
+        ), stages);
+    }
+
+    @Test
+    void testUndeclaredFilterKeepsEarlierStages() {
+        // Arrange: a filter without data flow declaration after the square root stage.
+        List<ContextFilter<QuadraticEquationContext>> filters = new ArrayList<>(quadraticFilters());
+        filters.add(new RecordingFilter());
+        QuadraticEquationContextHandler handler = new QuadraticEquationContextHandler(filters);
+
+        // Act: look at the compiled pipeline.
+        List<Class<?>> stages = stageClasses(handler.getPipeline(ContextFilterType.QUADRATIC_EQUATION));
+
+        // Assert: the square root stage is kept, since the undeclared filter may read it.
+        assertTrue(stages.contains(SqrtDiscriminantCalculator.class));
+        assertEquals(10, stages.size());
+    }
+
+    @Test
+    void testTerminalStageStopsThePipeline() {
+        // Arrange: a recording filter placed after every terminal stage.
+        RecordingFilter recorder = new RecordingFilter();
+        List<ContextFilter<QuadraticEquationContext>> filters = new ArrayList<>(quadraticFilters());
+        filters.add(recorder);
+        QuadraticEquationContextHandler handler = new QuadraticEquationContextHandler(filters);
+
+        // Act: handle x^2 + 1 = 0, x^2 + 2x + 1 = 0 and x^2 - 1 = 0.
+        QuadraticEquationContext negative = QuadraticEquationContext.builder().a(1).b(0).c(1).build();
+        QuadraticEquationContext zero = QuadraticEquationContext.builder().a(1).b(2).c(1).build();
+        QuadraticEquationContext positive = QuadraticEquationContext.builder().a(1).b(0).c(-1).build();
+        handler.handle(negative, ContextFilterType.QUADRATIC_EQUATION);
+        handler.handle(zero, ContextFilterType.QUADRATIC_EQUATION);
+        handler.handle(positive, ContextFilterType.QUADRATIC_EQUATION);
+
+        // Assert: roots are set and the chain stopped before the recording filter every time.
+        assertArrayEquals(new double[0], negative.getRoots());
+        assertArrayEquals(new double[]{-1}, zero.getRoots());
+        assertArrayEquals(new double[]{1, -1}, positive.getRoots());
+        assertEquals(0, recorder.calls);
+    }
+
+    @Test
+    void testEmptyPipelineForUnusedType() {
+        // Arrange & Act: a handler with the quadratic filters only.
+        QuadraticEquationContextHandler handler = new QuadraticEquationContextHandler(quadraticFilters());
+
+        // Assert: every filter type has a pipeline.
+        for (ContextFilterType filterType : ContextFilterType.values()) {
+            assertNotNull(handler.getPipeline(filterType), "pipeline for " + filterType);
+        }
+    }
+
+    @Test
+    void testRegistryMatchesSortedFilters() {
+        // Arrange: one handler from the generated registry, one from hand-listed filters.
+        QuadraticEquationContextHandler generated = new QuadraticEquationContextHandler();
+        QuadraticEquationContextHandler sorted = new QuadraticEquationContextHandler(quadraticFilters());
+
+        // Act: compare the compiled pipelines.
+        List<Class<?>> generatedStages = stageClasses(generated.getPipeline(ContextFilterType.QUADRATIC_EQUATION));
+        List<Class<?>> sortedStages = stageClasses(sorted.getPipeline(ContextFilterType.QUADRATIC_EQUATION));
+
+        // Assert: the registry is already in @FilterOrder order.
+        assertEquals(sortedStages, generatedStages);
+    }
+
+    @Test
+    void testFilterWithoutOrderIsRejected() {
+        // Arrange: a filter that has no @FilterOrder.
+        List<ContextFilter<QuadraticEquationContext>> filters = new ArrayList<>(quadraticFilters());
+        filters.add(new UnorderedFilter());
+
+        // Act & Assert: a clear error instead of a NullPointerException.
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new QuadraticEquationContextHandler(filters));
+        assertTrue(e.getMessage().contains("UnorderedFilter"));
+    }
+
+    private static List<ContextFilter<QuadraticEquationContext>> quadraticFilters() {
+        return List.of(
+                new QuadraticRootsCalculator(),
+                new AValueValidator(),
+                new SqrtDiscriminantCalculator(),
+                new BValueValidator(),
+                new CValueValidator(),
+                new DiscriminantCalculator(),
+                new DegenerateEquationSolver(),
+                new DiscriminantChecker(),
+                new DiscriminantLessZeroChecker()
+        );
+    }
+
+    private static List<Class<?>> stageClasses(FilterPipeline<QuadraticEquationContext> pipeline) {
+        List<Class<?>> classes = new ArrayList<>();
+        pipeline.getFilters().forEach(f -> classes.add(f.getClass()));
+        return classes;
+    }
+
+    @FilterOrder(100)
+    static class RecordingFilter implements ContextFilter<QuadraticEquationContext> {
+
+        int calls;
+
+        @Override
+        public boolean isAuthorized(QuadraticEquationContext entity) {
+            calls++;
+            return false;
+        }
+
+        @Override
+        public void apply(QuadraticEquationContext context) {
+        }
+
+        @Override
+        public ContextFilterType getFilterType() {
+            return ContextFilterType.QUADRATIC_EQUATION;
+        }
+    }
+
+    static class UnorderedFilter extends RecordingFilter {
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.lib;
+
+import org.example.lib.metrics.LatencyHistogram;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.lib.trace.PipelineTracer;
+import org.example.lib.trace.TraceEntry;
+import org.example.lib.trace.TraceRingBuffer;
+import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineTracerTest {
+
+    private final PipelineTracer tracer = PipelineTracer.global();
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+
+    @AfterEach
+    void stopTracing() {
+        tracer.setSampleEvery(0);
+        tracer.setPredicate(null);
+    }
+
+    @Test
+    void testSampledRunRecordsEveryStage() {
+        // Arrange
+        tracer.setSampleEvery(1);
+
+        // Act
+        solver.solve(1, -3, 2);
+
+        // Assert: the last trace has the stages of the chain in order, ending with the roots.
+        List<TraceEntry> trace = lastTrace();
+        assertEquals("AValueValidator", trace.get(0).getFilterName());
+        assertEquals("DegenerateEquationSolver", trace.get(3).getFilterName());
+        assertFalse(trace.get(3).isAuthorized());
+        TraceEntry last = trace.get(trace.size() - 1);
+        assertEquals("QuadraticRootsCalculator", last.getFilterName());
+        assertTrue(last.isApplied());
+        assertTrue(last.getContext().contains("root1=2.0"));
+        for (int i = 0; i < trace.size(); i++) {
+            assertEquals(i, trace.get(i).getStage());
+        }
+    }
+
+    @Test
+    void testPredicateTracesMatchingRunsAndErrors() {
+        // Arrange: only equations with a zero 'a'.
+        tracer.setPredicate(context -> ((QuadraticEquationContext) context).getA() == 0);
+        long before = tracer.getTracedStages();
+
+        // Act
+        solver.solve(1, -3, 2);
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0, 1, 1));
+
+        // Assert: one stage traced, the validator that threw.
+        assertEquals(before + 1, tracer.getTracedStages());
+        TraceEntry entry = lastTrace().get(0);
+        assertTrue(entry.isAuthorized());
+        assertFalse(entry.isApplied());
+        assertEquals("java.lang.IllegalArgumentException: a cannot be zero", entry.getError());
+        assertTrue(tracer.dump().contains("AValueValidator authorized"));
+    }
+
+    @Test
+    void testSampledRunIsAlsoMeasured() {
+        // Arrange: tracing and metrics at the same time.
+        boolean wasEnabled = MetricsRegistry.isEnabled();
+        MetricsRegistry.setEnabled(true);
+        tracer.setSampleEvery(1);
+        LatencyHistogram histogram = MetricsRegistry.global().histogram("context_filter_duration_seconds", "",
+                MetricsRegistry.labels("type", "QUADRATIC_EQUATION", "filter", "AValueValidator"));
+        long before = histogram.count();
+
+        try {
+            // Act
+            solver.solve(1, -3, 2);
+        } finally {
+            MetricsRegistry.setEnabled(wasEnabled);
+        }
+
+        // Assert: the traced run still reaches the latency histogram.
+        assertEquals(before + 1, histogram.count());
+        assertEquals("AValueValidator", lastTrace().get(0).getFilterName());
+    }
+
+    @Test
+    void testUnsampledRunsAreNotTraced() {
+        // Arrange
+        long before = tracer.getTracedStages();
+
+        // Act
+        solver.solve(1, -3, 2);
+
+        // Assert
+        assertEquals(before, tracer.getTracedStages());
+        assertEquals(PipelineTracer.NOT_TRACED, tracer.sample(new Object()));
+    }
+
+    @Test
+    void testRingKeepsTheMostRecentEntriesUnderContention() throws InterruptedException {
+        // Arrange: 4 threads writing 1000 entries each into 64 slots.
+        TraceRingBuffer ring = new TraceRingBuffer(50);
+        int threads = 4;
+        int perThread = 1000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long traceId = t + 1;
+            Thread writer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    ring.publish(new TraceEntry(ring.claim(), traceId, "TEST", i, "Writer", true, true, 0, "", null));
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        // Act
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        List<TraceEntry> entries = ring.snapshot();
+
+        // Assert: the last 64 sequences, each once and in order.
+        assertEquals(64, ring.capacity());
+        assertEquals(threads * perThread, ring.written());
+        assertEquals(64, entries.size());
+        Set<Long> sequences = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(threads * perThread - 64 + i, entries.get(i).getSequence());
+            assertTrue(sequences.add(entries.get(i).getSequence()));
+        }
+    }
+
+    /**
+     * Returns the stages of the most recent trace, in order.
+     */
+    private List<TraceEntry> lastTrace() {
+        List<TraceEntry> entries = tracer.snapshot();
+        long traceId = entries.get(entries.size() - 1).getTraceId();
+        return entries.stream().filter(entry -> entry.getTraceId() == traceId).collect(Collectors.toList());
+    }
+}
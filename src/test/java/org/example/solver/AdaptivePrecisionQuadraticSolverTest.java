@@ -0,0 +1,81 @@
+package org.example.solver;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.enums.PrecisionLevel;
+import org.example.solver.service.precision.AdaptivePrecisionQuadraticSolver;
+import org.example.solver.service.precision.PrecisionStats;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePrecisionQuadraticSolverTest {
+
+    private final AdaptivePrecisionQuadraticSolver solver = new AdaptivePrecisionQuadraticSolver();
+    private final RootResult result = new RootResult();
+
+    @Test
+    void testWellConditionedEquationStaysOnDoublePath() {
+        // Act: x^2 - 3x + 2 = 0.
+        PrecisionLevel level = solver.solveCertified(1, -3, 2, result);
+
+        // Assert: plain double is enough, roots in filter chain order.
+        assertEquals(PrecisionLevel.DOUBLE, level);
+        assertEquals(2, result.getCount());
+        assertEquals(2.0, result.getRoot1());
+        assertEquals(1.0, result.getRoot2());
+    }
+
+    @Test
+    void testSmallRootHasNoCancellation() {
+        // Act: x^2 - 1e8 x + 1 = 0, where (-b - sqrt) / 2a loses every digit of the small root.
+        PrecisionLevel level = solver.solveCertified(1, -1e8, 1, result);
+
+        // Assert: both roots are accurate.
+        assertEquals(PrecisionLevel.DOUBLE, level);
+        assertEquals(1e8, result.getRoot1(), 1e-7);
+        assertEquals(1e-8, result.getRoot2(), 1e-23);
+    }
+
+    @Test
+    void testCloseRootsEscalateToCompensatedDiscriminant() {
+        // Arrange: (x - 1)(x - (1 + 2^-12)), discriminant 2^-24 after cancelling two values near 4.
+        double r2 = 1 + 0x1p-12;
+
+        // Act
+        PrecisionLevel level = solver.solveCertified(1, -(1 + r2), r2, result);
+
+        // Assert: FMA arithmetic certifies the exact roots.
+        assertEquals(PrecisionLevel.DOUBLE_DOUBLE, level);
+        assertEquals(r2, result.getRoot1());
+        assertEquals(1.0, result.getRoot2());
+    }
+
+    @Test
+    void testBoundaryAndOverflowEscalateToBigDecimal() {
+        // Act: b^2 within rounding of EPSILON, and coefficients whose products overflow.
+        PrecisionLevel boundary = solver.solveCertified(1, 1e-4, 0, result);
+        int boundaryCount = result.getCount();
+        PrecisionLevel overflow = solver.solveCertified(1e300, 1e300, -1e300, result);
+
+        // Assert: exact arithmetic decides, x^2 + x - 1 = 0 for the scaled equation.
+        assertEquals(PrecisionLevel.BIG_DECIMAL, boundary);
+        assertEquals(2, boundaryCount);
+        assertEquals(PrecisionLevel.BIG_DECIMAL, overflow);
+        assertEquals(2, result.getCount());
+        assertEquals((Math.sqrt(5) - 1) / 2, result.getRoot1(), 1e-15);
+        assertEquals(-(Math.sqrt(5) + 1) / 2, result.getRoot2(), 1e-15);
+
+        PrecisionStats stats = solver.stats();
+        assertEquals(0, stats.getDoubleDoubleCount());
+        assertEquals(2, stats.getBigDecimalCount());
+        assertEquals(2, stats.escalations());
+    }
+
+    @Test
+    void testInvalidCoefficientsAreRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> solver.solveBatch(new double[]{1, 0}, new double[]{2, 2}, new double[]{1, 1},
+                        new double[2], new double[2], new int[2]));
+        assertEquals("a cannot be zero (row 1)", e.getMessage());
+    }
+}
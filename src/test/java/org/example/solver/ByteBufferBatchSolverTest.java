@@ -0,0 +1,131 @@
+package org.example.solver;
+
+import org.example.solver.io.BinaryRecordFormat;
+import org.example.solver.io.BufferLayout;
+import org.example.solver.io.ByteBufferBatchSolver;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.example.solver.service.batch.QuadraticBatchEngines;
+import org.example.solver.service.batch.ScalarQuadraticBatchEngine;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferBatchSolverTest {
+
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+
+    // (x - 1)(x - 2), (x + 1)^2, x^2 + 1, 2(x - 3)(x + 4)
+    private final double[] a = {1, 1, 1, 2};
+    private final double[] b = {-3, 2, 0, 2};
+    private final double[] c = {2, 1, 1, -24};
+
+    @Test
+    void testStructOfArraysInDirectBigEndianBuffers() {
+        // Arrange: columns after a 16-byte header, in big-endian order.
+        ByteBufferBatchSolver batchSolver = ByteBufferBatchSolver.builder()
+                .layout(BufferLayout.SOA)
+                .byteOrder(ByteOrder.BIG_ENDIAN)
+                .build();
+        int n = a.length;
+        ByteBuffer in = ByteBuffer.allocateDirect(16 + (int) batchSolver.inputBytes(n));
+        in.position(16);
+        for (double[] column : new double[][]{a, b, c}) {
+            for (double value : column) {
+                in.putDouble(value);
+            }
+        }
+        in.position(16);
+        ByteBuffer out = ByteBuffer.allocateDirect((int) batchSolver.outputBytes(n));
+
+        // Act
+        batchSolver.solve(in, out, n);
+
+        // Assert: same results as the array batch path; the caller's buffer state is unchanged.
+        double[] root1 = new double[n];
+        double[] root2 = new double[n];
+        int[] rootCount = new int[n];
+        solver.solveBatch(a, b, c, root1, root2, rootCount);
+        for (int i = 0; i < n; i++) {
+            assertEquals(root1[i], out.getDouble(i * 8), 0);
+            assertEquals(root2[i], out.getDouble(n * 8 + i * 8), 0);
+            assertEquals(rootCount[i], out.getInt(2 * n * 8 + i * 4));
+        }
+        assertEquals(16, in.position());
+        assertEquals(ByteOrder.BIG_ENDIAN, in.order());
+    }
+
+    @Test
+    void testStructOfArraysRunsOnThisJvm() {
+        // Arrange: enough rows for several full vectors and a tail, with all three discriminant classes.
+        int n = 67;
+        ByteBuffer in = ByteBuffer.allocateDirect(n * BinaryRecordFormat.INPUT_RECORD_BYTES)
+                .order(ByteOrder.nativeOrder());
+        for (int column = 0; column < 3; column++) {
+            for (int i = 0; i < n; i++) {
+                double[] row = {1 + i % 3, i % 5 - 2, i % 7 - 3};
+                in.putDouble(row[column]);
+            }
+        }
+        in.flip();
+        ByteBufferBatchSolver bestSolver = ByteBufferBatchSolver.builder()
+                .layout(BufferLayout.SOA)
+                .byteOrder(ByteOrder.nativeOrder())
+                .engine(QuadraticBatchEngines.best())
+                .build();
+        ByteBufferBatchSolver scalarSolver = ByteBufferBatchSolver.builder()
+                .layout(BufferLayout.SOA)
+                .byteOrder(ByteOrder.nativeOrder())
+                .engine(new ScalarQuadraticBatchEngine())
+                .build();
+        ByteBuffer out = ByteBuffer.allocateDirect((int) bestSolver.outputBytes(n));
+        ByteBuffer expected = ByteBuffer.allocateDirect((int) scalarSolver.outputBytes(n));
+
+        // Act: the engine chosen for the JVM running the tests, vectorized or not.
+        bestSolver.solve(in, out, n);
+        scalarSolver.solve(in, expected, n);
+
+        // Assert: bit for bit the results of the scalar engine.
+        assertEquals(expected, out);
+    }
+
+    @Test
+    void testArrayOfStructsUsesBinaryRecordFormat() {
+        // Arrange: little-endian records, as in the binary files.
+        ByteBufferBatchSolver batchSolver = ByteBufferBatchSolver.builder().build();
+        ByteBuffer in = ByteBuffer.allocateDirect((int) batchSolver.inputBytes(a.length))
+                .order(BinaryRecordFormat.BYTE_ORDER);
+        for (int i = 0; i < a.length; i++) {
+            in.putDouble(a[i]).putDouble(b[i]).putDouble(c[i]);
+        }
+        in.flip();
+        ByteBuffer out = ByteBuffer.allocateDirect((int) batchSolver.outputBytes(a.length))
+                .order(BinaryRecordFormat.BYTE_ORDER);
+
+        // Act
+        batchSolver.solve(in, out, a.length);
+
+        // Assert: the last record holds 2(x - 3)(x + 4) = 0.
+        int last = 3 * BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+        assertEquals(BufferLayout.AOS, batchSolver.getLayout());
+        assertEquals(2, out.getInt(last + BinaryRecordFormat.COUNT_OFFSET));
+        assertEquals(3.0, out.getDouble(last + BinaryRecordFormat.ROOT1_OFFSET));
+        assertEquals(-4.0, out.getDouble(last + BinaryRecordFormat.ROOT2_OFFSET));
+    }
+
+    @Test
+    void testInvalidRowAndShortBuffer() {
+        ByteBufferBatchSolver batchSolver = ByteBufferBatchSolver.builder().layout(BufferLayout.SOA).build();
+        ByteBuffer in = ByteBuffer.allocate((int) batchSolver.inputBytes(2)).order(batchSolver.getByteOrder());
+        in.putDouble(0, 1).putDouble(8, 0);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> batchSolver.solve(in, ByteBuffer.allocate((int) batchSolver.outputBytes(2)), 2));
+        assertEquals("a cannot be zero (row 1)", e.getMessage());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> batchSolver.solve(in, ByteBuffer.allocate(8), 2));
+    }
+}
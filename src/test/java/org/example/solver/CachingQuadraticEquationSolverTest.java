@@ -0,0 +1,207 @@
+package org.example.solver;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolverImpl;
+import org.example.solver.service.batch.CoalescingQuadraticEquationSolver;
+import org.example.solver.service.cache.CacheStats;
+import org.example.solver.service.cache.CachingQuadraticEquationSolver;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.service.handler.QuadraticEquationHandler;
+import org.example.solver.service.handler.filter.*;
+import org.example.solver.service.precision.AdaptivePrecisionQuadraticSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingQuadraticEquationSolverTest {
+
+    QuadraticEquationSolver solver = new QuadraticEquationSolverImpl(new QuadraticEquationHandler(new QuadraticEquationContextHandler(List.of(
+            new AValueValidator(),
+            new BValueValidator(),
+            new CValueValidator(),
+            new DiscriminantCalculator(),
+            new DiscriminantChecker(),
+            new DiscriminantLessZeroChecker(),
+            new QuadraticRootsCalculator(),
+            new SqrtDiscriminantCalculator()
+    ))));
+
+    @Test
+    void testScaledEquationsShareAnEntry() {
+        // Arrange: a small cache in front of the solver.
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 64);
+
+        // Act: solve x^2 + 2x + 1 = 0 and its multiples 2x^2 + 4x + 2 = 0 and -3x^2 - 6x - 3 = 0.
+        double[] first = cachingSolver.solve(1, 2, 1);
+        double[] second = cachingSolver.solve(2, 4, 2);
+        double[] third = cachingSolver.solve(-3, -6, -3);
+
+        // Assert: same root each time, only the first call missed.
+        assertArrayEquals(new double[]{-1}, first);
+        assertArrayEquals(first, second);
+        assertArrayEquals(first, third);
+        CacheStats stats = cachingSolver.stats();
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2, stats.getHitCount());
+    }
+
+    @Test
+    void testCachedRootsMatchSolver() {
+        // Arrange: equations with integer roots, each solved twice.
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 1024);
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (int r1 = -5; r1 <= 5; r1++) {
+                for (int r2 = r1; r2 <= 5; r2++) {
+                    // Act: 2(x - r1)(x - r2) = 0 through the cache.
+                    double[] cached = cachingSolver.solve(2, -2.0 * (r1 + r2), 2.0 * r1 * r2);
+
+                    // Assert: same roots as the solver without cache.
+                    assertArrayEquals(solver.solve(1, -(r1 + r2), (double) r1 * r2), cached, 1e-12);
+                }
+            }
+        }
+        assertEquals(66, cachingSolver.stats().getMissCount());
+        assertEquals(66, cachingSolver.stats().getHitCount());
+    }
+
+    @Test
+    void testNegativeLeadingCoefficientKeepsTheDelegateOrder() {
+        // Arrange: the entry of x^2 - 1 = 0 is in the cache.
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 64);
+        cachingSolver.solve(1, 0, -1);
+
+        // Act: -x^2 + 1 = 0 and -2x^2 + 6x - 4 = 0 hit and miss.
+        double[] hit = cachingSolver.solve(-1, 0, 1);
+        double[] miss = cachingSolver.solve(-2, 6, -4);
+
+        // Assert: the roots come in the order of the solver without cache.
+        assertArrayEquals(solver.solve(-1, 0, 1), hit);
+        assertArrayEquals(new double[]{-1, 1}, hit);
+        assertArrayEquals(solver.solve(-2, 6, -4), miss);
+        assertArrayEquals(miss, cachingSolver.solve(-2, 6, -4));
+        assertEquals(2, cachingSolver.stats().getHitCount());
+    }
+
+    @Test
+    void testEpsilonIsAppliedAtTheCallersScale() {
+        // Arrange: pairs with the same monic form but another discriminant class at the given scale.
+        double[][] equations = {
+                {1, 0, -1e-6}, {1e-3, 0, -1e-9},
+                {1, 1e-5, -1e-14}, {1e5, 1, -1e-9},
+                {1e-4, 0, 0}, {1e4, 0, 0}
+        };
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 64);
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (double[] e : equations) {
+                // Act
+                double[] cached = cachingSolver.solve(e[0], e[1], e[2]);
+
+                // Assert: exactly the roots of the solver without cache, on misses and on hits.
+                assertArrayEquals(solver.solve(e[0], e[1], e[2]), cached);
+            }
+        }
+        assertArrayEquals(new double[]{-0.0}, cachingSolver.solve(1e-3, 0, -1e-9));
+        assertEquals(2, cachingSolver.solve(1e5, 1, -1e-9).length);
+    }
+
+    @Test
+    void testBoundedSizeEvicts() {
+        // Arrange: the smallest possible cache.
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 8);
+
+        // Act: many distinct equations.
+        for (int i = 0; i < 100; i++) {
+            cachingSolver.solve(1, 0, -i);
+        }
+
+        // Assert: at most 8 entries are kept, everything else was evicted.
+        CacheStats stats = cachingSolver.stats();
+        assertEquals(100, stats.getMissCount());
+        assertEquals(92, stats.getEvictionCount());
+    }
+
+    @Test
+    void testEntryHitConcurrentlySurvivesAScan() throws InterruptedException {
+        // Arrange: one set of 8 ways, and an entry hit by 4 threads at once.
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 8);
+        cachingSolver.solve(1, 0, -4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cachingSolver.solve(1, 0, -4);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Act: a scan of equations seen once.
+        for (int i = 0; i < 100; i++) {
+            cachingSolver.solve(1, 0, -100 - i);
+        }
+        long hitsBefore = cachingSolver.stats().getHitCount();
+        double[] roots = cachingSolver.solve(1, 0, -4);
+
+        // Assert: every hit was counted and the frequent entry was not evicted by the scan.
+        assertEquals(4000, hitsBefore);
+        assertEquals(hitsBefore + 1, cachingSolver.stats().getHitCount());
+        assertArrayEquals(new double[]{2, -2}, roots);
+    }
+
+    @Test
+    void testInvalidCoefficientsBypassCache() {
+        // Arrange: a cache in front of the solver.
+        CachingQuadraticEquationSolver cachingSolver = new CachingQuadraticEquationSolver(solver, 64);
+
+        // Act & Assert: validation errors come from the delegate and are not counted.
+        assertThrows(IllegalArgumentException.class, () -> cachingSolver.solve(0, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> cachingSolver.solve(1, Double.NaN, 1));
+        assertEquals(0, cachingSolver.stats().getMissCount());
+    }
+
+    @Test
+    void testStatusAndComplexModesReachTheDelegate() {
+        // Arrange: a delegate counting the calls of both modes, behind each decorator.
+        AtomicInteger calls = new AtomicInteger();
+        QuadraticEquationSolver delegate = new AdaptivePrecisionQuadraticSolver() {
+            @Override
+            public int solveWithStatus(double a, double b, double c, RootResult result) {
+                calls.incrementAndGet();
+                return super.solveWithStatus(a, b, c, result);
+            }
+
+            @Override
+            public int solveComplexInto(double a, double b, double c, double[] roots, int offset) {
+                calls.incrementAndGet();
+                return super.solveComplexInto(a, b, c, roots, offset);
+            }
+        };
+        CoalescingQuadraticEquationSolver coalescingSolver = new CoalescingQuadraticEquationSolver(delegate);
+        List<QuadraticEquationSolver> decorators = List.of(new CachingQuadraticEquationSolver(delegate, 64),
+                coalescingSolver);
+
+        for (QuadraticEquationSolver decorator : decorators) {
+            // Act
+            int status = decorator.solveWithStatus(0, 2, -4, new RootResult());
+            double[] complex = decorator.solveComplex(1, -2, 2);
+
+            // Assert: both calls went through the delegate.
+            assertEquals(CoefficientStatus.A_ZERO, status);
+            assertArrayEquals(new double[]{1, 1, 1, -1}, complex);
+        }
+        assertEquals(4, calls.get());
+        coalescingSolver.close();
+    }
+}
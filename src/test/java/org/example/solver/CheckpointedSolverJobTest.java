@@ -0,0 +1,119 @@
+package org.example.solver;
+
+import org.example.solver.io.BinaryRecordFormat;
+import org.example.solver.io.CheckpointedSolverJob;
+import org.example.solver.io.MappedFileSolverJob;
+import org.example.solver.io.SolverJobCheckpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointedSolverJobTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testResumesAfterCrashWithoutDuplicateOrMissingRows() throws IOException {
+        // Arrange: 10 equations in segments of 3, and the output of an uninterrupted run.
+        Path in = writeInput(10);
+        Path expected = directory.resolve("expected.bin");
+        new MappedFileSolverJob().run(in, expected);
+        Path out = directory.resolve("out.bin");
+        CheckpointedSolverJob job = new CheckpointedSolverJob(3);
+
+        // Act: stop after 2 segments, then leave half a segment of garbage as a crash would.
+        CheckpointedSolverJob.Progress first = job.run(in, out, 2);
+        SolverJobCheckpoint checkpoint = SolverJobCheckpoint.read(CheckpointedSolverJob.journalOf(out));
+        Files.write(out, new byte[40], StandardOpenOption.APPEND);
+        CheckpointedSolverJob.Progress second = job.run(in, out);
+
+        // Assert: the first run committed 6 rows, the second finished the last 2 segments.
+        assertFalse(first.isComplete());
+        assertEquals(6, first.getCompletedRecords());
+        assertEquals(2, checkpoint.getCompletedSegments());
+        assertEquals(6 * BinaryRecordFormat.OUTPUT_RECORD_BYTES, checkpoint.getOutputBytes());
+        assertTrue(second.isComplete());
+        assertTrue(second.isResumed());
+        assertEquals(2, second.getSolvedSegments());
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(out));
+        assertFalse(Files.exists(CheckpointedSolverJob.journalOf(out)));
+    }
+
+    @Test
+    void testInvalidRowsAreWrittenWithTheirStatus() throws IOException {
+        // Arrange: a zero 'a' in the middle of regular rows.
+        ByteBuffer input = ByteBuffer.allocate(3 * BinaryRecordFormat.INPUT_RECORD_BYTES).order(BinaryRecordFormat.BYTE_ORDER);
+        input.putDouble(1).putDouble(0).putDouble(-1);
+        input.putDouble(0).putDouble(2).putDouble(-4);
+        input.putDouble(1).putDouble(0).putDouble(-4);
+        Path in = Files.write(directory.resolve("in.bin"), input.array());
+        Path out = directory.resolve("out.bin");
+
+        // Act
+        new CheckpointedSolverJob(2).run(in, out);
+
+        // Assert: the linear row has a status and its root, the others are regular.
+        ByteBuffer output = ByteBuffer.wrap(Files.readAllBytes(out)).order(BinaryRecordFormat.BYTE_ORDER);
+        int row = BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+        assertEquals(0, output.getInt(BinaryRecordFormat.STATUS_OFFSET));
+        assertNotEquals(0, output.getInt(row + BinaryRecordFormat.STATUS_OFFSET));
+        assertEquals(2.0, output.getDouble(row + BinaryRecordFormat.ROOT1_OFFSET), 0);
+        assertEquals(2, output.getInt(2 * row + BinaryRecordFormat.COUNT_OFFSET));
+    }
+
+    @Test
+    void testMismatchedOrCorruptCheckpointIsRefused() throws IOException {
+        // Arrange: a job stopped after one segment of 4.
+        Path in = writeInput(10);
+        Path out = directory.resolve("out.bin");
+        new CheckpointedSolverJob(4).run(in, out, 1);
+
+        // Act & Assert: another segment size cannot resume it.
+        assertThrows(IllegalStateException.class, () -> new CheckpointedSolverJob(3).run(in, out));
+
+        // Act & Assert: neither can a damaged committed segment.
+        byte[] damaged = Files.readAllBytes(out);
+        damaged[BinaryRecordFormat.ROOT1_OFFSET] ^= 1;
+        Files.write(out, damaged);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new CheckpointedSolverJob(4).run(in, out));
+        assertTrue(e.getMessage().startsWith("Segment 0 of the output fails its checksum"));
+    }
+
+    @Test
+    void testCheckpointRoundTrip() throws IOException {
+        // Arrange
+        Path journal = directory.resolve("job.journal");
+        SolverJobCheckpoint checkpoint = new SolverJobCheckpoint(240, 3, 2, 144, 0x1234abcd);
+
+        // Act
+        checkpoint.write(journal);
+
+        // Assert: read back as written, no temporary file left, and a torn journal is refused.
+        assertEquals(checkpoint, SolverJobCheckpoint.read(journal));
+        assertEquals(SolverJobCheckpoint.JOURNAL_BYTES, Files.size(journal));
+        assertFalse(Files.exists(directory.resolve("job.journal.tmp")));
+        assertNull(SolverJobCheckpoint.read(directory.resolve("missing.journal")));
+        Files.write(journal, new byte[SolverJobCheckpoint.JOURNAL_BYTES]);
+        assertThrows(IllegalStateException.class, () -> SolverJobCheckpoint.read(journal));
+    }
+
+    /**
+     * Writes {@code records} equations (x - i)(x + i) = 0.
+     */
+    private Path writeInput(int records) throws IOException {
+        ByteBuffer input = ByteBuffer.allocate(records * BinaryRecordFormat.INPUT_RECORD_BYTES)
+                .order(BinaryRecordFormat.BYTE_ORDER);
+        for (int i = 0; i < records; i++) {
+            input.putDouble(1).putDouble(0).putDouble(-(double) i * i);
+        }
+        return Files.write(directory.resolve("in.bin"), input.array());
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.solver;
+
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.example.solver.service.batch.CoalescerStats;
+import org.example.solver.service.batch.CoalescingQuadraticEquationSolver;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingQuadraticEquationSolverTest {
+
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+
+    @Test
+    void testSolveAsyncMatchesSolve() throws Exception {
+        // Arrange: a long wait window so that the requests end up in shared batches.
+        try (CoalescingQuadraticEquationSolver coalescer =
+                     new CoalescingQuadraticEquationSolver(solver, 16, Duration.ofMillis(5))) {
+            List<CompletableFuture<double[]>> futures = new ArrayList<>();
+
+            // Act: queue 100 equations (x - i)(x + 1).
+            for (int i = 0; i < 100; i++) {
+                futures.add(coalescer.solveAsync(1, 1 - i, -i));
+            }
+
+            // Assert: same roots as the synchronous solver, in fewer batches than requests.
+            for (int i = 0; i < 100; i++) {
+                assertArrayEquals(solver.solve(1, 1 - i, -i), futures.get(i).get(5, TimeUnit.SECONDS), 1e-12);
+            }
+            CoalescerStats stats = coalescer.stats();
+            assertEquals(100, stats.getSubmitted());
+            assertEquals(100, stats.getDispatched());
+            assertEquals(0, stats.getQueueDepth());
+            assertTrue(stats.getBatches() < 100);
+            assertTrue(stats.batchFill() > 0 && stats.batchFill() <= 1);
+        }
+    }
+
+    @Test
+    void testInvalidAndLateRequestsFail() throws Exception {
+        CoalescingQuadraticEquationSolver coalescer = new CoalescingQuadraticEquationSolver(solver);
+
+        // Act: an invalid equation, then a valid one after close.
+        CompletableFuture<double[]> invalid = coalescer.solveAsync(0, 1, 1);
+        coalescer.close();
+        CompletableFuture<double[]> late = coalescer.solveAsync(1, 2, 1);
+
+        // Assert: both fail without reaching a batch.
+        ExecutionException invalidError = assertThrows(ExecutionException.class, invalid::get);
+        assertInstanceOf(IllegalArgumentException.class, invalidError.getCause());
+        assertEquals("a cannot be zero", invalidError.getCause().getMessage());
+        ExecutionException lateError = assertThrows(ExecutionException.class, late::get);
+        assertInstanceOf(RejectedExecutionException.class, lateError.getCause());
+    }
+}
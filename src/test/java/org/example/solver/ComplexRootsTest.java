@@ -0,0 +1,95 @@
+package org.example.solver;
+
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolverImpl;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.service.handler.QuadraticEquationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComplexRootsTest {
+
+    QuadraticEquationSolver solver = new QuadraticEquationSolverImpl(new QuadraticEquationHandler(new QuadraticEquationContextHandler()));
+
+    @Test
+    void testNegativeDiscriminantGivesConjugatePair() {
+        // Arrange: x^2 + 2x + 5 = 0 has the roots -1 ± 2i.
+        double a = 1;
+        double b = 2;
+        double c = 5;
+
+        // Act: solve in complex-roots mode.
+        double[] roots = solver.solveComplex(a, b, c);
+
+        // Assert: packed as re1, im1, re2, im2.
+        assertArrayEquals(new double[]{-1, 2, -1, -2}, roots, 1e-12);
+    }
+
+    @Test
+    void testRealRootsArePackedWithZeroImaginaryParts() {
+        // Arrange: x^2 - 3x + 2 = 0 and x^2 + 2x + 1 = 0.
+
+        // Act: solve both in complex-roots mode.
+        double[] two = solver.solveComplex(1, -3, 2);
+        double[] one = solver.solveComplex(1, 2, 1);
+
+        // Assert: the real roots of solve(), one pair of doubles per root.
+        assertArrayEquals(new double[]{2, 0, 1, 0}, two);
+        assertArrayEquals(new double[]{-1, 0}, one);
+    }
+
+    @Test
+    void testFilterChainMatchesBatch() {
+        // Arrange: a random mix of discriminant signs, including a negative leading coefficient.
+        int size = 500;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        Random random = new Random(11);
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextBoolean() ? 1 + random.nextInt(5) : -1 - random.nextInt(5);
+            b[i] = random.nextInt(21) - 10;
+            c[i] = random.nextInt(21) - 10;
+        }
+        double[] re1 = new double[size];
+        double[] re2 = new double[size];
+        double[] im = new double[size];
+        int[] rootCount = new int[size];
+
+        // Act: solve the batch into parallel arrays.
+        solver.solveComplexBatch(a, b, c, 0, size, re1, re2, im, rootCount);
+
+        // Assert: every row equals the filter chain's packed result, and the roots solve the equation.
+        double[] packed = new double[QuadraticMath.COMPLEX_STRIDE];
+        for (int i = 0; i < size; i++) {
+            int count = solver.solveComplexInto(a[i], b[i], c[i], packed, 0);
+            assertEquals(count, rootCount[i], "row " + i);
+            assertArrayEquals(new double[]{re1[i], im[i], re2[i], -im[i] + 0.0}, packed, 0, "row " + i);
+
+            // a z^2 + b z + c = 0 for z = re1 + i im
+            double re = re1[i];
+            double imaginary = im[i];
+            double real = a[i] * (re * re - imaginary * imaginary) + b[i] * re + c[i];
+            double imag = imaginary * (2 * a[i] * re + b[i]);
+            assertEquals(0, real, 1e-9, "row " + i);
+            assertEquals(0, imag, 1e-9, "row " + i);
+        }
+    }
+
+    @Test
+    void testInvalidRowIsReported() {
+        // Arrange: the second row has a = 0.
+        double[] a = {1, 0};
+        double[] b = {0, 1};
+        double[] c = {1, 1};
+
+        // Act & Assert: the validator message with the row index.
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> solver.solveComplexBatch(
+                a, b, c, 0, 2, new double[2], new double[2], new double[2], new int[2]));
+        assertEquals("a cannot be zero (row 1)", e.getMessage());
+    }
+}
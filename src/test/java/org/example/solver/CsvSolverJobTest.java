@@ -0,0 +1,81 @@
+package org.example.solver;
+
+import org.example.solver.io.AsciiDoubleParser;
+import org.example.solver.io.CsvSolverJob;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvSolverJobTest {
+
+    @Test
+    void testParserMatchesParseDouble() {
+        // Arrange: hand-picked edge cases plus random values in their shortest form.
+        List<String> values = new ArrayList<>(List.of("0", "-0", "+1", "1.", ".5", "-12.5", "3e-4", "1E22",
+                "0.000001", "123456789012345", "1234567890123456789", "1e23", "4.9e-324", "1.7976931348623157e308",
+                " 42 ", "NaN", "-Infinity"));
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            values.add(Double.toString((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20)));
+            values.add(Integer.toString(random.nextInt()));
+        }
+        AsciiDoubleParser parser = new AsciiDoubleParser();
+
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+            // Act: parse the bytes.
+            double parsed = parser.parse(bytes, 0, bytes.length);
+
+            // Assert: bit-identical to the JDK parser.
+            assertTrue(parser.isValid(), value);
+            assertEquals(Double.doubleToRawLongBits(Double.parseDouble(value.trim())),
+                    Double.doubleToRawLongBits(parsed), value);
+        }
+    }
+
+    @Test
+    void testParserRejectsMalformedFields() {
+        AsciiDoubleParser parser = new AsciiDoubleParser();
+        for (String value : List.of("", " ", "-", "1e", "1.2.3", "abc", "1,5")) {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+            assertTrue(Double.isNaN(parser.parse(bytes, 0, bytes.length)), value);
+            assertFalse(parser.isValid(), value);
+        }
+    }
+
+    @Test
+    void testJobSolvesRowsAndReportsErrors() throws IOException {
+        // Arrange: a header, two roots, one root, no roots, a blank line and two bad rows.
+        String csv = "a,b,c\r\n1,-3,2\r\n1,2,1\n1,0,1\n\n0,1,1\n1,x,1\n1,0,-4";
+        List<Long> errorLines = new ArrayList<>();
+        CsvSolverJob job = new CsvSolverJob(true, (line, message) -> errorLines.add(line));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act: run the job.
+        CsvSolverJob.Summary summary = job.run(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.US_ASCII)), out);
+
+        // Assert: one output line per row, errors reported with their line numbers.
+        assertEquals(String.join("\n",
+                        CsvSolverJob.OUTPUT_HEADER,
+                        "2,2.0,1.0",
+                        "1,-1.0,-1.0",
+                        "0,,",
+                        "error,,",
+                        "error,,",
+                        "2,2.0,-2.0") + "\n",
+                out.toString(StandardCharsets.US_ASCII));
+        assertEquals(new CsvSolverJob.Summary(6, 4, 2), summary);
+        assertEquals(List.of(6L, 7L), errorLines);
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.solver;
+
+import org.example.lib.ContextFilter;
+import org.example.solver.annotation.processing.FilterRegistryProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterRegistryProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void testRegistryIsGeneratedInOrder() throws IOException {
+        // Arrange: two filters declared out of order.
+        List<JavaFileObject> sources = List.of(
+                filter("Second", 20),
+                filter("First", 10)
+        );
+
+        // Act: compile them with the processor.
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(sources);
+
+        // Assert: the registry creates the filters in ascending order.
+        assertEquals(List.of(), errors(diagnostics));
+        String registry = Files.readString(output.resolve("org/example/solver/registry/QuadraticEquationFilterRegistry.java"));
+        assertTrue(registry.indexOf("new test.First()") < registry.indexOf("new test.Second()"), registry);
+        assertTrue(Files.exists(output.resolve("org/example/solver/registry/QuadraticEquationFilterRegistry.class")));
+    }
+
+    @Test
+    void testDuplicateOrderFailsCompilation() {
+        // Arrange: two filters with the same order.
+        List<JavaFileObject> sources = List.of(
+                filter("First", 10),
+                filter("Other", 10)
+        );
+
+        // Act: compile them with the processor.
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(sources);
+
+        // Assert: the duplicate is reported and no registry is written.
+        List<String> errors = errors(diagnostics);
+        assertEquals(1, errors.size(), errors.toString());
+        assertTrue(errors.get(0).contains("Duplicate @FilterOrder(10) for QUADRATIC_EQUATION"), errors.get(0));
+        assertFalse(Files.exists(output.resolve("org/example/solver/registry")));
+    }
+
+    @Test
+    void testFilterWithoutPublicConstructorFailsCompilation() {
+        // Arrange: a filter that the generated registry could not instantiate.
+        List<JavaFileObject> sources = List.of(filter("Hidden", 10, "    private Hidden() { }\n"));
+
+        // Act: compile it with the processor.
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(sources);
+
+        // Assert: the missing constructor is reported.
+        List<String> errors = errors(diagnostics);
+        assertEquals(1, errors.size(), errors.toString());
+        assertTrue(errors.get(0).contains("public no-argument constructor"), errors.get(0));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(List<JavaFileObject> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classPath = Paths.get(location(ContextFilter.class)).toString();
+        List<String> options = List.of("-classpath", classPath, "-d", output.toString(), "-s", output.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, sources);
+        task.setProcessors(List.of(new FilterRegistryProcessor()));
+        task.call();
+        return diagnostics;
+    }
+
+    private static URI location(Class<?> type) {
+        try {
+            return type.getProtectionDomain().getCodeSource().getLocation().toURI();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    private static JavaFileObject filter(String name, int order) {
+        return filter(name, order, "");
+    }
+
+    private static JavaFileObject filter(String name, int order, String members) {
+        String code = "package test;\n"
+                + "import org.example.lib.ContextFilter;\n"
+                + "import org.example.solver.annotation.FilterOrder;\n"
+                + "import org.example.solver.entity.QuadraticEquationContext;\n"
+                + "import org.example.solver.enums.ContextFilterType;\n"
+                + "@FilterOrder(" + order + ")\n"
+                + "public class " + name + " implements ContextFilter<QuadraticEquationContext> {\n"
+                + members
+                + "    public boolean isAuthorized(QuadraticEquationContext context) { return true; }\n"
+                + "    public void apply(QuadraticEquationContext context) { }\n"
+                + "    public ContextFilterType getFilterType() { return ContextFilterType.QUADRATIC_EQUATION; }\n"
+                + "}\n";
+        return new SimpleJavaFileObject(URI.create("string:///test/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
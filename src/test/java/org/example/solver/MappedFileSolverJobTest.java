@@ -0,0 +1,89 @@
+package org.example.solver;
+
+import org.example.solver.io.BinaryRecordFormat;
+import org.example.solver.io.MappedFileSolverJob;
+import org.example.solver.math.CoefficientStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileSolverJobTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSolvesFileAcrossSeveralWindows() throws IOException {
+        // Arrange: 10 equations (x - i)(x + i) = 0 in a file, mapped 3 records at a time.
+        int records = 10;
+        ByteBuffer input = ByteBuffer.allocate(records * BinaryRecordFormat.INPUT_RECORD_BYTES)
+                .order(BinaryRecordFormat.BYTE_ORDER);
+        for (int i = 0; i < records; i++) {
+            input.putDouble(1).putDouble(0).putDouble(-(double) i * i);
+        }
+        Path in = Files.write(directory.resolve("in.bin"), input.array());
+        Path out = directory.resolve("out.bin");
+
+        // Act: run the job.
+        long solved = new MappedFileSolverJob(3).run(in, out);
+
+        // Assert: one output record per input record, with the expected roots.
+        assertEquals(records, solved);
+        ByteBuffer output = ByteBuffer.wrap(Files.readAllBytes(out)).order(BinaryRecordFormat.BYTE_ORDER);
+        assertEquals(records * BinaryRecordFormat.OUTPUT_RECORD_BYTES, output.capacity());
+        for (int i = 0; i < records; i++) {
+            int position = i * BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+            assertEquals(i == 0 ? 1 : 2, output.getInt(position + BinaryRecordFormat.COUNT_OFFSET));
+            assertEquals(0, output.getInt(position + BinaryRecordFormat.STATUS_OFFSET));
+            assertEquals(i, output.getDouble(position + BinaryRecordFormat.ROOT1_OFFSET), 0);
+            assertEquals(-i, output.getDouble(position + BinaryRecordFormat.ROOT2_OFFSET), 0);
+        }
+    }
+
+    @Test
+    void testInvalidRowsAreWrittenWithTheirStatus() throws IOException {
+        // Arrange: a linear row and a NaN row between two regular rows, in windows of 2 records.
+        ByteBuffer input = ByteBuffer.allocate(4 * BinaryRecordFormat.INPUT_RECORD_BYTES)
+                .order(BinaryRecordFormat.BYTE_ORDER);
+        input.putDouble(1).putDouble(0).putDouble(-1);
+        input.putDouble(0).putDouble(2).putDouble(-4);
+        input.putDouble(1).putDouble(Double.NaN).putDouble(1);
+        input.putDouble(1).putDouble(0).putDouble(-4);
+        Path in = Files.write(directory.resolve("in.bin"), input.array());
+        Path out = directory.resolve("out.bin");
+
+        // Act: the job goes on past the invalid rows.
+        long solved = new MappedFileSolverJob(2).run(in, out);
+
+        // Assert: every row is written, the invalid ones with their status.
+        assertEquals(4, solved);
+        ByteBuffer output = ByteBuffer.wrap(Files.readAllBytes(out)).order(BinaryRecordFormat.BYTE_ORDER);
+        int[] expectedStatus = {0, CoefficientStatus.A_ZERO, CoefficientStatus.B_NAN, 0};
+        for (int i = 0; i < expectedStatus.length; i++) {
+            assertEquals(expectedStatus[i],
+                    output.getInt(i * BinaryRecordFormat.OUTPUT_RECORD_BYTES + BinaryRecordFormat.STATUS_OFFSET));
+        }
+        int linear = BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+        assertEquals(1, output.getInt(linear + BinaryRecordFormat.COUNT_OFFSET));
+        assertEquals(2, output.getDouble(linear + BinaryRecordFormat.ROOT1_OFFSET), 0);
+        assertEquals(0, output.getInt(2 * BinaryRecordFormat.OUTPUT_RECORD_BYTES + BinaryRecordFormat.COUNT_OFFSET));
+        assertEquals(2, output.getDouble(3 * BinaryRecordFormat.OUTPUT_RECORD_BYTES + BinaryRecordFormat.ROOT1_OFFSET), 0);
+    }
+
+    @Test
+    void testRejectsTruncatedInput() throws IOException {
+        // Arrange: a file that ends in the middle of a record, and the output of an earlier run.
+        Path in = Files.write(directory.resolve("in.bin"), new byte[BinaryRecordFormat.INPUT_RECORD_BYTES + 5]);
+        Path out = Files.write(directory.resolve("out.bin"), new byte[]{1, 2, 3});
+
+        // Act & Assert: the job refuses to start and leaves the output alone.
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileSolverJob().run(in, out));
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(out));
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.solver;
+
+import org.example.lib.metrics.LatencyHistogram;
+import org.example.lib.metrics.MetricsRegistry;
+import org.example.solver.entity.RootResult;
+import org.example.solver.http.SolverHttpServer;
+import org.example.solver.metrics.SolverMetrics;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+    private final SolverMetrics metrics = SolverMetrics.global();
+    private boolean wasEnabled;
+
+    @BeforeEach
+    void enableMetrics() {
+        wasEnabled = MetricsRegistry.isEnabled();
+        MetricsRegistry.setEnabled(true);
+    }
+
+    @AfterEach
+    void restoreMetrics() {
+        MetricsRegistry.setEnabled(wasEnabled);
+    }
+
+    @Test
+    void testSolveCallsAndDiscriminantsAreCounted() {
+        // Arrange: other tests may run first, so only the deltas are compared.
+        long solveCalls = metrics.getSolveCalls();
+        Map<String, Long> discriminants = metrics.getDiscriminantCounts();
+        long batchRows = metrics.getBatchRows();
+
+        // Act: one positive, one zero and one negative discriminant, then a batch of two positives.
+        solver.solve(1, -3, 2);
+        solver.solveInto(1, 2, 1, new RootResult());
+        solver.solve(1, 0, 1);
+        solver.solveBatch(new double[]{1, 1}, new double[]{-3, -5}, new double[]{2, 6},
+                new double[2], new double[2], new int[2]);
+
+        // Assert
+        Map<String, Long> after = metrics.getDiscriminantCounts();
+        assertEquals(solveCalls + 3, metrics.getSolveCalls());
+        assertEquals(batchRows + 2, metrics.getBatchRows());
+        assertEquals(discriminants.get("POSITIVE") + 3, after.get("POSITIVE"));
+        assertEquals(discriminants.get("ZERO") + 1, after.get("ZERO"));
+        assertEquals(discriminants.get("NEGATIVE") + 1, after.get("NEGATIVE"));
+    }
+
+    @Test
+    void testClassesComeFromTheRootsTheSolverProduced() {
+        // Arrange
+        Map<String, Long> before = metrics.getDiscriminantCounts();
+        Map<String, Long> failuresBefore = metrics.getValidationFailures();
+
+        // Act: a status batch with a linear row, then a complex batch with a conjugate pair.
+        solver.solveBatch(new double[]{0, 1}, new double[]{2, 2}, new double[]{-4, 1}, 0, 2,
+                new double[2], new double[2], new int[2], new int[2]);
+        solver.solveComplexBatch(new double[]{1, 1}, new double[]{0, -3}, new double[]{1, 2}, 0, 2,
+                new double[2], new double[2], new double[2], new int[2]);
+
+        // Assert: the linear row is only a validation failure, the pair has no real root.
+        Map<String, Long> after = metrics.getDiscriminantCounts();
+        assertEquals(before.get("ZERO") + 1, after.get("ZERO"));
+        assertEquals(before.get("NEGATIVE") + 1, after.get("NEGATIVE"));
+        assertEquals(before.get("POSITIVE") + 1, after.get("POSITIVE"));
+        assertEquals(failuresBefore.get("a.zero") + 1, metrics.getValidationFailures().get("a.zero"));
+        assertFalse(after.containsKey("UNDEFINED"));
+    }
+
+    @Test
+    void testValidationFailuresAreCountedPerCoefficient() {
+        // Arrange
+        Map<String, Long> before = metrics.getValidationFailures();
+
+        // Act: a thrown a == 0, a thrown NaN b in a batch, and a NaN c reported in status mode.
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> solver.solveBatch(new double[]{1},
+                new double[]{Double.NaN}, new double[]{1}, new double[1], new double[1], new int[1]));
+        solver.solveWithStatus(1, 1, Double.NaN, new RootResult());
+
+        // Assert: c may be zero, so it has no zero counter.
+        Map<String, Long> after = metrics.getValidationFailures();
+        assertEquals(before.get("a.zero") + 1, after.get("a.zero"));
+        assertEquals(before.get("b.nan") + 1, after.get("b.nan"));
+        assertEquals(before.get("c.nan") + 1, after.get("c.nan"));
+        assertFalse(after.containsKey("c.zero"));
+    }
+
+    @Test
+    void testFilterLatenciesAndMBean() throws Exception {
+        // Arrange
+        ObjectName name = SolverMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        long calls = metrics.getFilterCalls().getOrDefault("QUADRATIC_EQUATION.AValueValidator", 0L);
+
+        // Act
+        solver.solve(1, -3, 2);
+
+        // Assert: every stage is timed, and the attributes are readable over JMX.
+        assertEquals(calls + 1, metrics.getFilterCalls().get("QUADRATIC_EQUATION.AValueValidator"));
+        assertTrue(metrics.getFilterMeanLatencyNanos().get("QUADRATIC_EQUATION.QuadraticRootsCalculator") > 0);
+        assertEquals(metrics.getSolveCalls(), (Long) server.getAttribute(name, "SolveCalls"));
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+    }
+
+    @Test
+    void testHistogramBucketsAndExposition() {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        LatencyHistogram histogram = registry.histogram("test_duration_seconds", "Test", "");
+        registry.counter("test_total", "Test", MetricsRegistry.labels("kind", "a\"b")).add(5);
+
+        // Act: 1 ns and 3 ns fall into the first two buckets.
+        histogram.record(1);
+        histogram.record(3);
+        String text = registry.scrape();
+
+        // Assert
+        assertEquals(0, LatencyHistogram.bucketOf(1));
+        assertEquals(1, LatencyHistogram.bucketOf(3));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertTrue(text.contains("# TYPE test_duration_seconds histogram\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{le=\"2.0E-9\"} 1\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{le=\"4.0E-9\"} 2\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("test_duration_seconds_count 2\n"));
+        assertTrue(text.contains("test_total{kind=\"a\\\"b\"} 5\n"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("test_duration_seconds", "Test", ""));
+    }
+
+    @Test
+    void testMetricsEndpoint() throws Exception {
+        // Arrange: a server with diagnostics enabled.
+        try (SolverHttpServer server = new SolverHttpServer(solver,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), true)) {
+            server.start();
+            solver.solve(1, -3, 2);
+
+            // Act
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            // Assert
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain; version=0.0.4"));
+            assertTrue(response.body().contains("quadratic_solver_calls_total{entry=\"single\"}"));
+            assertTrue(response.body().contains("context_filter_duration_seconds_count{type=\"QUADRATIC_EQUATION\",filter=\"AValueValidator\"}"));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.solver;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.example.solver.service.query.QuadraticQuerySolver;
+import org.example.solver.service.ray.RaySphereIntersector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearestRootTest {
+
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+    private final QuadraticQuerySolver queries = new QuadraticQuerySolver();
+
+    @Test
+    void testNearestRootMatchesSolve() {
+        // Arrange: random equations of both signs of a, and a random lower bound.
+        Random random = new Random(21);
+        RootResult result = new RootResult();
+
+        for (int i = 0; i < 10_000; i++) {
+            double a = random.nextInt(2) == 0 ? -1 - random.nextInt(4) : 1 + random.nextInt(4);
+            double b = random.nextInt(41) - 20;
+            double c = random.nextInt(41) - 20;
+            double tMin = random.nextInt(21) - 10;
+
+            // Act
+            double nearest = queries.solveNearest(a, b, c, tMin);
+
+            // Assert: the smallest root above tMin among those solveInto returns, bit for bit.
+            solver.solveInto(a, b, c, result);
+            double expected = Double.NaN;
+            for (double root : result.toArray()) {
+                if (root > tMin && !(root >= expected)) {
+                    expected = root;
+                }
+            }
+            assertEquals(expected, nearest, 0, "a=" + a + ", b=" + b + ", c=" + c + ", tMin=" + tMin);
+        }
+    }
+
+    @Test
+    void testRaysAgainstSphere() {
+        // Arrange: a unit sphere at z = 5, rays along z from the origin, from inside and missing it.
+        RaySphereIntersector sphere = new RaySphereIntersector(0, 0, 5, 1);
+        double[] originX = {0, 0, 3, 0};
+        double[] originY = {0, 0, 0, 0};
+        double[] originZ = {0, 5, 0, 0};
+        double[] directionX = {0, 0, 0, 0};
+        double[] directionY = {0, 0, 0, 0};
+        double[] directionZ = {2, 1, 1, 0};
+        double[] t = new double[4];
+
+        // Act
+        int hits = sphere.intersect(originX, originY, originZ, directionX, directionY, directionZ, 1e-9, 0, 4, t);
+
+        // Assert: the front face at t = 2 for the doubled direction, the far face from inside,
+        // no hit for the miss and for the zero direction.
+        assertEquals(2, hits);
+        assertEquals(2, t[0], 1e-12);
+        assertEquals(1, t[1], 1e-12);
+        assertTrue(Double.isNaN(t[2]));
+        assertTrue(Double.isNaN(t[3]));
+    }
+
+    @Test
+    void testBatchQueryValidatesRows() {
+        // Arrange: x^2 - 1, x^2 - 4, and a zero a in the last row.
+        double[] a = {1, 1, 0};
+        double[] b = {0, 0, 1};
+        double[] c = {-1, -4, 1};
+        double[] nearest = new double[3];
+
+        // Act & Assert: positive roots of the valid rows, then the validator message of the bad row.
+        assertEquals(2, queries.solveNearestBatch(a, b, c, 0, 0, 2, nearest));
+        assertArrayEquals(new double[]{1, 2, 0}, nearest, 0);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> queries.solveNearestBatch(a, b, c, 0, 0, 3, nearest));
+        assertEquals("a cannot be zero (row 2)", e.getMessage());
+    }
+
+    @Test
+    void testNegativeRootIsNearestAboveALowerBound() {
+        // Act & Assert: x^2 - 1 = 0 with tMin = -5 hits the smaller root first.
+        assertEquals(-1, QuadraticMath.nearestRoot(1, 0, -1, -5), 0);
+    }
+}
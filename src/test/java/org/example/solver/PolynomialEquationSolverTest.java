@@ -0,0 +1,164 @@
+package org.example.solver;
+
+import org.example.solver.service.handler.PolynomialEquationContextHandler;
+import org.example.solver.service.polynomial.PolynomialBatchEngine;
+import org.example.solver.service.polynomial.PolynomialEquationSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialEquationSolverTest {
+
+    PolynomialEquationSolver solver = new PolynomialEquationSolver();
+
+    @Test
+    void testCubicWithThreeRealRoots() {
+        // Arrange: (x - 1)(x - 2)(x - 3) = x^3 - 6x^2 + 11x - 6.
+
+        // Act: solve through the cubic chain.
+        double[] roots = solver.solve(1, -6, 11, -6);
+
+        // Assert: packed as re, im pairs, sorted by real part.
+        assertArrayEquals(new double[]{1, 0, 2, 0, 3, 0}, roots, 1e-12);
+    }
+
+    @Test
+    void testCubicWithComplexPair() {
+        // Arrange: x^3 - 1 = 0 has the roots 1 and -1/2 ± i sqrt(3)/2.
+        double h = Math.sqrt(3) / 2;
+
+        // Act: solve through the cubic chain.
+        double[] roots = solver.solve(1, 0, 0, -1);
+
+        // Assert: sorted by real part, then by imaginary part.
+        assertArrayEquals(new double[]{-0.5, -h, -0.5, h, 1, 0}, roots, 1e-12);
+    }
+
+    @Test
+    void testQuarticRoots() {
+        // Arrange: (x^2 + 1)(x - 2)(x + 3) = x^4 + x^3 - 5x^2 + x - 6, and the biquadratic (x^2 - 1)(x^2 - 4).
+
+        // Act: solve both through the quartic chain.
+        double[] mixed = solver.solve(1, 1, -5, 1, -6);
+        double[] biquadratic = solver.solve(1, 0, -5, 0, 4);
+
+        // Assert: all four roots of each.
+        assertArrayEquals(new double[]{-3, 0, 0, -1, 0, 1, 2, 0}, mixed, 1e-12);
+        assertArrayEquals(new double[]{-2, 0, -1, 0, 1, 0, 2, 0}, biquadratic, 1e-12);
+    }
+
+    @Test
+    void testBatchOfDegreeSixMatchesKnownRoots() {
+        // Arrange: polynomials built from two real roots and two conjugate pairs each.
+        int degree = 6;
+        int rows = 600;
+        Random random = new Random(5);
+        double[][] expectedRe = new double[rows][degree];
+        double[][] expectedIm = new double[rows][degree];
+        double[] coefficients = new double[rows * (degree + 1)];
+        for (int i = 0; i < rows; i++) {
+            double[] poly = {1 + random.nextInt(3)};
+            for (int k = 0; k < degree; k += 2) {
+                double re = random.nextInt(200) / 10.0 - 10;
+                double im = k == 0 ? 0 : 0.5 + random.nextInt(50) / 10.0;
+                if (k == 0) {
+                    // Two distinct real roots
+                    double other = re + 0.5 + random.nextInt(50) / 10.0;
+                    poly = multiply(poly, new double[]{1, -(re + other), re * other});
+                    expectedRe[i][k] = re;
+                    expectedRe[i][k + 1] = other;
+                } else {
+                    // (x - re)^2 + im^2
+                    poly = multiply(poly, new double[]{1, -2 * re, re * re + im * im});
+                    expectedRe[i][k] = re;
+                    expectedIm[i][k] = im;
+                    expectedRe[i][k + 1] = re;
+                    expectedIm[i][k + 1] = -im;
+                }
+            }
+            System.arraycopy(poly, 0, coefficients, i * (degree + 1), degree + 1);
+        }
+        double[] re = new double[rows * degree];
+        double[] im = new double[rows * degree];
+        PolynomialEquationSolver parallel = new PolynomialEquationSolver(
+                new PolynomialEquationContextHandler(),
+                new PolynomialBatchEngine(new ForkJoinPool(4), 32, PolynomialBatchEngine.DEFAULT_MAX_ITERATIONS));
+
+        // Act: solve the batch on four threads in chunks of 32.
+        int unconverged = parallel.solveBatch(coefficients, degree, 0, rows, re, im);
+
+        // Assert: every expected root is matched by a computed root.
+        assertEquals(0, unconverged);
+        for (int i = 0; i < rows; i++) {
+            boolean[] used = new boolean[degree];
+            for (int k = 0; k < degree; k++) {
+                int best = -1;
+                double bestDistance = Double.MAX_VALUE;
+                for (int j = 0; j < degree; j++) {
+                    double distance = Math.hypot(re[i * degree + j] - expectedRe[i][k], im[i * degree + j] - expectedIm[i][k]);
+                    if (!used[j] && distance < bestDistance) {
+                        best = j;
+                        bestDistance = distance;
+                    }
+                }
+                used[best] = true;
+                assertEquals(0, bestDistance, 1e-7, "row " + i + ", root " + k);
+            }
+        }
+    }
+
+    @Test
+    void testChainAndBatchAgree() {
+        // Arrange: x^4 - 10x^3 + 35x^2 - 50x + 24 and 2x^3 + 3x^2 + 4x + 5.
+        double[] quartic = {1, -10, 35, -50, 24};
+        double[] cubic = {2, 3, 4, 5};
+
+        // Act: solve each through its chain and as a one-row batch.
+        double[] quarticRe = new double[4];
+        double[] quarticIm = new double[4];
+        solver.solveBatch(quartic, 4, 0, 1, quarticRe, quarticIm);
+        double[] cubicRe = new double[3];
+        double[] cubicIm = new double[3];
+        solver.solveBatch(cubic, 3, 0, 1, cubicRe, cubicIm);
+
+        // Assert: both paths perform the same operations.
+        assertArrayEquals(pack(quarticRe, quarticIm), solver.solve(quartic));
+        assertArrayEquals(pack(cubicRe, cubicIm), solver.solve(cubic));
+    }
+
+    @Test
+    void testInvalidCoefficientsAreRejected() {
+        // Arrange: a zero leading coefficient in the second row, and a non-numeric cubic coefficient.
+        double[] batch = {1, 0, 0, 0, 0, 0, -1, 0, 1, 0, 0, 0, 0, -1};
+
+        // Act & Assert: the validator messages of the quadratic chain.
+        IllegalArgumentException batchError = assertThrows(IllegalArgumentException.class,
+                () -> solver.solveBatch(batch, 6, 0, 2, new double[12], new double[12]));
+        assertEquals("a cannot be zero (row 1)", batchError.getMessage());
+        IllegalArgumentException chainError = assertThrows(IllegalArgumentException.class,
+                () -> solver.solve(1, 0, Double.NaN, 1));
+        assertEquals("c must be a numeric value", chainError.getMessage());
+    }
+
+    private static double[] multiply(double[] p, double[] q) {
+        double[] product = new double[p.length + q.length - 1];
+        for (int i = 0; i < p.length; i++) {
+            for (int j = 0; j < q.length; j++) {
+                product[i + j] += p[i] * q[j];
+            }
+        }
+        return product;
+    }
+
+    private static double[] pack(double[] re, double[] im) {
+        double[] packed = new double[2 * re.length];
+        for (int k = 0; k < re.length; k++) {
+            packed[2 * k] = re[k];
+            packed[2 * k + 1] = im[k];
+        }
+        return packed;
+    }
+}
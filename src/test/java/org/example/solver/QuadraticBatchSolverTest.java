@@ -0,0 +1,290 @@
+package org.example.solver;
+
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolverImpl;
+import org.example.solver.service.batch.ChunkTimings;
+import org.example.solver.service.batch.ParallelQuadraticBatchSolver;
+import org.example.solver.service.batch.QuadraticBatchEngine;
+import org.example.solver.service.batch.ScalarQuadraticBatchEngine;
+import org.example.solver.service.batch.VectorQuadraticBatchEngine;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.service.handler.QuadraticEquationHandler;
+import org.example.solver.service.handler.filter.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuadraticBatchSolverTest {
+
+    QuadraticEquationSolver solver = new QuadraticEquationSolverImpl(new QuadraticEquationHandler(new QuadraticEquationContextHandler(List.of(
+            new AValueValidator(),
+            new BValueValidator(),
+            new CValueValidator(),
+            new DiscriminantCalculator(),
+            new DiscriminantChecker(),
+            new DiscriminantLessZeroChecker(),
+            new QuadraticRootsCalculator(),
+            new SqrtDiscriminantCalculator()
+    ))));
+
+    @Test
+    void testBatchMatchesFilterChain() {
+        // Arrange: a random mix of equations with positive, zero and negative discriminants.
+        int size = 1000;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        fillMixed(a, b, c, new Random(7));
+
+        double[] root1 = new double[size];
+        double[] root2 = new double[size];
+        int[] rootCount = new int[size];
+
+        // Act: solve the whole batch at once.
+        solver.solveBatch(a, b, c, root1, root2, rootCount);
+
+        // Assert: every row has exactly the roots returned by solve().
+        for (int i = 0; i < size; i++) {
+            assertRowMatches(solver.solve(a[i], b[i], c[i]), i, root1, root2, rootCount);
+        }
+    }
+
+    @Test
+    void testBatchSliceLeavesOtherRowsUntouched() {
+        // Arrange: x^2 - 1 = 0, x^2 + 2x + 1 = 0, x^2 + 1 = 0 and one invalid row outside the slice.
+        double[] a = {0, 1, 1, 1, 0};
+        double[] b = {0, 0, 2, 0, 0};
+        double[] c = {0, -1, 1, 1, 0};
+        double[] root1 = {7, 7, 7, 7, 7};
+        double[] root2 = {7, 7, 7, 7, 7};
+        int[] rootCount = {7, 7, 7, 7, 7};
+
+        // Act: solve only rows 1..3.
+        solver.solveBatch(a, b, c, 1, 3, root1, root2, rootCount);
+
+        // Assert: the slice is solved in place, the surrounding rows are not written.
+        assertArrayEquals(new int[]{7, 2, 1, 0, 7}, rootCount);
+        assertArrayEquals(new double[]{7, 1, -1, Double.NaN, 7}, root1);
+        assertArrayEquals(new double[]{7, -1, -1, Double.NaN, 7}, root2);
+    }
+
+    @Test
+    void testBatchRejectsInvalidRow() {
+        // Arrange: the second row has a = 0.
+        double[] a = {1, 0};
+        double[] b = {0, 2};
+        double[] c = {-1, 1};
+
+        // Act & Assert: the batch fails with the same exception type as solve(), naming the row.
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> solver.solveBatch(a, b, c, new double[2], new double[2], new int[2]));
+        assertEquals("a cannot be zero (row 1)", e.getMessage());
+    }
+
+    @Test
+    void testSolverImplementingOnlySolveGetsEveryRealMode() {
+        // Arrange: an implementation written against the original interface, plus the complex mode.
+        QuadraticEquationSolver minimal = new QuadraticEquationSolver() {
+            @Override
+            public double[] solve(double a, double b, double c) {
+                return solver.solve(a, b, c);
+            }
+
+            @Override
+            public int solveComplexInto(double a, double b, double c, double[] roots, int offset) {
+                return solver.solveComplexInto(a, b, c, roots, offset);
+            }
+        };
+        double[] a = {1, 1, 1, 0};
+        double[] b = {-3, 2, 0, 2};
+        double[] c = {2, 1, 1, -4};
+        double[] root1 = new double[4];
+        double[] root2 = new double[4];
+        int[] rootCount = new int[4];
+        int[] status = new int[4];
+        double[] expected1 = new double[4];
+        double[] expected2 = new double[4];
+        int[] expectedCount = new int[4];
+        int[] expectedStatus = new int[4];
+
+        // Act: the status batch, which also goes through solveWithStatus and solveInto.
+        minimal.solveBatch(a, b, c, 0, 4, root1, root2, rootCount, status);
+        solver.solveBatch(a, b, c, 0, 4, expected1, expected2, expectedCount, expectedStatus);
+
+        // Assert: the same rows as the filter chain, and the batch names the invalid row.
+        assertArrayEquals(expected1, root1, 0);
+        assertArrayEquals(expected2, root2, 0);
+        assertArrayEquals(expectedCount, rootCount);
+        assertArrayEquals(expectedStatus, status);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> minimal.solveBatch(a, b, c, new double[4], new double[4], new int[4]));
+        assertEquals("a cannot be zero (row 3)", e.getMessage());
+    }
+
+    @Test
+    void testVectorEngineMatchesScalarEngine() {
+        // Arrange: mixed equations; odd offsets and lengths exercise the scalar tail of the vector loop.
+        int size = 1037;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        fillMixed(a, b, c, new Random(11));
+        // Discriminants right at the EPSILON boundaries
+        a[5] = 1; b[5] = 2.0000000001; c[5] = 1;
+        a[6] = 1; b[6] = 0; c[6] = -2.5e-9;
+        a[7] = 1; b[7] = 0; c[7] = 2.5e-9;
+
+        QuadraticBatchEngine scalar = new ScalarQuadraticBatchEngine();
+        QuadraticBatchEngine vector = new VectorQuadraticBatchEngine();
+
+        for (int offset : new int[]{0, 1, 3}) {
+            int length = size - offset - 2;
+            double[] expected1 = new double[size];
+            double[] expected2 = new double[size];
+            int[] expectedCount = new int[size];
+            double[] actual1 = new double[size];
+            double[] actual2 = new double[size];
+            int[] actualCount = new int[size];
+
+            // Act: solve the same slice with both engines.
+            scalar.solve(a, b, c, offset, length, expected1, expected2, expectedCount);
+            vector.solve(a, b, c, offset, length, actual1, actual2, actualCount);
+
+            // Assert: results are bit-for-bit identical.
+            assertArrayEquals(expectedCount, actualCount);
+            assertArrayEquals(expected1, actual1, 0);
+            assertArrayEquals(expected2, actual2, 0);
+        }
+    }
+
+    @Test
+    void testVectorEngineRejectsInvalidRow() {
+        // Arrange: an invalid row in the middle of a full vector block.
+        int size = 64;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        fillMixed(a, b, c, new Random(3));
+        c[37] = Double.POSITIVE_INFINITY;
+
+        // Act & Assert: the exact row is reported.
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new VectorQuadraticBatchEngine().solve(a, b, c, 0, size,
+                        new double[size], new double[size], new int[size]));
+        assertEquals("c must be a numeric value (row 37)", e.getMessage());
+    }
+
+    @Test
+    void testParallelSolverMatchesSequentialSolver() {
+        // Arrange: enough rows for many small chunks on a dedicated pool.
+        int size = 10_000;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        fillMixed(a, b, c, new Random(5));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelQuadraticBatchSolver parallelSolver =
+                new ParallelQuadraticBatchSolver(new ScalarQuadraticBatchEngine(), pool, 256);
+        int offset = 17;
+        int length = size - offset;
+
+        double[] expected1 = new double[size];
+        double[] expected2 = new double[size];
+        int[] expectedCount = new int[size];
+        double[] actual1 = new double[size];
+        double[] actual2 = new double[size];
+        int[] actualCount = new int[size];
+        ChunkTimings timings = new ChunkTimings(parallelSolver.chunkCount(length));
+
+        try {
+            // Act: solve sequentially and in parallel.
+            solver.solveBatch(a, b, c, offset, length, expected1, expected2, expectedCount);
+            parallelSolver.solve(a, b, c, offset, length, actual1, actual2, actualCount, timings);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Assert: identical output, and every chunk reported its timing.
+        assertArrayEquals(expectedCount, actualCount);
+        assertArrayEquals(expected1, actual1, 0);
+        assertArrayEquals(expected2, actual2, 0);
+        assertEquals(39, timings.chunkCount());
+        for (int chunk = 0; chunk < timings.chunkCount(); chunk++) {
+            assertTrue(timings.chunkNanos(chunk) > 0, "timing of chunk " + chunk);
+        }
+    }
+
+    @Test
+    void testParallelSolverReportsTheLowestInvalidRow() {
+        // Arrange: invalid rows in the first and the last of 8 chunks, and valid rows in between.
+        int size = 2048;
+        double[] a = new double[size];
+        double[] b = new double[size];
+        double[] c = new double[size];
+        fillMixed(a, b, c, new Random(9));
+        a[300] = 0;
+        b[2000] = Double.NaN;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelQuadraticBatchSolver parallelSolver =
+                new ParallelQuadraticBatchSolver(new ScalarQuadraticBatchEngine(), pool, 256);
+        int[] rootCount = new int[size];
+
+        // Act: run the batch several times, so that the chunks finish in different orders.
+        try {
+            for (int run = 0; run < 20; run++) {
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                        () -> parallelSolver.solve(a, b, c, 0, size, new double[size], new double[size], rootCount));
+
+                // Assert: always the row a sequential run reports, and the chunks without invalid rows are solved.
+                assertEquals("a cannot be zero (row 300)", e.getMessage());
+                for (int i = 512; i < 1792; i++) {
+                    assertEquals(solver.solve(a[i], b[i], c[i]).length, rootCount[i], "root count of row " + i);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static void fillMixed(double[] a, double[] b, double[] c, Random random) {
+        for (int i = 0; i < a.length; i++) {
+            double lead = (random.nextInt(9) + 1) * (random.nextBoolean() ? 1 : -1);
+            double r = random.nextInt(19) - 9;
+            switch (random.nextInt(4)) {
+                case 0: // two distinct roots
+                    a[i] = lead;
+                    b[i] = -lead * (2 * r + 3);
+                    c[i] = lead * r * (r + 3);
+                    break;
+                case 1: // double root
+                    a[i] = lead;
+                    b[i] = -2 * lead * r;
+                    c[i] = lead * r * r;
+                    break;
+                case 2: // no real roots
+                    a[i] = lead;
+                    b[i] = -2 * lead * r;
+                    c[i] = lead * (r * r + 1);
+                    break;
+                default: // arbitrary coefficients
+                    a[i] = random.nextGaussian() + 0.5;
+                    b[i] = random.nextGaussian() * 10;
+                    c[i] = random.nextGaussian() * 10;
+            }
+        }
+    }
+
+    static void assertRowMatches(double[] expected, int i, double[] root1, double[] root2, int[] rootCount) {
+        assertEquals(expected.length, rootCount[i], "root count of row " + i);
+        if (expected.length == 0) {
+            assertTrue(Double.isNaN(root1[i]) && Double.isNaN(root2[i]), "NaN roots in row " + i);
+        } else {
+            assertEquals(expected[0], root1[i], 0, "first root of row " + i);
+            assertEquals(expected[expected.length - 1], root2[i], 0, "second root of row " + i);
+        }
+    }
+}
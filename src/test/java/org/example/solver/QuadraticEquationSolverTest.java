@@ -1,30 +1,20 @@
 package org.example.solver;
 
+import org.example.solver.entity.QuadraticEquationContext;
+import org.example.solver.entity.RootResult;
 import org.example.solver.service.QuadraticEquationSolver;
 import org.example.solver.service.QuadraticEquationSolverImpl;
 import org.example.solver.service.handler.QuadraticEquationContextHandler;
 import org.example.solver.service.handler.QuadraticEquationHandler;
-import org.example.solver.service.handler.filter.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 class QuadraticEquationSolverTest {
 
-    QuadraticEquationSolver solver = new QuadraticEquationSolverImpl(new QuadraticEquationHandler(new QuadraticEquationContextHandler(List.of(
-            new AValueValidator(),
-            new BValueValidator(),
-            new CValueValidator(),
-            new DiscriminantCalculator(),
-            new DiscriminantChecker(),
-            new DiscriminantLessZeroChecker(),
-            new QuadraticRootsCalculator(),
-            new SqrtDiscriminantCalculator()
-    ))));
+    QuadraticEquationSolver solver = new QuadraticEquationSolverImpl(new QuadraticEquationHandler(new QuadraticEquationContextHandler()));
 
 //    Написать тест, который проверяет, что для уравнения x^2+1 = 0 корней нет (возвращается пустой массив)
     @Test
@@ -167,4 +157,41 @@ class QuadraticEquationSolverTest {
                 () -> solver.solve(1, 2, Double.NEGATIVE_INFINITY),
                 "Expected IllegalArgumentException for invalid coefficient c");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSolveIntoReusesResultHolder() {
+        // Arrange: one holder reused for equations with two, one and no roots.
+        RootResult result = new RootResult();
+
+        // Act & Assert: every call overwrites the holder with the same roots solve() returns.
+        assertArrayEquals(solver.solve(1, 0, -1), solver.solveInto(1, 0, -1, result).toArray());
+        assertEquals(2, result.getCount());
+        assertArrayEquals(solver.solve(1, 2, 1), solver.solveInto(1, 2, 1, result).toArray());
+        assertEquals(1, result.getCount());
+        assertArrayEquals(solver.solve(1, 0, 1), solver.solveInto(1, 0, 1, result).toArray());
+        assertEquals(0, result.getCount());
+        assertTrue(Double.isNaN(result.getRoot1()));
+
+        // Invalid coefficients are rejected the same way as in solve().
+        assertThrows(IllegalArgumentException.class, () -> solver.solveInto(0, 2, 1, result));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testDeprecatedSetRootsFillsTheRootFields() {
+        // Arrange
+        QuadraticEquationContext context = new QuadraticEquationContext();
+
+        // Act & Assert: the array setter round-trips through the primitive fields.
+        context.setRoots(new double[]{2, 1});
+        assertEquals(2, context.getRootCount());
+        assertArrayEquals(new double[]{2, 1}, context.getRoots());
+        context.setRoots(new double[]{-1});
+        assertEquals(-1, context.getRoot2());
+        context.setRoots(new double[0]);
+        assertArrayEquals(new double[0], context.getRoots());
+        context.setRoots(null);
+        assertNull(context.getRoots());
+        assertThrows(IllegalArgumentException.class, () -> context.setRoots(new double[3]));
+    }
+}
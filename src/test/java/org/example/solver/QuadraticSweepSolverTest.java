@@ -0,0 +1,139 @@
+package org.example.solver;
+
+import org.example.solver.math.QuadraticMath;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.example.solver.service.sweep.QuadraticSweepSolver;
+import org.example.solver.service.sweep.SweepCrossing;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuadraticSweepSolverTest {
+
+    private final QuadraticSweepSolver sweepSolver = new QuadraticSweepSolver();
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+
+    @Test
+    void testSweepOverCMatchesBatch() {
+        // Arrange: 2x^2 - 3x + c for c from -5 to 5, crossing the double root at c = 9/8.
+        int n = 1001;
+        double[] c = new double[n];
+        for (int i = 0; i < n; i++) {
+            c[i] = -5 + i * 0.01;
+        }
+        double[] a = filled(n, 2);
+        double[] b = filled(n, -3);
+
+        // Act: sweep over the array and over the equivalent range, and solve the same rows as a batch.
+        double[] root1 = new double[n];
+        double[] root2 = new double[n];
+        int[] rootCount = new int[n];
+        sweepSolver.sweepC(2, -3, c, 0, n, root1, root2, rootCount);
+        double[] rangeRoot1 = new double[n];
+        double[] rangeRoot2 = new double[n];
+        int[] rangeCount = new int[n];
+        sweepSolver.sweepCRange(2, -3, -5, 0.01, n, rangeRoot1, rangeRoot2, rangeCount);
+        double[] batchRoot1 = new double[n];
+        double[] batchRoot2 = new double[n];
+        int[] batchCount = new int[n];
+        solver.solveBatch(a, b, c, batchRoot1, batchRoot2, batchCount);
+
+        // Assert: the same counts, roots within rounding of the division.
+        assertArrayEquals(batchCount, rootCount);
+        assertArrayEquals(batchCount, rangeCount);
+        assertArrayEquals(batchRoot1, root1, 1e-12);
+        assertArrayEquals(batchRoot2, root2, 1e-12);
+        assertArrayEquals(root1, rangeRoot1, 0);
+    }
+
+    @Test
+    void testSweepOverBMatchesBatch() {
+        // Arrange: x^2 + b x + 1 for b from -3 to 3, with double roots at b = ±2.
+        int n = 601;
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = -3 + i * 0.01;
+        }
+
+        // Act
+        double[] root1 = new double[n];
+        double[] root2 = new double[n];
+        int[] rootCount = new int[n];
+        sweepSolver.sweepB(1, b, 1, 0, n, root1, root2, rootCount);
+        double[] batchRoot1 = new double[n];
+        double[] batchRoot2 = new double[n];
+        int[] batchCount = new int[n];
+        solver.solveBatch(filled(n, 1), b, filled(n, 1), batchRoot1, batchRoot2, batchCount);
+
+        // Assert
+        assertArrayEquals(batchCount, rootCount);
+        assertArrayEquals(batchRoot1, root1, 1e-12);
+        assertArrayEquals(batchRoot2, root2, 1e-12);
+    }
+
+    @Test
+    void testCrossingsOverC() {
+        // Arrange: x^2 - 2x + c has a double root at c = 1; -x^2 + 2x + c at c = -1.
+
+        // Act
+        List<SweepCrossing> upward = QuadraticSweepSolver.crossingsOverC(1, -2);
+        List<SweepCrossing> downward = QuadraticSweepSolver.crossingsOverC(-1, 2);
+
+        // Assert: the EPSILON band around the double root, with the counts on either side.
+        assertEquals(List.of(
+                new SweepCrossing((4 - QuadraticMath.EPSILON) / 4, 2, 1),
+                new SweepCrossing((4 + QuadraticMath.EPSILON) / 4, 1, 0)), upward);
+        assertEquals(List.of(
+                new SweepCrossing((4 + QuadraticMath.EPSILON) / -4, 0, 1),
+                new SweepCrossing((4 - QuadraticMath.EPSILON) / -4, 1, 2)), downward);
+        for (SweepCrossing crossing : upward) {
+            assertEquals(crossing.getCountBelow(), solver.solve(1, -2, Math.nextDown(crossing.getValue())).length);
+            assertEquals(crossing.getCountAbove(), solver.solve(1, -2, Math.nextUp(crossing.getValue())).length);
+        }
+    }
+
+    @Test
+    void testRangeReportsCrossingsInsideTheRange() {
+        // Arrange: x^2 + b x + 1 over b in [0, 3] and over b in [-3, 3].
+        int[] rootCount = new int[601];
+        double[] root1 = new double[601];
+        double[] root2 = new double[601];
+
+        // Act
+        List<SweepCrossing> half = sweepSolver.sweepBRange(1, 0, 0.01, 301, 1, root1, root2, rootCount);
+        List<SweepCrossing> full = sweepSolver.sweepBRange(1, -3, 0.01, 601, 1, root1, root2, rootCount);
+
+        // Assert: the crossings near 2 on the positive side only, all four over the full range.
+        assertEquals(2, half.size());
+        assertEquals(0, half.get(0).getCountBelow());
+        assertEquals(2, half.get(1).getCountAbove());
+        assertEquals(2, half.get(1).getValue(), 1e-8);
+        assertEquals(4, full.size());
+        assertEquals(List.of(), QuadraticSweepSolver.crossingsOverB(1, -1));
+    }
+
+    @Test
+    void testInvalidSweepValuesAreRejected() {
+        // Arrange: a NaN in the third c.
+        double[] c = {1, 2, Double.NaN};
+        double[] out = new double[3];
+
+        // Act & Assert: the validator messages with the row index.
+        IllegalArgumentException rowError = assertThrows(IllegalArgumentException.class,
+                () -> sweepSolver.sweepC(1, 0, c, 0, 3, out, out, new int[3]));
+        assertEquals("c must be a numeric value (row 2)", rowError.getMessage());
+        IllegalArgumentException fixedError = assertThrows(IllegalArgumentException.class,
+                () -> sweepSolver.sweepB(0, new double[]{1}, 1, 0, 1, out, out, new int[3]));
+        assertEquals("a cannot be zero", fixedError.getMessage());
+    }
+
+    private static double[] filled(int n, double value) {
+        double[] values = new double[n];
+        Arrays.fill(values, value);
+        return values;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.solver;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.enums.DiscriminantClass;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.example.solver.service.query.QuadraticQuerySolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RootQueriesTest {
+
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+    private final QuadraticQuerySolver queries = new QuadraticQuerySolver();
+
+    @Test
+    void testCountsMatchSolve() {
+        // Arrange: random small integer coefficients, covering all discriminant classes.
+        Random random = new Random(22);
+        RootResult result = new RootResult();
+
+        for (int i = 0; i < 10_000; i++) {
+            double a = random.nextInt(2) == 0 ? -1 - random.nextInt(3) : 1 + random.nextInt(3);
+            double b = random.nextInt(21) - 10;
+            double c = random.nextInt(21) - 10;
+
+            // Act
+            int count = queries.countRoots(a, b, c);
+
+            // Assert: the same count as the filter chain.
+            assertEquals(solver.solveInto(a, b, c, result).getCount(), count);
+        }
+        assertEquals(DiscriminantClass.ZERO, queries.classify(1, 2, 1));
+        assertEquals(DiscriminantClass.NEGATIVE, queries.classify(1, 0, 1));
+    }
+
+    @Test
+    void testIntervalCountsMatchRoots() {
+        // Arrange: a (x - r1)(x - r2) with integer roots, and integer interval ends that often hit a root.
+        Random random = new Random(23);
+        RootResult result = new RootResult();
+
+        for (int i = 0; i < 10_000; i++) {
+            double a = random.nextInt(2) == 0 ? -1 - random.nextInt(3) : 1 + random.nextInt(3);
+            int r1 = random.nextInt(11) - 5;
+            int r2 = random.nextInt(11) - 5;
+            double b = -a * (r1 + r2);
+            double c = a * r1 * r2;
+            double lo = random.nextInt(13) - 6;
+            double hi = lo + random.nextInt(8);
+
+            // Act
+            int inside = queries.countRootsIn(a, b, c, lo, hi);
+
+            // Assert: the roots of solveInto that lie in [lo, hi].
+            int expected = 0;
+            for (double root : solver.solveInto(a, b, c, result).toArray()) {
+                if (root >= lo && root <= hi) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, inside, "roots " + r1 + ", " + r2 + " in [" + lo + ", " + hi + "]");
+            assertEquals(expected > 0, queries.hasRootIn(a, b, c, lo, hi));
+        }
+    }
+
+    @Test
+    void testBatchQueries() {
+        // Arrange: (x - 1)(x - 3), (x - 2)^2, x^2 + 1, and -(x + 1)(x - 1).
+        double[] a = {1, 1, 1, -1};
+        double[] b = {-4, -4, 0, 0};
+        double[] c = {3, 4, 1, 1};
+        int[] counts = new int[4];
+        int[] inside = new int[4];
+
+        // Act: all roots, then the roots in [0, 2] and in an unbounded interval.
+        queries.countRootsBatch(a, b, c, 0, 4, counts);
+        int rows = queries.countRootsInBatch(a, b, c, 0, 2, 0, 4, inside);
+        int[] unbounded = new int[4];
+        queries.countRootsInBatch(a, b, c, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 4, unbounded);
+
+        // Assert
+        assertArrayEquals(new int[]{2, 1, 0, 2}, counts);
+        assertArrayEquals(new int[]{1, 1, 0, 1}, inside);
+        assertEquals(3, rows);
+        assertArrayEquals(counts, unbounded);
+    }
+
+    @Test
+    void testInvalidQueriesAreRejected() {
+        // Arrange & Act & Assert: swapped interval ends, and the validator message with the row.
+        assertThrows(IllegalArgumentException.class, () -> queries.countRootsIn(1, 0, -1, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> queries.hasRootIn(1, 0, -1, Double.NaN, 1));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> queries.countRootsBatch(new double[]{1, 1}, new double[]{0, Double.NaN}, new double[]{0, 0},
+                        0, 2, new int[2]));
+        assertEquals("b must be a numeric value (row 1)", e.getMessage());
+    }
+}
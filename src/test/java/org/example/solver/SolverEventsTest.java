@@ -0,0 +1,77 @@
+package org.example.solver;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.solver.entity.RootResult;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolverImpl;
+import org.example.solver.service.handler.QuadraticEquationContextHandler;
+import org.example.solver.service.handler.QuadraticEquationHandler;
+import org.example.solver.service.handler.filter.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverEventsTest {
+
+    QuadraticEquationSolver solver = new QuadraticEquationSolverImpl(new QuadraticEquationHandler(new QuadraticEquationContextHandler(List.of(
+            new AValueValidator(),
+            new BValueValidator(),
+            new CValueValidator(),
+            new DiscriminantCalculator(),
+            new DiscriminantChecker(),
+            new DiscriminantLessZeroChecker(),
+            new QuadraticRootsCalculator(),
+            new SqrtDiscriminantCalculator()
+    ))));
+
+    @Test
+    void testEventsAreRecordedWhileRecording() throws IOException {
+        // Arrange: a recording with every solver event enabled and no threshold.
+        Path dump = Files.createTempFile("solver", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.solver.QuadraticSolve").withThreshold(Duration.ZERO);
+            recording.enable("org.example.solver.ContextHandle").withThreshold(Duration.ZERO);
+            recording.enable("org.example.solver.ContextFilter").withThreshold(Duration.ZERO);
+            recording.start();
+
+            // Act: solve x^2 - 1 = 0 through both single-call entry points.
+            solver.solve(1, 0, -1);
+            solver.solveInto(1, 0, -1, new RootResult());
+
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        // Assert: two solve events, two pipeline events and the filter stages of both calls.
+        List<RecordedEvent> solves = ofType(events, "org.example.solver.QuadraticSolve");
+        assertEquals(2, solves.size());
+        assertEquals("POSITIVE", solves.get(0).getString("discriminantClass"));
+        assertEquals(2, solves.get(0).getInt("rootCount"));
+        assertEquals(2, ofType(events, "org.example.solver.ContextHandle").size());
+
+        List<RecordedEvent> filters = ofType(events, "org.example.solver.ContextFilter");
+        // Seven stages per call: the square root stage is eliminated
+        assertEquals(14, filters.size());
+        assertTrue(filters.stream().anyMatch(e -> "QuadraticRootsCalculator".equals(e.getString("filterName"))
+                && e.getBoolean("applied")));
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
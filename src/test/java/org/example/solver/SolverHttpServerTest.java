@@ -0,0 +1,142 @@
+package org.example.solver;
+
+import org.example.solver.http.LoadTestReport;
+import org.example.solver.http.SolverHttpServer;
+import org.example.solver.http.SolverLoadTest;
+import org.example.solver.io.BinaryRecordFormat;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverHttpServerTest {
+
+    private SolverHttpServer server;
+    private URI baseUri;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new SolverHttpServer(QuadraticEquationSolvers.create(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        baseUri = URI.create("http://localhost:" + server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testSolveEndpoint() throws Exception {
+        // Act: solve x^2 - 3x + 2 = 0 and an equation with a = 0.
+        HttpResponse<String> solved = get("/solve?a=1&b=-3&c=2");
+        HttpResponse<String> rejected = get("/solve?a=0&b=1&c=1");
+
+        // Assert: roots as JSON, validator message as a 400.
+        assertEquals(200, solved.statusCode());
+        assertEquals("{\"count\":2,\"roots\":[2.0,1.0]}", solved.body());
+        assertEquals(400, rejected.statusCode());
+        assertEquals("{\"error\":\"a cannot be zero\"}", rejected.body());
+    }
+
+    @Test
+    void testBatchEndpoint() throws Exception {
+        // Arrange: (x - 1)(x - 2), (x + 1)^2 and x^2 + 1 as binary records.
+        double[][] equations = {{1, -3, 2}, {1, 2, 1}, {1, 0, 1}};
+        ByteBuffer body = ByteBuffer.allocate(equations.length * BinaryRecordFormat.INPUT_RECORD_BYTES)
+                .order(BinaryRecordFormat.BYTE_ORDER);
+        for (double[] equation : equations) {
+            body.putDouble(equation[0]).putDouble(equation[1]).putDouble(equation[2]);
+        }
+
+        // Act: post the batch.
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(baseUri.resolve(SolverHttpServer.BATCH_PATH))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body.array())).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // Assert: one output record per equation.
+        assertEquals(200, response.statusCode());
+        ByteBuffer output = ByteBuffer.wrap(response.body()).order(BinaryRecordFormat.BYTE_ORDER);
+        assertEquals(equations.length * BinaryRecordFormat.OUTPUT_RECORD_BYTES, output.capacity());
+        int[] counts = {2, 1, 0};
+        double[] roots1 = {2, -1, Double.NaN};
+        for (int i = 0; i < equations.length; i++) {
+            int position = i * BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+            assertEquals(counts[i], output.getInt(position + BinaryRecordFormat.COUNT_OFFSET));
+            assertEquals(roots1[i], output.getDouble(position + BinaryRecordFormat.ROOT1_OFFSET), 1e-12);
+        }
+    }
+
+    @Test
+    void testBatchRowsCarryTheirStatus() throws Exception {
+        // Arrange: a valid row, a linear row and a NaN row.
+        double[][] equations = {{1, -3, 2}, {0, 2, -4}, {1, Double.NaN, 1}};
+        ByteBuffer body = ByteBuffer.allocate(equations.length * BinaryRecordFormat.INPUT_RECORD_BYTES)
+                .order(BinaryRecordFormat.BYTE_ORDER);
+        for (double[] equation : equations) {
+            body.putDouble(equation[0]).putDouble(equation[1]).putDouble(equation[2]);
+        }
+
+        // Act: post the batch, and the same body to a path below the batch path.
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(baseUri.resolve(SolverHttpServer.BATCH_PATH))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body.array())).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> unknown = client.send(HttpRequest.newBuilder(baseUri.resolve(SolverHttpServer.BATCH_PATH + "/x"))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body.array())).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // Assert: the valid row is kept and the invalid rows carry their status.
+        assertEquals(200, response.statusCode());
+        assertEquals(404, unknown.statusCode());
+        ByteBuffer output = ByteBuffer.wrap(response.body()).order(BinaryRecordFormat.BYTE_ORDER);
+        int[] statuses = {0, CoefficientStatus.A_ZERO, CoefficientStatus.B_NAN};
+        int[] counts = {2, 1, 0};
+        for (int i = 0; i < equations.length; i++) {
+            int position = i * BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+            assertEquals(statuses[i], output.getInt(position + BinaryRecordFormat.STATUS_OFFSET));
+            assertEquals(counts[i], output.getInt(position + BinaryRecordFormat.COUNT_OFFSET));
+        }
+        assertEquals(2, output.getDouble(BinaryRecordFormat.OUTPUT_RECORD_BYTES + BinaryRecordFormat.ROOT1_OFFSET), 0);
+    }
+
+    @Test
+    void testDiagnosticsAreNotBoundByDefault() throws Exception {
+        // Act: the server of this test was created without diagnostics.
+        HttpResponse<String> metrics = get(SolverHttpServer.METRICS_PATH);
+        HttpResponse<String> trace = get(SolverHttpServer.TRACE_PATH);
+
+        // Assert
+        assertEquals(404, metrics.statusCode());
+        assertEquals(404, trace.statusCode());
+    }
+
+    @Test
+    void testLoadTestReportsEveryRequest() throws Exception {
+        // Act: a short run against the embedded server.
+        LoadTestReport report = new SolverLoadTest(baseUri, 2, 200).run();
+
+        // Assert: no errors and ordered percentiles.
+        assertEquals(200, report.getRequests());
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getP50Nanos() <= report.getP99Nanos());
+        assertTrue(report.getP99Nanos() <= report.getMaxNanos());
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return client.send(HttpRequest.newBuilder(baseUri.resolve(pathAndQuery)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
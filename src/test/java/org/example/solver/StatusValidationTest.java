@@ -0,0 +1,127 @@
+package org.example.solver;
+
+import org.example.solver.entity.RootResult;
+import org.example.solver.io.BinaryRecordFormat;
+import org.example.solver.io.ByteBufferBatchSolver;
+import org.example.solver.math.CoefficientStatus;
+import org.example.solver.service.QuadraticEquationSolver;
+import org.example.solver.service.QuadraticEquationSolvers;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.example.solver.math.CoefficientStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusValidationTest {
+
+    private final QuadraticEquationSolver solver = QuadraticEquationSolvers.create();
+
+    // x^2 - 1, 2x - 4 (a = 0), NaN b, infinite a and c, 0x^2 + 0x + 1, x^2 + 2x + 1
+    private final double[] a = {1, 0, 1, Double.POSITIVE_INFINITY, 0, 1};
+    private final double[] b = {0, 2, Double.NaN, 1, 0, 2};
+    private final double[] c = {-1, -4, 1, Double.NEGATIVE_INFINITY, 1, 1};
+    private final int[] expectedStatus = {0, A_ZERO, B_NAN, A_INFINITE | C_INFINITE, A_ZERO | B_ZERO, 0};
+
+    @Test
+    void testChainReportsStatusInsteadOfThrowing() {
+        // Arrange: one reusable holder.
+        RootResult result = new RootResult();
+
+        // Act & Assert: every row is solved or reported without an exception.
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(expectedStatus[i], solver.solveWithStatus(a[i], b[i], c[i], result), "row " + i);
+            assertEquals(CoefficientStatus.of(a[i], b[i], c[i]), expectedStatus[i], "row " + i);
+        }
+
+        // Assert: the linear row has its single root, the throwing path is unchanged.
+        solver.solveWithStatus(0, 2, -4, result);
+        assertEquals(1, result.getCount());
+        assertEquals(2, result.getRoot1(), 0);
+        assertEquals(2, result.getRoot2(), 0);
+        assertThrows(IllegalArgumentException.class, () -> solver.solveInto(0, 2, -4, new RootResult()));
+    }
+
+    @Test
+    void testBatchWritesStatusArray() {
+        // Arrange: one output array per column, plus the status array.
+        int n = a.length;
+        double[] root1 = new double[n];
+        double[] root2 = new double[n];
+        int[] rootCount = new int[n];
+        int[] status = new int[n];
+
+        // Act
+        solver.solveBatch(a, b, c, 0, n, root1, root2, rootCount, status);
+
+        // Assert: statuses, and roots agreeing with the chain in status mode.
+        assertArrayEquals(expectedStatus, status);
+        RootResult result = new RootResult();
+        for (int i = 0; i < n; i++) {
+            solver.solveWithStatus(a[i], b[i], c[i], result);
+            assertEquals(result.getCount(), rootCount[i], "row " + i);
+            assertEquals(result.getRoot1(), root1[i], 0, "row " + i);
+            assertEquals(result.getRoot2(), root2[i], 0, "row " + i);
+        }
+        assertArrayEquals(new int[]{2, 1, 0, 0, 0, 1}, rootCount);
+    }
+
+    @Test
+    void testMessagesMatchTheThrowingValidators() {
+        // Arrange & Act & Assert: the first failing check, in validator order.
+        assertNull(CoefficientStatus.message(0));
+        assertEquals("a cannot be zero", CoefficientStatus.message(A_ZERO | C_NAN));
+        assertEquals("a must be a numeric value", CoefficientStatus.message(A_NAN | B_INFINITE));
+        assertEquals("b must be a numeric value", CoefficientStatus.message(B_NAN));
+        assertEquals("c must be a numeric value", CoefficientStatus.message(C_INFINITE));
+        assertTrue(CoefficientStatus.isSolvable(A_ZERO));
+        assertFalse(CoefficientStatus.isSolvable(A_ZERO | B_ZERO));
+    }
+
+    @Test
+    void testThrowingEntryPointsShareTheStatusMessage() {
+        // Arrange: every invalid row, alone in a batch.
+        for (int i = 1; i < a.length - 1; i++) {
+            double[] ai = {a[i]};
+            double[] bi = {b[i]};
+            double[] ci = {c[i]};
+            String message = CoefficientStatus.message(expectedStatus[i]);
+
+            // Act
+            IllegalArgumentException chain = assertThrows(IllegalArgumentException.class,
+                    () -> solver.solve(ai[0], bi[0], ci[0]));
+            IllegalArgumentException validate = assertThrows(IllegalArgumentException.class,
+                    () -> CoefficientStatus.validate(ai[0], bi[0], ci[0]));
+            IllegalArgumentException batch = assertThrows(IllegalArgumentException.class,
+                    () -> solver.solveBatch(ai, bi, ci, 0, 1, new double[1], new double[1], new int[1]));
+
+            // Assert: the filter chain, the shared check and the batch path agree.
+            assertEquals(message, chain.getMessage());
+            assertEquals(message, validate.getMessage());
+            assertEquals(message + " (row 0)", batch.getMessage());
+        }
+    }
+
+    @Test
+    void testArrayOfStructsRecordsCarryStatus() {
+        // Arrange: AOS records in the binary format, reporting status.
+        ByteBufferBatchSolver batchSolver = ByteBufferBatchSolver.builder().reportStatus(true).build();
+        int n = a.length;
+        ByteBuffer in = ByteBuffer.allocate((int) batchSolver.inputBytes(n)).order(BinaryRecordFormat.BYTE_ORDER);
+        for (int i = 0; i < n; i++) {
+            in.putDouble(a[i]).putDouble(b[i]).putDouble(c[i]);
+        }
+        in.flip();
+        ByteBuffer out = ByteBuffer.allocate((int) batchSolver.outputBytes(n)).order(BinaryRecordFormat.BYTE_ORDER);
+
+        // Act
+        batchSolver.solve(in, out, n);
+
+        // Assert: the status field of every record.
+        for (int i = 0; i < n; i++) {
+            int position = i * BinaryRecordFormat.OUTPUT_RECORD_BYTES;
+            assertEquals(expectedStatus[i], out.getInt(position + BinaryRecordFormat.STATUS_OFFSET), "row " + i);
+        }
+        assertEquals(2.0, out.getDouble(BinaryRecordFormat.OUTPUT_RECORD_BYTES + BinaryRecordFormat.ROOT1_OFFSET), 0);
+    }
+}